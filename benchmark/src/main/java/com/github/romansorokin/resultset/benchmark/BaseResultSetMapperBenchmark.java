@@ -0,0 +1,87 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Per-row cost of {@link com.github.romansorokin.resultset.mapper.BaseResultSetMapper}
+ * against the per-row metadata lookups it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaseResultSetMapperBenchmark {
+    private static final int ROWS = 10_000;
+
+    private StubResultSet rs;
+    private ResultSetMapper<BenchmarkEntity> legacyMapper;
+    private ResultSetMapper<BenchmarkEntity> planMapper;
+
+    @Setup
+    public void setup() {
+        rs = new StubResultSet(BenchmarkEntity.COLUMN_NAMES, BenchmarkEntity.COLUMN_TYPES, BenchmarkEntity.rows(ROWS));
+        legacyMapper = new LegacyResultSetMapperFactory().getMapper(BenchmarkEntity.class, BenchmarkEntity::new);
+        planMapper = ResultSetMapperUtils.getMapper(BenchmarkEntity.class, BenchmarkEntity::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void legacyPerRowLookup(Blackhole bh) throws SQLException {
+        mapNext(legacyMapper, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void columnIndexPlan(Blackhole bh) throws SQLException {
+        map(planMapper, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void columnIndexPlanMapNext(Blackhole bh) throws SQLException {
+        mapNext(planMapper, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void columnIndexPlanReusing(Blackhole bh) throws SQLException {
+        rs.reset();
+        planMapper.forEachReusing(rs, bh::consume);
+    }
+
+    private void mapNext(ResultSetMapper<BenchmarkEntity> mapper, Blackhole bh) throws SQLException {
+        rs.reset();
+        Consumer<BenchmarkEntity> sink = bh::consume;
+        while (mapper.mapNext(rs, sink)) {
+        }
+    }
+
+    private void map(ResultSetMapper<BenchmarkEntity> mapper, Blackhole bh) throws SQLException {
+        rs.reset();
+        Optional<BenchmarkEntity> entity = mapper.map(rs);
+        while (entity.isPresent()) {
+            bh.consume(entity.get());
+            entity = mapper.map(rs);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.UUID;
+
+@ResultSetType(ignoreCase = true, mapAllFields = true)
+public class BenchmarkEntity {
+    public static final String[] COLUMN_NAMES = {"ID", "NAME", "COUNT", "AMOUNT", "PRICE", "ACTIVE", "DATA", "COMMENT"};
+    public static final int[] COLUMN_TYPES = {Types.OTHER, Types.VARCHAR, Types.INTEGER, Types.BIGINT, Types.DOUBLE, Types.BOOLEAN, Types.VARBINARY, Types.VARCHAR};
+    public static final String[] COLUMN_DEFINITIONS = {"uuid", "varchar", "int", "bigint", "double", "boolean", "varbinary", "varchar"};
+
+    UUID id;
+    String name;
+    int count;
+    long amount;
+    double price;
+    boolean active;
+    byte[] data;
+
+    public static BenchmarkTable table(BenchmarkTable.Source source, int rows) throws SQLException {
+        return new BenchmarkTable(source, COLUMN_NAMES, COLUMN_TYPES, COLUMN_DEFINITIONS, rows(rows));
+    }
+
+    public static Object[][] rows(int count) {
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++)
+            rows[i] = new Object[]{UUID.randomUUID(), "name-" + i, i, i * 1000L, i / 3.0, i % 2 == 0, new byte[]{(byte) i}, "not-mapped"};
+        return rows;
+    }
+}
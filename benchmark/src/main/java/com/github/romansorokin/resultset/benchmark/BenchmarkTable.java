@@ -0,0 +1,71 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * The same rows read from {@link StubResultSet} or from an H2 in-memory table,
+ * so JDBC driver cost can be separated from mapper cost.
+ */
+public class BenchmarkTable implements AutoCloseable {
+    public enum Source {
+        STUB, H2
+    }
+
+    private final StubResultSet stub;
+    private final Connection connection;
+    private final PreparedStatement select;
+
+    /**
+     * @param columnDefinitions H2 column types, like {@code varchar}
+     */
+    public BenchmarkTable(Source source, String[] columnNames, int[] columnTypes, String[] columnDefinitions, Object[][] rows) throws SQLException {
+        if (source == Source.STUB) {
+            this.stub = new StubResultSet(columnNames, columnTypes, rows);
+            this.connection = null;
+            this.select = null;
+            return;
+        }
+        this.stub = null;
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:benchmark-" + UUID.randomUUID());
+        StringBuilder create = new StringBuilder("create table benchmark (");
+        StringBuilder insert = new StringBuilder("insert into benchmark values (");
+        for (int i = 0; i < columnNames.length; i++) {
+            String separator = i == 0 ? "" : ", ";
+            create.append(separator).append('"').append(columnNames[i]).append("\" ").append(columnDefinitions[i]);
+            insert.append(separator).append('?');
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(create.append(')').toString());
+        }
+        try (PreparedStatement statement = connection.prepareStatement(insert.append(')').toString())) {
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++)
+                    statement.setObject(i + 1, row[i]);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        this.select = connection.prepareStatement("select * from benchmark");
+    }
+
+    /**
+     * @return result-set positioned before the first row, the previous one is closed
+     */
+    public ResultSet open() throws SQLException {
+        if (stub != null)
+            return stub.reset();
+        return select.executeQuery();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (connection != null)
+            connection.close();
+    }
+}
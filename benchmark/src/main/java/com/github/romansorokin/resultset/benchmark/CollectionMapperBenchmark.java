@@ -0,0 +1,75 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rows per second of the collection mappers and the stream of {@link ResultSetMapperUtils}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionMapperBenchmark {
+    private static final int ROWS = 10_000;
+
+    @Param
+    public BenchmarkTable.Source source;
+
+    private BenchmarkTable table;
+    private ResultSetMapper<BenchmarkEntity> mapper;
+    private ResultSetMapper<List<BenchmarkEntity>> listMapper;
+    private ResultSetMapper<Set<BenchmarkEntity>> setMapper;
+
+    @Setup
+    public void setup() throws SQLException {
+        table = BenchmarkEntity.table(source, ROWS);
+        mapper = ResultSetMapperUtils.getMapper(BenchmarkEntity.class, BenchmarkEntity::new);
+        listMapper = ResultSetMapperUtils.getListMapper(mapper);
+        setMapper = ResultSetMapperUtils.getSetMapper(mapper);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        table.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<BenchmarkEntity> listMapper() throws SQLException {
+        return listMapper.map(table.open()).orElseThrow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Set<BenchmarkEntity> setMapper() throws SQLException {
+        return setMapper.map(table.open()).orElseThrow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<BenchmarkEntity> stream() throws SQLException {
+        return ResultSetMapperUtils.stream(table.open(), mapper).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Rows per second of {@link com.github.romansorokin.resultset.mapper.BaseResultSetMapper} by the type of one mapped column.
+ * DECIMAL and LOCAL_DATE are read by the {@link ResultSet#getObject(int, Class)} fallback.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnTypeBenchmark {
+    private static final int ROWS = 10_000;
+
+    public enum Status {
+        NEW, ACTIVE, CLOSED
+    }
+
+    public enum ColumnType {
+        INT(Types.INTEGER, "int", IntEntity::new, i -> i),
+        LONG(Types.BIGINT, "bigint", LongEntity::new, i -> i * 1000L),
+        DOUBLE(Types.DOUBLE, "double", DoubleEntity::new, i -> i / 3.0),
+        BOOLEAN(Types.BOOLEAN, "boolean", BooleanEntity::new, i -> i % 2 == 0),
+        STRING(Types.VARCHAR, "varchar", StringEntity::new, i -> "value-" + i),
+        ENUM(Types.VARCHAR, "varchar", EnumEntity::new, i -> Status.values()[i % 3].name()),
+        DECIMAL(Types.DECIMAL, "decimal(20, 2)", DecimalEntity::new, i -> BigDecimal.valueOf(i, 2)),
+        LOCAL_DATE(Types.DATE, "date", LocalDateEntity::new, i -> LocalDate.ofEpochDay(i));
+
+        private final int sqlType;
+        private final String definition;
+        private final Supplier<?> supplier;
+        private final IntFunction<Object> value;
+
+        ColumnType(int sqlType, String definition, Supplier<?> supplier, IntFunction<Object> value) {
+            this.sqlType = sqlType;
+            this.definition = definition;
+            this.supplier = supplier;
+            this.value = value;
+        }
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    public static class IntEntity {
+        int value;
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    public static class LongEntity {
+        long value;
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    public static class DoubleEntity {
+        double value;
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    public static class BooleanEntity {
+        boolean value;
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    public static class StringEntity {
+        String value;
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    public static class EnumEntity {
+        Status value;
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    public static class DecimalEntity {
+        BigDecimal value;
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    public static class LocalDateEntity {
+        LocalDate value;
+    }
+
+    @Param
+    public ColumnType type;
+    @Param
+    public BenchmarkTable.Source source;
+
+    private BenchmarkTable table;
+    private ResultSetMapper<Object> mapper;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws SQLException {
+        Object[][] rows = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++)
+            rows[i] = new Object[]{type.value.apply(i)};
+        table = new BenchmarkTable(source, new String[]{"VALUE"}, new int[]{type.sqlType}, new String[]{type.definition}, rows);
+        Supplier<Object> supplier = (Supplier<Object>) type.supplier;
+        Class<Object> entity = (Class<Object>) supplier.get().getClass();
+        mapper = ResultSetMapperUtils.getMapper(entity, supplier);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        table.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void map(Blackhole bh) throws SQLException {
+        ResultSet rs = table.open();
+        Consumer<Object> sink = bh::consume;
+        while (mapper.mapNext(rs, sink)) {
+        }
+    }
+}
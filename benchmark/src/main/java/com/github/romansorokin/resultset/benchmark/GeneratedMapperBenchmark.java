@@ -0,0 +1,81 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.field.ResultSetFieldAccess;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping throughput of {@link WideEntity} by the generated row mappers of {@link ResultSetFieldAccess#GENERATED}
+ * against the loops over field mappers, rows per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratedMapperBenchmark {
+    private static final int ROWS = 10_000;
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true, access = ResultSetFieldAccess.REFLECTION)
+    public static class ReflectionEntity extends WideEntity {}
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true, access = ResultSetFieldAccess.VAR_HANDLE)
+    public static class VarHandleEntity extends WideEntity {}
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true, access = ResultSetFieldAccess.GENERATED)
+    public static class GeneratedEntity extends WideEntity {}
+
+    private StubResultSet rs;
+    private ResultSetMapper<ReflectionEntity> reflectionMapper;
+    private ResultSetMapper<VarHandleEntity> varHandleMapper;
+    private ResultSetMapper<GeneratedEntity> generatedMapper;
+
+    @Setup
+    public void setup() {
+        rs = new StubResultSet(WideEntity.COLUMN_NAMES, WideEntity.COLUMN_TYPES, WideEntity.rows(ROWS));
+        reflectionMapper = ResultSetMapperUtils.getMapper(ReflectionEntity.class, ReflectionEntity::new);
+        varHandleMapper = ResultSetMapperUtils.getMapper(VarHandleEntity.class, VarHandleEntity::new);
+        generatedMapper = ResultSetMapperUtils.getMapper(GeneratedEntity.class, GeneratedEntity::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void reflection(Blackhole bh) throws SQLException {
+        map(reflectionMapper, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void varHandle(Blackhole bh) throws SQLException {
+        map(varHandleMapper, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void generated(Blackhole bh) throws SQLException {
+        map(generatedMapper, bh);
+    }
+
+    private <T> void map(ResultSetMapper<T> mapper, Blackhole bh) throws SQLException {
+        rs.reset();
+        while (mapper.mapNext(rs, bh::consume)) {
+        }
+    }
+}
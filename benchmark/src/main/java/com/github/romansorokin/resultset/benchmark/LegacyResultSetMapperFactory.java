@@ -0,0 +1,36 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.ResultSetMapperFactoryUtils;
+import com.github.romansorokin.resultset.field.ResultSetFieldMapper;
+import com.github.romansorokin.resultset.mapper.BaseResultSetMapperFactory;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import java.sql.ResultSetMetaData;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Mapper with per-row metadata and column name lookups, the baseline for plan based mapping.
+ */
+public class LegacyResultSetMapperFactory extends BaseResultSetMapperFactory {
+    @Override
+    public <T> ResultSetMapper<T> getMapper(Class<T> entity, Supplier<T> supplier) {
+        Map<String, ResultSetFieldMapper<T>> mappers = getFieldMappers(entity, ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByClass(entity));
+        return (rs, sink) -> {
+            if (!rs.next())
+                return false;
+            ResultSetMetaData meta = rs.getMetaData();
+            int count = meta.getColumnCount() + 1;
+            T result = supplier.get();
+            for (int i = 1; i < count; i++) {
+                ResultSetFieldMapper<T> mapper = mappers.get(meta.getColumnName(i));
+                if (Objects.isNull(mapper))
+                    continue;
+                mapper.map(result, rs, i);
+            }
+            sink.accept(result);
+            return true;
+        };
+    }
+}
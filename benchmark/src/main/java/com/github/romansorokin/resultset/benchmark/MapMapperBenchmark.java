@@ -0,0 +1,77 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Rows per second of the map mappers of {@link ResultSetMapperUtils}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapMapperBenchmark {
+    private static final int ROWS = 10_000;
+
+    public enum MapType {
+        HASH_MAP(ResultSetMapperUtils.HASH_MAP_MAPPER),
+        TREE_MAP_IGNORE_CASE(ResultSetMapperUtils.TREE_MAP_IGNORE_CASE_MAPPER),
+        ROW_MAP(ResultSetMapperUtils.ROW_MAP_MAPPER),
+        ROW_MAP_IGNORE_CASE(ResultSetMapperUtils.ROW_MAP_IGNORE_CASE_MAPPER);
+
+        private final ResultSetMapper<Map<String, Object>> mapper;
+
+        MapType(ResultSetMapper<Map<String, Object>> mapper) {
+            this.mapper = mapper;
+        }
+    }
+
+    @Param
+    public MapType type;
+    @Param
+    public BenchmarkTable.Source source;
+
+    private BenchmarkTable table;
+
+    @Setup
+    public void setup() throws SQLException {
+        table = BenchmarkEntity.table(source, ROWS);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        table.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void map(Blackhole bh) throws SQLException {
+        ResultSet rs = table.open();
+        ResultSetMapper<Map<String, Object>> mapper = type.mapper;
+        Consumer<Map<String, Object>> sink = row -> bh.consume(row.get("name"));
+        while (mapper.mapNext(rs, sink)) {
+        }
+    }
+}
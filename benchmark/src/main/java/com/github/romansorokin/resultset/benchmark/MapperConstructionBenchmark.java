@@ -0,0 +1,66 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.mapper.BaseResultSetMapperFactory;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of building a mapper by {@link BaseResultSetMapperFactory} against a lookup in the mapper cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperConstructionBenchmark {
+    private static final Supplier<BenchmarkEntity> SUPPLIER = BenchmarkEntity::new;
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    public record BenchmarkRecord(String name, int count, long amount, double price, boolean active) {
+    }
+
+    private final BaseResultSetMapperFactory factory = new BaseResultSetMapperFactory();
+
+    @Setup
+    public void setup() {
+        ResultSetMapperUtils.getMapper(BenchmarkEntity.class, SUPPLIER);
+    }
+
+    @Benchmark
+    public ResultSetMapper<BenchmarkEntity> factory() {
+        return factory.getMapper(BenchmarkEntity.class, BenchmarkEntity::new);
+    }
+
+    @Benchmark
+    public ResultSetMapper<BenchmarkRecord> factoryConstructor() {
+        return factory.getMapper(BenchmarkRecord.class);
+    }
+
+    @Benchmark
+    public ResultSetMapper<BenchmarkEntity> cached() {
+        return ResultSetMapperUtils.getMapper(BenchmarkEntity.class, SUPPLIER);
+    }
+
+    /**
+     * cached field mappers and plans with a new mapper instance
+     */
+    @Benchmark
+    public ResultSetMapper<BenchmarkEntity> cachedOtherSupplier() {
+        return ResultSetMapperUtils.getMapper(BenchmarkEntity.class, () -> new BenchmarkEntity());
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import com.github.romansorokin.resultset.pipeline.ResultSetPipelineMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second of {@link ResultSetPipelineMapper} against the sequential list mapper of the same row mapper,
+ * per-row work of the field mappers is simulated by {@link Blackhole#consumeCPU(long)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineMapperBenchmark {
+    private static final int ROWS = 10_000;
+
+    @Param
+    public BenchmarkTable.Source source;
+
+    @Param({"0", "500"})
+    public long rowWork;
+
+    @Param({"2", "4"})
+    public int workers;
+
+    @Param({"256"})
+    public int batchSize;
+
+    private BenchmarkTable table;
+    private ResultSetMapper<List<BenchmarkEntity>> listMapper;
+    private ResultSetPipelineMapper<BenchmarkEntity> orderedMapper;
+    private ResultSetPipelineMapper<BenchmarkEntity> unorderedMapper;
+
+    @Setup
+    public void setup() throws SQLException {
+        table = BenchmarkEntity.table(source, ROWS);
+        ResultSetMapper<BenchmarkEntity> entityMapper = ResultSetMapperUtils.getMapper(BenchmarkEntity.class, BenchmarkEntity::new);
+        long work = rowWork;
+        ResultSetMapper<BenchmarkEntity> mapper = work == 0 ? entityMapper : (rs, sink) -> entityMapper.mapNext(rs, entity -> {
+            Blackhole.consumeCPU(work);
+            sink.accept(entity);
+        });
+        listMapper = ResultSetMapperUtils.getListMapper(mapper);
+        orderedMapper = new ResultSetPipelineMapper<>(mapper, workers, batchSize, 2 * workers, true);
+        unorderedMapper = new ResultSetPipelineMapper<>(mapper, workers, batchSize, 2 * workers, false);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        orderedMapper.close();
+        unorderedMapper.close();
+        table.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<BenchmarkEntity> sequential() throws SQLException {
+        return listMapper.map(table.open()).orElseThrow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<BenchmarkEntity> pipelineOrdered() throws SQLException {
+        return orderedMapper.map(table.open()).orElseThrow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<BenchmarkEntity> pipelineUnordered() throws SQLException {
+        return unorderedMapper.map(table.open()).orElseThrow();
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.field.ResultSetFieldAccess;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping throughput by {@link ResultSetFieldAccess}, rows per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultSetFieldAccessBenchmark {
+    private static final int ROWS = 10_000;
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true, access = ResultSetFieldAccess.REFLECTION)
+    public static class ReflectionEntity extends BenchmarkEntity {}
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true, access = ResultSetFieldAccess.METHOD_HANDLE)
+    public static class MethodHandleEntity extends BenchmarkEntity {}
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true, access = ResultSetFieldAccess.VAR_HANDLE)
+    public static class VarHandleEntity extends BenchmarkEntity {}
+
+    private StubResultSet rs;
+    private ResultSetMapper<ReflectionEntity> reflectionMapper;
+    private ResultSetMapper<MethodHandleEntity> methodHandleMapper;
+    private ResultSetMapper<VarHandleEntity> varHandleMapper;
+
+    @Setup
+    public void setup() {
+        rs = new StubResultSet(BenchmarkEntity.COLUMN_NAMES, BenchmarkEntity.COLUMN_TYPES, BenchmarkEntity.rows(ROWS));
+        reflectionMapper = ResultSetMapperUtils.getMapper(ReflectionEntity.class, ReflectionEntity::new);
+        methodHandleMapper = ResultSetMapperUtils.getMapper(MethodHandleEntity.class, MethodHandleEntity::new);
+        varHandleMapper = ResultSetMapperUtils.getMapper(VarHandleEntity.class, VarHandleEntity::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void reflection(Blackhole bh) throws SQLException {
+        map(reflectionMapper, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void methodHandle(Blackhole bh) throws SQLException {
+        map(methodHandleMapper, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void varHandle(Blackhole bh) throws SQLException {
+        map(varHandleMapper, bh);
+    }
+
+    private <T> void map(ResultSetMapper<T> mapper, Blackhole bh) throws SQLException {
+        rs.reset();
+        Optional<T> entity = mapper.map(rs);
+        while (entity.isPresent()) {
+            bh.consume(entity.get());
+            entity = mapper.map(rs);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import com.github.romansorokin.resultset.buffer.UnsupportedResultSet;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * In-memory result-set with near zero driver cost, separates mapper cost from JDBC driver cost.
+ */
+public class StubResultSet extends UnsupportedResultSet {
+    private final StubResultSetMetaData meta;
+    private final Object[][] rows;
+    private int row = -1;
+    private boolean wasNull;
+    private boolean closed;
+
+    public StubResultSet(String[] columnNames, int[] columnTypes, Object[][] rows) {
+        this.meta = new StubResultSetMetaData(columnNames, columnTypes);
+        this.rows = rows;
+    }
+
+    public StubResultSet reset() {
+        row = -1;
+        closed = false;
+        return this;
+    }
+
+    private Object value(int columnIndex) {
+        Object value = rows[row][columnIndex - 1];
+        wasNull = value == null;
+        return value;
+    }
+
+    @Override
+    public boolean next() {
+        if (row + 1 >= rows.length) {
+            row = rows.length;
+            return false;
+        }
+        row++;
+        return true;
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() {
+        return meta;
+    }
+
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object value = value(columnIndex);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null && (Boolean) value;
+    }
+
+    @Override
+    public byte getByte(int columnIndex) {
+        Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).byteValue();
+    }
+
+    @Override
+    public short getShort(int columnIndex) {
+        Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).shortValue();
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    @Override
+    public float getFloat(int columnIndex) {
+        Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).floatValue();
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).doubleValue();
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) {
+        return (byte[]) value(columnIndex);
+    }
+
+    @Override
+    public Object getObject(int columnIndex) {
+        return value(columnIndex);
+    }
+
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        Object value = value(columnIndex);
+        if (value == null || type.isInstance(value))
+            return type.cast(value);
+        throw new SQLException("column " + columnIndex + " is not " + type.getName());
+    }
+}
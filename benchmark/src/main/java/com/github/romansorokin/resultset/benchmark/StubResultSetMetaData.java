@@ -0,0 +1,139 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+
+public class StubResultSetMetaData implements ResultSetMetaData {
+    private final String[] columnNames;
+    private final int[] columnTypes;
+
+    public StubResultSetMetaData(String[] columnNames, int[] columnTypes) {
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public boolean isAutoIncrement(int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isCaseSensitive(int column) {
+        return true;
+    }
+
+    @Override
+    public boolean isSearchable(int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isCurrency(int column) {
+        return false;
+    }
+
+    @Override
+    public int isNullable(int column) {
+        return columnNullableUnknown;
+    }
+
+    @Override
+    public boolean isSigned(int column) {
+        return true;
+    }
+
+    @Override
+    public int getColumnDisplaySize(int column) {
+        return 0;
+    }
+
+    @Override
+    public String getColumnLabel(int column) {
+        return columnNames[column - 1];
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column - 1];
+    }
+
+    @Override
+    public String getSchemaName(int column) {
+        return "";
+    }
+
+    @Override
+    public int getPrecision(int column) {
+        return 0;
+    }
+
+    @Override
+    public int getScale(int column) {
+        return 0;
+    }
+
+    @Override
+    public String getTableName(int column) {
+        return "";
+    }
+
+    @Override
+    public String getCatalogName(int column) {
+        return "";
+    }
+
+    @Override
+    public int getColumnType(int column) {
+        return columnTypes[column - 1];
+    }
+
+    @Override
+    public String getColumnTypeName(int column) {
+        return String.valueOf(columnTypes[column - 1]);
+    }
+
+    @Override
+    public boolean isReadOnly(int column) {
+        return true;
+    }
+
+    @Override
+    public boolean isWritable(int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int column) {
+        return false;
+    }
+
+    @Override
+    public String getColumnClassName(int column) {
+        return switch (columnTypes[column - 1]) {
+            case Types.BOOLEAN -> Boolean.class.getName();
+            case Types.INTEGER -> Integer.class.getName();
+            case Types.BIGINT -> Long.class.getName();
+            case Types.DOUBLE -> Double.class.getName();
+            case Types.BINARY, Types.VARBINARY -> byte[].class.getName();
+            case Types.VARCHAR -> String.class.getName();
+            default -> Object.class.getName();
+        };
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        throw new SQLFeatureNotSupportedException("unwrap");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return false;
+    }
+}
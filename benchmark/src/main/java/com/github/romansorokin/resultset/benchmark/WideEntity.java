@@ -0,0 +1,103 @@
+package com.github.romansorokin.resultset.benchmark;
+
+import java.sql.Types;
+
+/**
+ * Entity of 60 columns: 12 columns of int, long, double, boolean and String each.
+ */
+public class WideEntity {
+    public static final String[] COLUMN_NAMES = {
+            "I01", "I02", "I03", "I04", "I05", "I06", "I07", "I08", "I09", "I10", "I11", "I12", "L01", "L02", "L03",
+            "L04", "L05", "L06", "L07", "L08", "L09", "L10", "L11", "L12", "D01", "D02", "D03", "D04", "D05", "D06",
+            "D07", "D08", "D09", "D10", "D11", "D12", "B01", "B02", "B03", "B04", "B05", "B06", "B07", "B08", "B09",
+            "B10", "B11", "B12", "S01", "S02", "S03", "S04", "S05", "S06", "S07", "S08", "S09", "S10", "S11", "S12"
+    };
+    public static final int[] COLUMN_TYPES = {
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.BIGINT,
+            Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT,
+            Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE,
+            Types.DOUBLE, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE, Types.DOUBLE,
+            Types.DOUBLE, Types.BOOLEAN, Types.BOOLEAN, Types.BOOLEAN, Types.BOOLEAN, Types.BOOLEAN, Types.BOOLEAN,
+            Types.BOOLEAN, Types.BOOLEAN, Types.BOOLEAN, Types.BOOLEAN, Types.BOOLEAN, Types.BOOLEAN, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR
+    };
+
+    int i01;
+    int i02;
+    int i03;
+    int i04;
+    int i05;
+    int i06;
+    int i07;
+    int i08;
+    int i09;
+    int i10;
+    int i11;
+    int i12;
+    long l01;
+    long l02;
+    long l03;
+    long l04;
+    long l05;
+    long l06;
+    long l07;
+    long l08;
+    long l09;
+    long l10;
+    long l11;
+    long l12;
+    double d01;
+    double d02;
+    double d03;
+    double d04;
+    double d05;
+    double d06;
+    double d07;
+    double d08;
+    double d09;
+    double d10;
+    double d11;
+    double d12;
+    boolean b01;
+    boolean b02;
+    boolean b03;
+    boolean b04;
+    boolean b05;
+    boolean b06;
+    boolean b07;
+    boolean b08;
+    boolean b09;
+    boolean b10;
+    boolean b11;
+    boolean b12;
+    String s01;
+    String s02;
+    String s03;
+    String s04;
+    String s05;
+    String s06;
+    String s07;
+    String s08;
+    String s09;
+    String s10;
+    String s11;
+    String s12;
+
+    public static Object[][] rows(int count) {
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++)
+            rows[i] = new Object[]{
+                    i * 1, i * 2, i * 3, i * 4, i * 5, i * 6, i * 7, i * 8, i * 9, i * 10, i * 11, i * 12, i * 1000L + 1,
+                    i * 1000L + 2, i * 1000L + 3, i * 1000L + 4, i * 1000L + 5, i * 1000L + 6, i * 1000L + 7, i * 1000L + 8,
+                    i * 1000L + 9, i * 1000L + 10, i * 1000L + 11, i * 1000L + 12, i / 3.0 + 1, i / 3.0 + 2, i / 3.0 + 3,
+                    i / 3.0 + 4, i / 3.0 + 5, i / 3.0 + 6, i / 3.0 + 7, i / 3.0 + 8, i / 3.0 + 9, i / 3.0 + 10, i / 3.0 + 11,
+                    i / 3.0 + 12, (i + 1) % 2 == 0, (i + 2) % 2 == 0, (i + 3) % 2 == 0, (i + 4) % 2 == 0, (i + 5) % 2 == 0,
+                    (i + 6) % 2 == 0, (i + 7) % 2 == 0, (i + 8) % 2 == 0, (i + 9) % 2 == 0, (i + 10) % 2 == 0, (i + 11) % 2 == 0,
+                    (i + 12) % 2 == 0, "value-" + i, "value-" + i, "value-" + i, "value-" + i, "value-" + i, "value-" + i,
+                    "value-" + i, "value-" + i, "value-" + i, "value-" + i, "value-" + i, "value-" + i
+            };
+        return rows;
+    }
+}
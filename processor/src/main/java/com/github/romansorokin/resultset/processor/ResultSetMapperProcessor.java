@@ -0,0 +1,308 @@
+package com.github.romansorokin.resultset.processor;
+
+import com.github.romansorokin.resultset.annotations.ResultSetChildren;
+import com.github.romansorokin.resultset.annotations.ResultSetField;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.column.ResultSetFieldToColumnNameCase;
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.ResultSetConverterRegistry;
+import com.github.romansorokin.resultset.field.ResultSetFieldValueByColumnIndexFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldIntValueFunction;
+import com.github.romansorokin.resultset.mapper.BaseResultSetMapperFactory;
+import com.github.romansorokin.resultset.mapper.GeneratedResultSetMapper;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Generates {@link GeneratedResultSetMapper} for classes marked by {@link ResultSetType} directly, by meta-annotation or by superclass.
+ * Generated mappers write fields directly or through setters, without reflection.
+ * Values are read by the value functions of {@link BaseResultSetFieldMapperFactory} captured when the mapper is created:
+ * registered getters and converters of any column type, column type converters are applied by runtime mappers only.
+ * Classes using custom factories or features not supported here are mapped at runtime as before.
+ */
+@SupportedAnnotationTypes("*")
+public class ResultSetMapperProcessor extends AbstractProcessor {
+    private static final String RESULT_SET_TYPE = ResultSetType.class.getCanonicalName();
+    private static final String RESULT_SET_FIELD = ResultSetField.class.getCanonicalName();
+    private static final String RESULT_SET_CHILDREN = ResultSetChildren.class.getCanonicalName();
+    private static final String VALUE_FUNCTION = ResultSetFieldValueByColumnIndexFunction.class.getName();
+    private static final String PRIMITIVE_FUNCTION_PACKAGE = ResultSetFieldIntValueFunction.class.getPackageName();
+    private static final String ANY_COLUMN_TYPE = ResultSetConverterRegistry.class.getName() + ".ANY_COLUMN_TYPE";
+    private static final Set<String> SUPPORTED_FIELD_ATTRIBUTES = Set.of("value", "factory", "ignore");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements()))
+            process(type);
+        return false;
+    }
+
+    private void process(TypeElement type) {
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements()))
+            process(member);
+        if (type.getKind() != ElementKind.CLASS)
+            return;
+        AnnotationMirror resultSetType = getResultSetType(type);
+        if (Objects.isNull(resultSetType))
+            return;
+        try {
+            boolean ignoreCase = (Boolean) getValues(resultSetType).get("ignoreCase").getValue();
+            write(type, ignoreCase, getFields(type, resultSetType));
+        } catch (UnsupportedOperationException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "result-set mapper is not generated, " + e.getMessage(), type);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "result-set mapper write error: " + e, type);
+        }
+    }
+
+    private AnnotationMirror getResultSetType(TypeElement type) {
+        TypeElement current = type;
+        while (Objects.nonNull(current)) {
+            AnnotationMirror mirror = findAnnotation(current, RESULT_SET_TYPE, new HashSet<>());
+            if (Objects.nonNull(mirror))
+                return mirror;
+            current = getSuperclass(current);
+        }
+        return null;
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED)
+            return null;
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+    }
+
+    /**
+     * annotation on the element or on its annotations, like {@code ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByAnnotatedElement}
+     */
+    private AnnotationMirror findAnnotation(Element element, String name, Set<String> visited) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            String annotationName = annotationType.getQualifiedName().toString();
+            if (annotationName.equals(name))
+                return mirror;
+            if (annotationName.startsWith("java.lang.annotation") || !visited.add(annotationName))
+                continue;
+            AnnotationMirror parent = findAnnotation(annotationType, name, visited);
+            if (Objects.nonNull(parent))
+                return parent;
+        }
+        return null;
+    }
+
+    private Map<String, AnnotationValue> getValues(AnnotationMirror mirror) {
+        Map<String, AnnotationValue> result = new HashMap<>();
+        processingEnv.getElementUtils().getElementValuesWithDefaults(mirror)
+                .forEach((key, value) -> result.put(key.getSimpleName().toString(), value));
+        return result;
+    }
+
+    private List<FieldModel> getFields(TypeElement type, AnnotationMirror resultSetType) {
+        if (!type.getTypeParameters().isEmpty())
+            throw new UnsupportedOperationException("generic type");
+        if (!isAccessible(type))
+            throw new UnsupportedOperationException("type is not accessible");
+        Map<String, AnnotationValue> typeValues = getValues(resultSetType);
+        if (!typeValues.get("factory").getValue().toString().equals(BaseResultSetMapperFactory.class.getCanonicalName()))
+            throw new UnsupportedOperationException("custom mapper factory");
+        ResultSetFieldToColumnNameCase naming = ResultSetFieldToColumnNameCase.valueOf(((VariableElement) typeValues.get("naming").getValue()).getSimpleName().toString());
+        boolean ignoreCase = (Boolean) typeValues.get("ignoreCase").getValue();
+        boolean mapAllFields = (Boolean) typeValues.get("mapAllFields").getValue();
+
+        Map<String, FieldModel> fields = new LinkedHashMap<>();
+        TypeElement current = type;
+        while (Objects.nonNull(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC))
+                    continue;
+                if (Objects.nonNull(findAnnotation(field, RESULT_SET_CHILDREN, new HashSet<>())))
+                    continue;
+                AnnotationMirror resultSetField = findAnnotation(field, RESULT_SET_FIELD, new HashSet<>());
+                if (Objects.isNull(resultSetField) && !mapAllFields)
+                    continue;
+                String columnName = naming.getColumnName(field.getSimpleName().toString());
+                if (Objects.nonNull(resultSetField)) {
+                    for (ExecutableElement attribute : resultSetField.getElementValues().keySet())
+                        if (!SUPPORTED_FIELD_ATTRIBUTES.contains(attribute.getSimpleName().toString()))
+                            throw new UnsupportedOperationException("field attribute " + attribute.getSimpleName() + ": " + field);
+                    Map<String, AnnotationValue> fieldValues = getValues(resultSetField);
+                    if ((Boolean) fieldValues.get("ignore").getValue())
+                        continue;
+                    if (!fieldValues.get("factory").getValue().toString().equals(BaseResultSetFieldMapperFactory.class.getCanonicalName()))
+                        throw new UnsupportedOperationException("custom field factory: " + field);
+                    String value = (String) fieldValues.get("value").getValue();
+                    if (!value.isBlank())
+                        columnName = value;
+                }
+                String key = ignoreCase ? columnName.toLowerCase(Locale.ROOT) : columnName;
+                if (!fields.containsKey(key))
+                    fields.put(key, getField(type, field, key, fields.size()));
+            }
+            current = getSuperclass(current);
+        }
+        if (fields.isEmpty())
+            throw new UnsupportedOperationException("no fields to map");
+        return new ArrayList<>(fields.values());
+    }
+
+    private FieldModel getField(TypeElement type, VariableElement field, String columnName, int number) {
+        TypeMirror fieldType = field.asType();
+        String name = field.getSimpleName().toString();
+        String factory = BaseResultSetFieldMapperFactory.class.getName();
+        String functionType;
+        String function;
+        String read;
+        switch (fieldType.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> {
+                String kind = fieldType.getKind().name().toLowerCase(Locale.ROOT);
+                String capitalized = Character.toUpperCase(kind.charAt(0)) + kind.substring(1);
+                functionType = PRIMITIVE_FUNCTION_PACKAGE + ".ResultSetField" + capitalized + "ValueFunction";
+                function = factory + ".get" + capitalized + "ValueFunction()";
+                read = "f" + number + ".getValue(rs, columnIndex)";
+            }
+            case ARRAY, DECLARED -> {
+                if (fieldType.getKind() == TypeKind.DECLARED && !isAccessible((TypeElement) ((DeclaredType) fieldType).asElement()))
+                    throw new UnsupportedOperationException("field type is not accessible: " + field);
+                functionType = VALUE_FUNCTION;
+                function = factory + ".getValueFunction(" + processingEnv.getTypeUtils().erasure(fieldType) + ".class, " + ANY_COLUMN_TYPE + ")";
+                read = "(" + fieldType + ") f" + number + ".getValue(rs, columnIndex)";
+            }
+            default -> throw new UnsupportedOperationException("field type " + fieldType + ": " + field);
+        }
+        Set<Modifier> modifiers = field.getModifiers();
+        if (!modifiers.contains(Modifier.FINAL) && isAccessible(type, field))
+            return new FieldModel(columnName, functionType, function, "entity." + name + " = " + read);
+        String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getSimpleName().contentEquals(setterName) || method.getParameters().size() != 1)
+                continue;
+            if (method.getModifiers().contains(Modifier.STATIC) || !isAccessible(type, method))
+                continue;
+            if (processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), fieldType))
+                return new FieldModel(columnName, functionType, function, "entity." + setterName + "(" + read + ")");
+        }
+        throw new UnsupportedOperationException("field is not accessible and has no setter: " + field);
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            if (current.getModifiers().contains(Modifier.PRIVATE))
+                return false;
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isAccessible(TypeElement type, Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC))
+            return true;
+        if (modifiers.contains(Modifier.PRIVATE))
+            return false;
+        PackageElement typePackage = processingEnv.getElementUtils().getPackageOf(type);
+        PackageElement memberPackage = processingEnv.getElementUtils().getPackageOf(member);
+        return typePackage.getQualifiedName().contentEquals(memberPackage.getQualifiedName());
+    }
+
+    private void write(TypeElement type, boolean ignoreCase, List<FieldModel> fields) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + GeneratedResultSetMapper.SUFFIX;
+        String entity = type.getQualifiedName().toString();
+
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty())
+            sb.append("package ").append(packageName).append(";\n\n");
+        sb.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        sb.append("public final class ").append(simpleName).append(" extends ").append(GeneratedResultSetMapper.class.getName()).append('<').append(entity).append("> {\n");
+        for (int i = 0; i < fields.size(); i++)
+            sb.append("    private final ").append(fields.get(i).functionType).append(" f").append(i).append(";\n");
+        sb.append('\n');
+        sb.append("    public ").append(simpleName).append("(java.util.function.Supplier<").append(entity).append("> supplier) {\n");
+        sb.append("        super(supplier, ").append(entity).append(".class);\n");
+        for (int i = 0; i < fields.size(); i++)
+            sb.append("        this.f").append(i).append(" = ").append(fields.get(i).function).append(";\n");
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    protected int getField(String columnName) {\n");
+        sb.append("        switch (").append(ignoreCase ? "columnName.toLowerCase(java.util.Locale.ROOT)" : "columnName").append(") {\n");
+        for (int i = 0; i < fields.size(); i++)
+            sb.append("            case \"").append(escape(fields.get(i).columnName)).append("\": return ").append(i).append(";\n");
+        sb.append("            default: return -1;\n");
+        sb.append("        }\n");
+        sb.append("    }\n\n");
+        sb.append("    @Override\n");
+        sb.append("    protected void map(").append(entity).append(" entity, java.sql.ResultSet rs, int columnIndex, int field) throws java.sql.SQLException {\n");
+        sb.append("        switch (field) {\n");
+        for (int i = 0; i < fields.size(); i++)
+            sb.append("            case ").append(i).append(": ").append(fields.get(i).write).append("; break;\n");
+        sb.append("        }\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(sb.toString());
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static final class FieldModel {
+        private final String columnName;
+        private final String functionType;
+        /**
+         * value function of the factory, resolved by the constructor of the mapper
+         */
+        private final String function;
+        private final String write;
+
+        private FieldModel(String columnName, String functionType, String function, String write) {
+            this.columnName = columnName;
+            this.functionType = functionType;
+            this.function = function;
+            this.write = write;
+        }
+    }
+}
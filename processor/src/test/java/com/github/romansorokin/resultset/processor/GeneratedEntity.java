@@ -0,0 +1,40 @@
+package com.github.romansorokin.resultset.processor;
+
+import com.github.romansorokin.resultset.annotations.ResultSetField;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.column.ResultSetFieldToColumnNameCase;
+
+import java.util.UUID;
+
+@ResultSetType(ignoreCase = true, mapAllFields = true, naming = ResultSetFieldToColumnNameCase.SNAKE)
+public class GeneratedEntity {
+    public enum Type {TYPE1, TYPE2}
+
+    UUID entityId;
+    String entityName;
+    int count;
+    long amount;
+    double price;
+    boolean active;
+    byte[] data;
+    Type type;
+    @ResultSetField("comment_text")
+    String comment;
+    @ResultSetField(ignore = true)
+    String ignored;
+    private String secret;
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    @ResultSetType(ignoreCase = true)
+    public static class CustomFactoryEntity {
+        @ResultSetField(factory = UpperCaseFieldMapperFactory.class)
+        String name;
+    }
+}
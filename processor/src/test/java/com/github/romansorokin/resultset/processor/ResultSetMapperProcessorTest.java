@@ -0,0 +1,122 @@
+package com.github.romansorokin.resultset.processor;
+
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.field.ResultSetConverterRegistry;
+import com.github.romansorokin.resultset.mapper.GeneratedResultSetMapper;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import com.github.romansorokin.resultset.mapper.ResultSetMapperCache;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetMapperProcessorTest {
+    private static final String JDBC_URL = "jdbc:h2:mem:result-set-mapper-processor";
+
+    @Test
+    void getMapper_generatedMapper() throws SQLException {
+        ResultSetMapper<GeneratedEntity> mapper = ResultSetMapperUtils.getMapper(GeneratedEntity.class, GeneratedEntity::new);
+        assertInstanceOf(GeneratedResultSetMapper.class, mapper);
+        assertEquals(GeneratedResultSetMapper.getGeneratedClassName(GeneratedEntity.class), mapper.getClass().getName());
+
+        UUID id = UUID.randomUUID();
+        try (Connection connection = DriverManager.getConnection(JDBC_URL)) {
+            execute(connection, "create table generated_entity (entity_id uuid, entity_name varchar, count int, amount bigint, price double, " +
+                    "active boolean, data varbinary, type varchar, comment_text varchar, ignored varchar, secret varchar, extra int)");
+            execute(connection, "insert into generated_entity values (?, 'name-1', 7, 10000000000, 2.5, true, X'0102', 'TYPE2', 'comment-1', 'ignored-1', 'secret-1', 1)", id);
+            execute(connection, "insert into generated_entity (entity_name) values ('name-2')");
+            List<GeneratedEntity> entities = query(connection, "select * from generated_entity order by entity_name", ResultSetMapperUtils.getListMapper(mapper));
+            assertEquals(2, entities.size());
+            GeneratedEntity entity = entities.get(0);
+            assertEquals(id, entity.entityId);
+            assertEquals("name-1", entity.entityName);
+            assertEquals(7, entity.count);
+            assertEquals(10_000_000_000L, entity.amount);
+            assertEquals(2.5, entity.price);
+            assertTrue(entity.active);
+            assertArrayEquals(new byte[]{1, 2}, entity.data);
+            assertEquals(GeneratedEntity.Type.TYPE2, entity.type);
+            assertEquals("comment-1", entity.comment);
+            assertNull(entity.ignored);
+            assertEquals("secret-1", entity.getSecret());
+            assertEquals("name-2", entities.get(1).entityName);
+            assertFalse(entities.get(1).active);
+        }
+    }
+
+    @Test
+    void getMapper_generatedMapperUsesRegisteredGetters() throws SQLException {
+        ResultSetMapperUtils.registerIntFieldType((rs, index) -> rs.getInt(index) * 10);
+        ResultSetMapperUtils.setConverterRegistry(ResultSetConverterRegistry.defaults()
+                .with(String.class, (rs, index) -> rs.getString(index).toUpperCase(Locale.ROOT)));
+        try {
+            ResultSetMapper<GeneratedEntity> mapper = ResultSetMapperUtils.getMapper(GeneratedEntity.class, GeneratedEntity::new);
+            assertInstanceOf(GeneratedResultSetMapper.class, mapper);
+            try (Connection connection = DriverManager.getConnection(JDBC_URL)) {
+                GeneratedEntity entity = query(connection, "select 7 as count, 'name' as entity_name", mapper);
+                assertEquals(70, entity.count);
+                assertEquals("NAME", entity.entityName);
+            }
+        } finally {
+            ResultSetMapperUtils.resetFieldTypes();
+            ResultSetMapperUtils.setConverterRegistry(ResultSetConverterRegistry.defaults());
+        }
+    }
+
+    @Test
+    void getMapper_customFieldFactoryMappedAtRuntime() throws SQLException {
+        ResultSetMapper<GeneratedEntity.CustomFactoryEntity> mapper = ResultSetMapperUtils.getMapper(GeneratedEntity.CustomFactoryEntity.class, GeneratedEntity.CustomFactoryEntity::new);
+        assertFalse(mapper instanceof GeneratedResultSetMapper);
+        try (Connection connection = DriverManager.getConnection(JDBC_URL)) {
+            GeneratedEntity.CustomFactoryEntity entity = query(connection, "select 'name' as name", mapper);
+            assertEquals("NAME", entity.name);
+        }
+    }
+
+    @Test
+    void cache_generatedMapperReboundToOtherSupplier() throws SQLException {
+        ResultSetMapperCache cache = new ResultSetMapperCache();
+        ResultSetMapper<GeneratedEntity> generated = cache.get(GeneratedEntity.class, GeneratedEntity::new);
+        ResultSetMapper<GeneratedEntity> rebound = cache.get(GeneratedEntity.class, () -> {
+            GeneratedEntity entity = new GeneratedEntity();
+            entity.comment = "supplied";
+            return entity;
+        });
+        assertInstanceOf(GeneratedResultSetMapper.class, generated);
+        assertNotSame(generated, rebound);
+        try (Connection connection = DriverManager.getConnection(JDBC_URL)) {
+            GeneratedEntity entity = query(connection, "select 'name' as entity_name", rebound);
+            assertEquals("name", entity.entityName);
+            assertEquals("supplied", entity.comment);
+        }
+    }
+
+    private static void execute(Connection connection, String sql, Object... args) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < args.length; i++)
+                statement.setObject(i + 1, args[i]);
+            statement.execute();
+        }
+    }
+
+    private static <T> T query(Connection connection, String sql, ResultSetMapper<T> mapper) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            return mapper.map(rs).orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.romansorokin.resultset.processor;
+
+import com.github.romansorokin.resultset.field.ResultSetFieldMapper;
+import com.github.romansorokin.resultset.field.ResultSetFieldMapperFactory;
+
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+
+public class UpperCaseFieldMapperFactory implements ResultSetFieldMapperFactory<Object> {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> ResultSetFieldMapper<Object> getFieldMapper(Field field, BiConsumer<Object, V> setter) {
+        return (e, rs, i) -> setter.accept(e, (V) rs.getString(i).toUpperCase());
+    }
+}
@@ -3,14 +3,23 @@ package com.github.romansorokin.resultset;
 import com.github.romansorokin.resultset.annotations.ResultSet;
 import com.github.romansorokin.resultset.annotations.ResultSetField;
 import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
 import com.github.romansorokin.resultset.mapper.BaseResultSetMapperFactory;
+import com.github.romansorokin.resultset.mapper.GeneratedResultSetMapper;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
 import com.github.romansorokin.resultset.mapper.ResultSetMapperFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -18,6 +27,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @ResultSetType
 public final class ResultSetMapperFactoryUtils {
@@ -25,6 +37,7 @@ public final class ResultSetMapperFactoryUtils {
     private static final BaseResultSetMapperFactory BASE_RESULT_SET_MAPPER_FACTORY = new BaseResultSetMapperFactory();
     public static final ResultSetType DEFAULT_RESULT_SET_TYPE = ResultSetMapperFactoryUtils.getDefaultResultSetType();
     public static final ResultSetField DEFAULT_RESULT_SET_FIELD = ResultSetMapperFactoryUtils.getDefaultResultSetField();
+    private static final Map<Class<? extends ResultSetMapperFactory>, ResultSetMapperFactory> MAPPER_FACTORIES = new ConcurrentHashMap<>();
 
     public static ResultSetType getDefaultResultSetType() {
         Map<Class<?>, Annotation> children = getResultSetChildrenAnnotationsByAnnotatedElement(ResultSetMapperFactoryUtils.class);
@@ -50,8 +63,27 @@ public final class ResultSetMapperFactoryUtils {
         ResultSetType type = (ResultSetType) children.get(ResultSetType.class);
         if (Objects.isNull(type) || type.factory() == BaseResultSetMapperFactory.class)
             return BASE_RESULT_SET_MAPPER_FACTORY;
-        Class<? extends ResultSetMapperFactory> factory = type.factory();
-        return getObjectByEmptyConstructor(factory);
+        return MAPPER_FACTORIES.computeIfAbsent(type.factory(), ResultSetMapperFactoryUtils::getObjectByEmptyConstructor);
+    }
+
+    /**
+     * @return mapper generated at compile time for the entity, null when there is no generated mapper
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ResultSetMapper<T> getGeneratedMapper(Class<T> entity, Supplier<T> supplier) {
+        Class<?> mapperClass;
+        try {
+            mapperClass = Class.forName(GeneratedResultSetMapper.getGeneratedClassName(entity), true, entity.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!GeneratedResultSetMapper.class.isAssignableFrom(mapperClass))
+            return null;
+        try {
+            return (ResultSetMapper<T>) mapperClass.getConstructor(Supplier.class).newInstance(supplier);
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("error on create generated mapper " + mapperClass, e);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -68,6 +100,67 @@ public final class ResultSetMapperFactoryUtils {
         throw new IllegalArgumentException("no-argument constructor required: " + clazz);
     }
 
+    /**
+     * supplier calling the no-argument constructor through a method handle
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> getSupplier(Class<T> clazz) {
+        Constructor<T> constructor;
+        try {
+            constructor = clazz.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("no-argument constructor required: " + clazz, e);
+        }
+        if (!constructor.trySetAccessible())
+            throw new IllegalArgumentException("no-argument constructor is not accessible: " + clazz);
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("no-argument constructor is not accessible: " + clazz, e);
+        }
+        return () -> {
+            try {
+                return (T) handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ResultSetMapperRuntimeException("constructor invoke: " + clazz, e);
+            }
+        };
+    }
+
+    /**
+     * field reader through a method handle, reflection when the field is not accessible by handles
+     */
+    public static Function<Object, Object> getGetter(Field field) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup()).unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            setAccessible(field);
+            return entity -> getValue(entity, field);
+        }
+        return entity -> {
+            try {
+                return handle.invokeExact(entity);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ResultSetMapperRuntimeException("field get value: " + field, e);
+            }
+        };
+    }
+
+    public static Object getValue(Object entity, Field field) {
+        try {
+            return field.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("reflection, field get value", e);
+        }
+    }
+
     public static void setAccessible(Field field) {
         if (!field.trySetAccessible())
             throw new IllegalArgumentException("field is not accessible: " + field);
@@ -104,6 +197,51 @@ public final class ResultSetMapperFactoryUtils {
         return result;
     }
 
+    /**
+     * record components, or instance fields declared by the class in the order of constructor parameters matched by name.
+     * Parameter names of classes require compilation with {@code -parameters}, field declaration order is not used.
+     */
+    public static List<Field> getConstructorFields(Class<?> clazz) {
+        List<Field> result = new ArrayList<>();
+        if (clazz.isRecord()) {
+            for (RecordComponent component : clazz.getRecordComponents()) {
+                try {
+                    result.add(clazz.getDeclaredField(component.getName()));
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalArgumentException("record component field not found: " + component, e);
+                }
+            }
+            return result;
+        }
+        Map<String, Field> fields = new HashMap<>();
+        for (Field field : clazz.getDeclaredFields())
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                fields.put(field.getName(), field);
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() != fields.size())
+                continue;
+            for (Parameter parameter : constructor.getParameters()) {
+                Field field = parameter.isNamePresent() ? fields.get(parameter.getName()) : null;
+                if (Objects.isNull(field) || field.getType() != parameter.getType())
+                    break;
+                result.add(field);
+            }
+            if (result.size() == fields.size())
+                return result;
+            result.clear();
+        }
+        throw new IllegalArgumentException("constructor of all instance fields required: " + clazz + ", parameters are matched by name, compile with -parameters");
+    }
+
+    public static <T> Constructor<T> getConstructor(Class<T> clazz, List<Field> fields) {
+        Class<?>[] types = fields.stream().map(Field::getType).toArray(Class<?>[]::new);
+        try {
+            return clazz.getDeclaredConstructor(types);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("constructor of all instance fields required: " + clazz, e);
+        }
+    }
+
     public static Map<Class<?>, Annotation> getResultSetChildrenAnnotationsByClass(Class<?> clazz) {
         Map<Class<?>, Annotation> result = getResultSetChildrenAnnotationsByAnnotatedElement(clazz);
         if (result.isEmpty())
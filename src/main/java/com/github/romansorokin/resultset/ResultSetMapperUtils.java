@@ -1,26 +1,68 @@
 package com.github.romansorokin.resultset;
 
+import com.github.romansorokin.resultset.cache.ResultSetQueryCache;
+import com.github.romansorokin.resultset.cache.ResultSetQueryExecutor;
+import com.github.romansorokin.resultset.columnar.ResultSetColumnBatch;
+import com.github.romansorokin.resultset.columnar.ResultSetColumnarMapper;
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
 import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.ResultSetConverterRegistry;
 import com.github.romansorokin.resultset.field.ResultSetFieldValueByColumnIndexFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldBooleanValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldByteValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldShortValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldIntValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldLongValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldFloatValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldDoubleValueFunction;
+import com.github.romansorokin.resultset.join.ResultSetJoinMapper;
+import com.github.romansorokin.resultset.mapper.BaseResultSetMapperFactory;
+import com.github.romansorokin.resultset.mapper.ResultSetLayoutCache;
 import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import com.github.romansorokin.resultset.mapper.ResultSetMapperCache;
 import com.github.romansorokin.resultset.mapper.ResultSetMapperFactory;
+import com.github.romansorokin.resultset.metrics.ResultSetMapperListener;
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
+import com.github.romansorokin.resultset.pipeline.ResultSetPipelineMapper;
+import com.github.romansorokin.resultset.row.ResultSetRowMapMapper;
+import com.github.romansorokin.resultset.spill.ResultSetSpillList;
+import com.github.romansorokin.resultset.spill.ResultSetSpillMapper;
+import com.github.romansorokin.resultset.stream.ResultSetIterator;
+import com.github.romansorokin.resultset.stream.ResultSetPartitionedScan;
+import com.github.romansorokin.resultset.stream.ResultSetPartitioning;
+import com.github.romansorokin.resultset.stream.ResultSetPublisher;
+import com.github.romansorokin.resultset.stream.ResultSetSpliterator;
 
-import java.sql.ResultSetMetaData;
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class ResultSetMapperUtils {
+    private static final ResultSetMapperCache MAPPER_CACHE = new ResultSetMapperCache();
     public static final ResultSetMapper<Map<String, Object>> HASH_MAP_MAPPER = getMapper(HashMap::new);
     public static final ResultSetMapper<Map<String, Object>> TREE_MAP_IGNORE_CASE_MAPPER = getMapper(() -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+    /**
+     * compact unmodifiable row maps sharing the key index of the result-set layout
+     */
+    public static final ResultSetMapper<Map<String, Object>> ROW_MAP_MAPPER = new ResultSetRowMapMapper(false);
+    public static final ResultSetMapper<Map<String, Object>> ROW_MAP_IGNORE_CASE_MAPPER = new ResultSetRowMapMapper(true);
 
     public static <T> ResultSetMapper<Set<T>> getSetMapper(ResultSetMapper<T> mapper) {
         return getCollectionMapper(mapper, HashSet::new, Set::add, Collections.emptySet());
@@ -31,39 +73,227 @@ public final class ResultSetMapperUtils {
     }
 
     public static <T, C> ResultSetMapper<C> getCollectionMapper(ResultSetMapper<T> mapper, Supplier<C> collection, BiConsumer<C, T> accumulator, C onEmpty) {
-        return rs -> {
-            Optional<T> result = mapper.map(rs);
-            if (result.isEmpty())
-                return Optional.of(onEmpty);
+        return (rs, sink) -> {
             C c = collection.get();
-            do {
-                accumulator.accept(c, result.get());
-                result = mapper.map(rs);
-            } while (result.isPresent());
-            return Optional.of(c);
+            Consumer<T> add = value -> accumulator.accept(c, value);
+            ResultSetMappingRecorder recorder = ResultSetMappingRecorder.begin(rs, mapper);
+            long count = 0;
+            while (mapper.mapNext(rs, add)) {
+                count++;
+                recorder.onRow();
+            }
+            recorder.end();
+            sink.accept(count == 0 ? onEmpty : c);
+            return true;
         };
     }
 
+    /**
+     * collection mapper writing rows beyond the memory budget to a temporary file, see {@link ResultSetSpillMapper}
+     *
+     * @param memoryBudget bytes of rows in binary form kept in memory
+     */
+    public static <T> ResultSetMapper<ResultSetSpillList<T>> getSpillMapper(ResultSetMapper<T> mapper, long memoryBudget) {
+        return getSpillMapper(mapper, memoryBudget, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    public static <T> ResultSetMapper<ResultSetSpillList<T>> getSpillMapper(ResultSetMapper<T> mapper, long memoryBudget, Path directory) {
+        return new ResultSetSpillMapper<>(mapper, memoryBudget, directory);
+    }
+
+    /**
+     * list mapper reading rows on the calling thread and mapping them by the workers, see {@link ResultSetPipelineMapper}.
+     * The mapper owns the worker threads, close it when it is not used anymore.
+     */
+    public static <T> ResultSetPipelineMapper<T> getPipelineMapper(ResultSetMapper<T> mapper, int workers) {
+        return new ResultSetPipelineMapper<>(mapper, workers);
+    }
+
     public static <M extends Map<String, Object>> ResultSetMapper<M> getMapper(Supplier<M> getter) {
-        return rs -> {
+        ResultSetLayoutCache<List<String>> layouts = new ResultSetLayoutCache<>(names -> names);
+        return (rs, sink) -> {
             if (!rs.next())
-                return Optional.empty();
-            ResultSetMetaData meta = rs.getMetaData();
-            int count = meta.getColumnCount();
+                return false;
+            List<String> names = layouts.get(rs);
+            int count = names.size();
             M map = getter.get();
-            for (int i = 1; i < count + 1; i++)
-                map.put(meta.getColumnName(i), rs.getObject(i));
-            return Optional.of(map);
+            for (int i = 0; i < count; i++)
+                map.put(names.get(i), rs.getObject(i + 1));
+            sink.accept(map);
+            return true;
         };
     }
 
+    /**
+     * cached mapper of the entity, see {@link ResultSetMapperCache#get(Class, Supplier)}
+     */
     public static <T> ResultSetMapper<T> getMapper(Class<T> entity, Supplier<T> supplier) {
-        ResultSetMapperFactory factory = ResultSetMapperFactoryUtils.getMapperFactory(entity);
-        return factory.getMapper(entity, supplier);
+        return MAPPER_CACHE.get(entity, supplier);
+    }
+
+    /**
+     * cached mapper of records and classes created by a constructor of all instance fields, see {@link ResultSetMapperFactory#getMapper(Class)}
+     */
+    public static <T> ResultSetMapper<T> getMapper(Class<T> entity) {
+        return MAPPER_CACHE.get(entity);
+    }
+
+    /**
+     * mapper of joined result-sets to distinct entities with their children, see {@link ResultSetJoinMapper}.
+     * The mapper is not cached, keep it for repeated queries.
+     */
+    public static <T> ResultSetJoinMapper<T> getJoinMapper(Class<T> entity, Supplier<T> supplier) {
+        return ResultSetMapperFactoryUtils.getMapperFactory(entity).getJoinMapper(entity, supplier);
+    }
+
+    /**
+     * cache of at most maxSize mapped results of queries on the data source, see {@link ResultSetQueryCache}
+     */
+    public static <T> ResultSetQueryCache<T> getQueryCache(DataSource dataSource, ResultSetMapper<T> mapper, long maxSize, Duration ttl) {
+        return new ResultSetQueryCache<>(ResultSetQueryExecutor.of(dataSource), mapper, maxSize, ttl);
+    }
+
+    /**
+     * builds mappers of the entities in parallel on the common fork-join pool
+     */
+    public static void warmUp(Class<?>... entities) {
+        MAPPER_CACHE.warmUp(entities);
+    }
+
+    public static ResultSetMapperCache getMapperCache() {
+        return MAPPER_CACHE;
+    }
+
+    /**
+     * mapper of all remaining rows into one column-oriented batch
+     */
+    public static ResultSetMapper<ResultSetColumnBatch> getColumnarMapper() {
+        return new ResultSetColumnarMapper();
+    }
+
+    /**
+     * mapper of up to batchSize rows into one column-oriented batch per call
+     */
+    public static ResultSetMapper<ResultSetColumnBatch> getColumnarMapper(int batchSize) {
+        return new ResultSetColumnarMapper(batchSize);
+    }
+
+    /**
+     * lazy sequential stream of the mapped rows, closing the stream closes the result-set
+     */
+    public static <T> Stream<T> stream(ResultSet rs, ResultSetMapper<T> mapper) {
+        return StreamSupport.stream(new ResultSetSpliterator<>(rs, mapper), false)
+                .onClose(() -> close(rs));
+    }
+
+    /**
+     * lazy iterator of the mapped rows, closing the iterator closes the result-set
+     */
+    public static <T> ResultSetIterator<T> iterator(ResultSet rs, ResultSetMapper<T> mapper) {
+        return new ResultSetIterator<>(rs, mapper);
+    }
+
+    /**
+     * publisher of the mapped rows read on a virtual or daemon thread as requested by the subscriber, see {@link ResultSetPublisher}
+     */
+    public static <T> Flow.Publisher<T> publisher(ResultSet rs, ResultSetMapper<T> mapper) {
+        return new ResultSetPublisher<>(rs, mapper);
+    }
+
+    public static <T> Flow.Publisher<T> publisher(ResultSet rs, ResultSetMapper<T> mapper, Executor executor) {
+        return new ResultSetPublisher<>(rs, mapper, executor);
+    }
+
+    /**
+     * parallel scan of the query by partitions on connections of the data source, rows are mapped by the cached mapper of the entity,
+     * see {@link ResultSetPartitionedScan}
+     */
+    public static <T> ResultSetPartitionedScan<T> getPartitionedScan(DataSource dataSource, String sql, ResultSetPartitioning partitioning, Class<T> entity, Supplier<T> supplier) {
+        return new ResultSetPartitionedScan<>(dataSource, sql, partitioning, getMapper(entity, supplier));
     }
 
+    /**
+     * registered getter is used by mappers built after the call, cached mappers are dropped
+     *
+     * @deprecated the getter is used for columns of all types, register converters by column and field type
+     * with {@link #setConverterRegistry(ResultSetConverterRegistry)}
+     */
+    @Deprecated
     public static <V> void registerFieldType(Class<V> fieldType, ResultSetFieldValueByColumnIndexFunction<V> getter) {
         BaseResultSetFieldMapperFactory.register(fieldType, getter);
+        MAPPER_CACHE.clear();
+    }
+
+    public static void registerBooleanFieldType(ResultSetFieldBooleanValueFunction getter) {
+        BaseResultSetFieldMapperFactory.registerBoolean(getter);
+        MAPPER_CACHE.clear();
+    }
+
+    public static void registerByteFieldType(ResultSetFieldByteValueFunction getter) {
+        BaseResultSetFieldMapperFactory.registerByte(getter);
+        MAPPER_CACHE.clear();
+    }
+
+    public static void registerShortFieldType(ResultSetFieldShortValueFunction getter) {
+        BaseResultSetFieldMapperFactory.registerShort(getter);
+        MAPPER_CACHE.clear();
+    }
+
+    public static void registerIntFieldType(ResultSetFieldIntValueFunction getter) {
+        BaseResultSetFieldMapperFactory.registerInt(getter);
+        MAPPER_CACHE.clear();
+    }
+
+    public static void registerLongFieldType(ResultSetFieldLongValueFunction getter) {
+        BaseResultSetFieldMapperFactory.registerLong(getter);
+        MAPPER_CACHE.clear();
+    }
+
+    public static void registerFloatFieldType(ResultSetFieldFloatValueFunction getter) {
+        BaseResultSetFieldMapperFactory.registerFloat(getter);
+        MAPPER_CACHE.clear();
+    }
+
+    public static void registerDoubleFieldType(ResultSetFieldDoubleValueFunction getter) {
+        BaseResultSetFieldMapperFactory.registerDouble(getter);
+        MAPPER_CACHE.clear();
+    }
+
+    /**
+     * drops getters registered by the register methods, the default getters are used by mappers built after the call
+     */
+    public static void resetFieldTypes() {
+        BaseResultSetFieldMapperFactory.reset();
+        MAPPER_CACHE.clear();
+    }
+
+    /**
+     * converters of mappers built after the call, cached mappers are dropped, null disables converters.
+     * Extend {@link ResultSetConverterRegistry#defaults()} to keep the default converters.
+     */
+    public static void setConverterRegistry(ResultSetConverterRegistry registry) {
+        BaseResultSetFieldMapperFactory.setConverterRegistry(registry);
+        MAPPER_CACHE.clear();
+    }
+
+    public static ResultSetConverterRegistry getConverterRegistry() {
+        return BaseResultSetFieldMapperFactory.getConverterRegistry();
+    }
+
+    /**
+     * instrumentation listener of mappers built after the call, cached mappers are dropped, null disables instrumentation
+     */
+    public static void setListener(ResultSetMapperListener listener) {
+        BaseResultSetMapperFactory.setListener(listener);
+        MAPPER_CACHE.clear();
+    }
+
+    private static void close(ResultSet rs) {
+        try {
+            rs.close();
+        } catch (SQLException e) {
+            throw new ResultSetMapperRuntimeException("result-set close", e);
+        }
     }
 
     private ResultSetMapperUtils() {}
@@ -0,0 +1,27 @@
+package com.github.romansorokin.resultset.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Collection field filled with child entities of a joined result-set, see {@code ResultSetJoinMapper}.
+ * The child type requires a {@link ResultSetId} field and a no-argument constructor.
+ * Rows with null child id add no child, like rows of a left join without match.
+ */
+@ResultSet
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResultSetChildren {
+    /**
+     * prefix of the child columns, appended to the prefix of the parent.
+     * Required and not empty, so the child id column is not matched to a column of the parent
+     */
+    String prefix();
+
+    /**
+     * child type, element type of the collection field by default
+     */
+    Class<?> type() default Object.class;
+}
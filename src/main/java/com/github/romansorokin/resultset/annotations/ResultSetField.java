@@ -1,7 +1,9 @@
 package com.github.romansorokin.resultset.annotations;
 
 import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.ResultSetCanonicalCache;
 import com.github.romansorokin.resultset.field.ResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.enums.ResultSetEnumMapping;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -20,4 +22,27 @@ public @interface ResultSetField {
     Class<? extends ResultSetFieldMapperFactory> factory() default BaseResultSetFieldMapperFactory.class;
 
     boolean ignore() default false;
+
+    /**
+     * decoding of enum fields
+     */
+    ResultSetEnumMapping enumMapping() default ResultSetEnumMapping.NAME;
+
+    /**
+     * name of the enum constant for unknown column values, unknown values are rejected by default
+     */
+    String enumFallback() default "";
+
+    /**
+     * size of the cache replacing equal column values by one shared instance, 0 disables the cache,
+     * see {@link ResultSetCanonicalCache}
+     */
+    int canonicalCacheSize() default 0;
+
+    /**
+     * fields of the field type are mapped from columns starting with {@link #value()},
+     * by default the column name of the field followed by {@code _}.
+     * The field type requires a no-argument constructor, its instance is created when a column is not null.
+     */
+    boolean embedded() default false;
 }
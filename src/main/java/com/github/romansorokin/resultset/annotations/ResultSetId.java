@@ -0,0 +1,15 @@
+package com.github.romansorokin.resultset.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Identity of the entity in joined result-sets, rows with equal id values are one entity.
+ * The field is mapped as usual, its column is named like other fields.
+ */
+@ResultSet
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResultSetId {}
@@ -1,6 +1,7 @@
 package com.github.romansorokin.resultset.annotations;
 
 import com.github.romansorokin.resultset.column.ResultSetFieldToColumnNameCase;
+import com.github.romansorokin.resultset.field.ResultSetFieldAccess;
 import com.github.romansorokin.resultset.mapper.BaseResultSetMapperFactory;
 import com.github.romansorokin.resultset.mapper.ResultSetMapperFactory;
 
@@ -23,4 +24,9 @@ public @interface ResultSetType {
     boolean ignoreCase() default false;
 
     boolean mapAllFields() default false;
+
+    /**
+     * how mapped values are written to the entity fields, reflection unless handles are measured faster for the entity
+     */
+    ResultSetFieldAccess access() default ResultSetFieldAccess.REFLECTION;
 }
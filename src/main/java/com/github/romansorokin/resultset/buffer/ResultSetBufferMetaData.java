@@ -0,0 +1,181 @@
+package com.github.romansorokin.resultset.buffer;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+/**
+ * Copy of the column names, labels and types of a result-set, usable after the result-set is closed.
+ */
+public final class ResultSetBufferMetaData implements ResultSetMetaData {
+    private final String[] columnNames;
+    private final String[] columnLabels;
+    private final int[] columnTypes;
+    private final String[] columnTypeNames;
+    private final String[] columnClassNames;
+    private final int[] precisions;
+    private final int[] scales;
+    private final List<String> columnNameList;
+    private final List<String> columnLabelList;
+
+    private ResultSetBufferMetaData(String[] columnNames, String[] columnLabels, int[] columnTypes, String[] columnTypeNames,
+                                    String[] columnClassNames, int[] precisions, int[] scales) {
+        this.columnNames = columnNames;
+        this.columnLabels = columnLabels;
+        this.columnTypes = columnTypes;
+        this.columnTypeNames = columnTypeNames;
+        this.columnClassNames = columnClassNames;
+        this.precisions = precisions;
+        this.scales = scales;
+        this.columnNameList = List.of(columnNames);
+        this.columnLabelList = List.of(columnLabels);
+    }
+
+    public static ResultSetBufferMetaData of(ResultSetMetaData meta) throws SQLException {
+        int count = meta.getColumnCount();
+        String[] columnNames = new String[count];
+        String[] columnLabels = new String[count];
+        int[] columnTypes = new int[count];
+        String[] columnTypeNames = new String[count];
+        String[] columnClassNames = new String[count];
+        int[] precisions = new int[count];
+        int[] scales = new int[count];
+        for (int i = 0; i < count; i++) {
+            columnNames[i] = meta.getColumnName(i + 1);
+            columnLabels[i] = meta.getColumnLabel(i + 1);
+            columnTypes[i] = meta.getColumnType(i + 1);
+            columnTypeNames[i] = meta.getColumnTypeName(i + 1);
+            columnClassNames[i] = meta.getColumnClassName(i + 1);
+            precisions[i] = meta.getPrecision(i + 1);
+            scales[i] = meta.getScale(i + 1);
+        }
+        return new ResultSetBufferMetaData(columnNames, columnLabels, columnTypes, columnTypeNames, columnClassNames, precisions, scales);
+    }
+
+    /**
+     * the same list on every call, layout lookups of buffered rows compare it by identity
+     */
+    public List<String> getColumnNames() {
+        return columnNameList;
+    }
+
+    public List<String> getColumnLabels() {
+        return columnLabelList;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public boolean isAutoIncrement(int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isCaseSensitive(int column) {
+        return true;
+    }
+
+    @Override
+    public boolean isSearchable(int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isCurrency(int column) {
+        return false;
+    }
+
+    @Override
+    public int isNullable(int column) {
+        return columnNullableUnknown;
+    }
+
+    @Override
+    public boolean isSigned(int column) {
+        return true;
+    }
+
+    @Override
+    public int getColumnDisplaySize(int column) {
+        return precisions[column - 1];
+    }
+
+    @Override
+    public String getColumnLabel(int column) {
+        return columnLabels[column - 1];
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column - 1];
+    }
+
+    @Override
+    public String getSchemaName(int column) {
+        return "";
+    }
+
+    @Override
+    public int getPrecision(int column) {
+        return precisions[column - 1];
+    }
+
+    @Override
+    public int getScale(int column) {
+        return scales[column - 1];
+    }
+
+    @Override
+    public String getTableName(int column) {
+        return "";
+    }
+
+    @Override
+    public String getCatalogName(int column) {
+        return "";
+    }
+
+    @Override
+    public int getColumnType(int column) {
+        return columnTypes[column - 1];
+    }
+
+    @Override
+    public String getColumnTypeName(int column) {
+        return columnTypeNames[column - 1];
+    }
+
+    @Override
+    public boolean isReadOnly(int column) {
+        return true;
+    }
+
+    @Override
+    public boolean isWritable(int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int column) {
+        return false;
+    }
+
+    @Override
+    public String getColumnClassName(int column) {
+        return columnClassNames[column - 1];
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        throw new SQLFeatureNotSupportedException("unwrap");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return false;
+    }
+}
@@ -0,0 +1,492 @@
+package com.github.romansorokin.resultset.buffer;
+
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Column value read from a result-set by the JDBC type of the column and its binary form.
+ * Codecs are chosen once per result-set layout by {@link #of(ResultSetMetaData)}, values are kept as JDBC 4.2 types:
+ * dates and times as {@code java.time} values.
+ */
+public enum ResultSetColumnCodec {
+    INT {
+        @Override
+        public boolean isPlainObject() {
+            return true;
+        }
+
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            int value = rs.getInt(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        public int size(Object value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            buffer.putInt((Integer) value);
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    },
+    LONG {
+        @Override
+        public boolean isPlainObject() {
+            return true;
+        }
+
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            long value = rs.getLong(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        public int size(Object value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            buffer.putLong((Long) value);
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    },
+    FLOAT {
+        @Override
+        public boolean isPlainObject() {
+            return true;
+        }
+
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            float value = rs.getFloat(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        public int size(Object value) {
+            return Float.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            buffer.putFloat((Float) value);
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return buffer.getFloat();
+        }
+    },
+    DOUBLE {
+        @Override
+        public boolean isPlainObject() {
+            return true;
+        }
+
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            double value = rs.getDouble(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        public int size(Object value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            buffer.putDouble((Double) value);
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    },
+    BOOLEAN {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            boolean value = rs.getBoolean(index);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        public int size(Object value) {
+            return 1;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            buffer.put((byte) ((Boolean) value ? 1 : 0));
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return buffer.get() != 0;
+        }
+    },
+    DECIMAL {
+        @Override
+        public boolean isPlainObject() {
+            return true;
+        }
+
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getBigDecimal(index);
+        }
+
+        @Override
+        public int size(Object value) {
+            return Integer.BYTES + BYTES.size(((BigDecimal) value).unscaledValue().toByteArray());
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            BigDecimal decimal = (BigDecimal) value;
+            buffer.putInt(decimal.scale());
+            BYTES.write(buffer, decimal.unscaledValue().toByteArray());
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            int scale = buffer.getInt();
+            return new BigDecimal(new BigInteger((byte[]) BYTES.read(buffer)), scale);
+        }
+    },
+    STRING {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getString(index);
+        }
+
+        /**
+         * upper bound of the UTF-8 length, exact size is known after encoding
+         */
+        @Override
+        public int size(Object value) {
+            return Integer.BYTES + ((String) value).length() * 3;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            BYTES.write(buffer, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            int length = buffer.getInt();
+            if (buffer.hasArray()) {
+                String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    },
+    BYTES {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getBytes(index);
+        }
+
+        @Override
+        public int size(Object value) {
+            return Integer.BYTES + ((byte[]) value).length;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            byte[] bytes = (byte[]) value;
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return bytes;
+        }
+    },
+    UUID {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getObject(index, java.util.UUID.class);
+        }
+
+        @Override
+        public int size(Object value) {
+            return Long.BYTES * 2;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            java.util.UUID uuid = (java.util.UUID) value;
+            buffer.putLong(uuid.getMostSignificantBits());
+            buffer.putLong(uuid.getLeastSignificantBits());
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return new java.util.UUID(buffer.getLong(), buffer.getLong());
+        }
+    },
+    DATE {
+        @Override
+        public boolean isPlainObject() {
+            return true;
+        }
+
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getObject(index, LocalDate.class);
+        }
+
+        @Override
+        public int size(Object value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            buffer.putLong(((LocalDate) value).toEpochDay());
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return LocalDate.ofEpochDay(buffer.getLong());
+        }
+    },
+    TIME {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getObject(index, LocalTime.class);
+        }
+
+        @Override
+        public int size(Object value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            buffer.putLong(((LocalTime) value).toNanoOfDay());
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return LocalTime.ofNanoOfDay(buffer.getLong());
+        }
+    },
+    TIMESTAMP {
+        @Override
+        public boolean isPlainObject() {
+            return true;
+        }
+
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getObject(index, LocalDateTime.class);
+        }
+
+        @Override
+        public int size(Object value) {
+            return Long.BYTES + Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            LocalDateTime timestamp = (LocalDateTime) value;
+            buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(timestamp.getNano());
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        }
+    },
+    TIMESTAMP_WITH_TIMEZONE {
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getObject(index, OffsetDateTime.class);
+        }
+
+        @Override
+        public int size(Object value) {
+            return Long.BYTES + Integer.BYTES * 2;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            OffsetDateTime timestamp = (OffsetDateTime) value;
+            buffer.putLong(timestamp.toEpochSecond());
+            buffer.putInt(timestamp.getNano());
+            buffer.putInt(timestamp.getOffset().getTotalSeconds());
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            long seconds = buffer.getLong();
+            int nano = buffer.getInt();
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(buffer.getInt());
+            return OffsetDateTime.of(LocalDateTime.ofEpochSecond(seconds, nano, offset), offset);
+        }
+    },
+    /**
+     * {@link ResultSet#getObject(int)} in java serialization form, values must be serializable.
+     * Values are serialized once by {@link #encode(Object)}, the size is estimated for values not encoded
+     */
+    OBJECT {
+        private static final int ESTIMATED_SIZE = 64;
+
+        @Override
+        public Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getObject(index);
+        }
+
+        @Override
+        public Object encode(Object value) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(value);
+            } catch (IOException e) {
+                throw new ResultSetMapperRuntimeException("column value serialization: " + value.getClass(), e);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public int estimate(Object value) {
+            return ESTIMATED_SIZE;
+        }
+
+        @Override
+        public int size(Object value) {
+            return BYTES.size(value);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            BYTES.write(buffer, value);
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            byte[] bytes = (byte[]) BYTES.read(buffer);
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                return in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new ResultSetMapperRuntimeException("column value deserialization", e);
+            }
+        }
+    };
+
+    /**
+     * @return column value, null for SQL NULL
+     */
+    public abstract Object read(ResultSet rs, int index) throws SQLException;
+
+    /**
+     * @return {@link ResultSet#getObject(int)} of the column is a plain value converted by the getters of {@link ResultSetRowBuffer},
+     * false for values bound to the result-set, like large objects, and values of driver-specific types
+     */
+    public boolean isPlainObject() {
+        return false;
+    }
+
+    /**
+     * @return not null value in the form written by {@link #write(ByteBuffer, Object)}, the value itself by default
+     */
+    public Object encode(Object value) {
+        return value;
+    }
+
+    /**
+     * @return bytes of the not null value without encoding it, {@link #size(Object)} by default
+     */
+    public int estimate(Object value) {
+        return size(value);
+    }
+
+    /**
+     * @param value encoded value
+     * @return bytes of the not null value, upper bound for variable-length values
+     */
+    public abstract int size(Object value);
+
+    /**
+     * @param value encoded value
+     */
+    public abstract void write(ByteBuffer buffer, Object value);
+
+    public abstract Object read(ByteBuffer buffer);
+
+    public static ResultSetColumnCodec[] of(ResultSetMetaData meta) throws SQLException {
+        ResultSetColumnCodec[] codecs = new ResultSetColumnCodec[meta.getColumnCount()];
+        for (int i = 0; i < codecs.length; i++)
+            codecs[i] = of(meta.getColumnType(i + 1), meta.getColumnClassName(i + 1));
+        return codecs;
+    }
+
+    /**
+     * @throws IllegalArgumentException locator and structured column types, their values are bound to the connection
+     */
+    public static ResultSetColumnCodec of(int columnType, String columnClassName) {
+        if (java.util.UUID.class.getName().equals(columnClassName))
+            return UUID;
+        return switch (columnType) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER -> INT;
+            case Types.BIGINT -> LONG;
+            case Types.REAL -> FLOAT;
+            case Types.FLOAT, Types.DOUBLE -> DOUBLE;
+            case Types.BIT, Types.BOOLEAN -> BOOLEAN;
+            case Types.DECIMAL, Types.NUMERIC -> DECIMAL;
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR, Types.CLOB, Types.NCLOB -> STRING;
+            case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> BYTES;
+            case Types.DATE -> DATE;
+            case Types.TIME -> TIME;
+            case Types.TIMESTAMP -> TIMESTAMP;
+            case Types.TIMESTAMP_WITH_TIMEZONE -> TIMESTAMP_WITH_TIMEZONE;
+            case Types.ARRAY, Types.STRUCT, Types.REF, Types.ROWID, Types.SQLXML, Types.DATALINK ->
+                    throw new IllegalArgumentException("column type is not supported by the row buffer: " + columnType + ", " + columnClassName);
+            default -> OBJECT;
+        };
+    }
+}
@@ -0,0 +1,320 @@
+package com.github.romansorokin.resultset.buffer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Forward-only result-set over rows of column values read by {@link ResultSetColumnCodec}.
+ * Rows are passed in batches by {@link #reset(Object[][], int)}, {@link #next()} returns false at the end of the batch.
+ * Getters convert values like JDBC drivers do for the types of {@link ResultSetColumnCodec}:
+ * timestamps without time zone are in the default time zone of the JVM.
+ * Values of {@link java.sql} date types read by {@link #readObjects(ResultSet, ResultSetColumnCodec[], Object[])} are converted on access.
+ */
+public class ResultSetRowBuffer extends UnsupportedResultSet {
+    private final ResultSetBufferMetaData meta;
+    private Object[][] rows;
+    private int size;
+    private int row = -1;
+    private boolean wasNull;
+    private boolean closed;
+
+    public ResultSetRowBuffer(ResultSetBufferMetaData meta) {
+        this.meta = meta;
+    }
+
+    /**
+     * reads column values of the current row of the result-set
+     */
+    public static void read(ResultSet rs, ResultSetColumnCodec[] codecs, Object[] row) throws SQLException {
+        for (int i = 0; i < codecs.length; i++)
+            row[i] = codecs[i].read(rs, i + 1);
+    }
+
+    /**
+     * reads column values of the current row as returned by {@link ResultSet#getObject(int)} for columns of {@link ResultSetColumnCodec#isPlainObject()},
+     * other columns by their codecs: conversions to the field types are left to the getters
+     */
+    public static void readObjects(ResultSet rs, ResultSetColumnCodec[] codecs, Object[] row) throws SQLException {
+        for (int i = 0; i < codecs.length; i++)
+            row[i] = codecs[i].isPlainObject() ? rs.getObject(i + 1) : codecs[i].read(rs, i + 1);
+    }
+
+    /**
+     * the cursor is placed before the first row of the batch
+     */
+    public ResultSetRowBuffer reset(Object[][] rows, int size) {
+        this.rows = rows;
+        this.size = size;
+        this.row = -1;
+        return this;
+    }
+
+    private Object value(int columnIndex) throws SQLException {
+        if (row < 0 || row >= size)
+            throw new SQLException("result-set is not positioned on a row");
+        Object value = rows[row][columnIndex - 1];
+        wasNull = Objects.isNull(value);
+        if (value instanceof Timestamp)
+            return ((Timestamp) value).toLocalDateTime();
+        if (value instanceof Date)
+            return ((Date) value).toLocalDate();
+        return value;
+    }
+
+    @Override
+    public boolean next() {
+        if (row + 1 >= size) {
+            row = size;
+            return false;
+        }
+        row++;
+        return true;
+    }
+
+    @Override
+    public int getRow() {
+        return row < size ? row + 1 : 0;
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() {
+        return meta;
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        for (int i = 1; i <= meta.getColumnCount(); i++)
+            if (meta.getColumnLabel(i).equalsIgnoreCase(columnLabel))
+                return i;
+        throw new SQLException("column not found: " + columnLabel);
+    }
+
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        return Objects.isNull(value) ? null : value.toString();
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        if (Objects.isNull(value))
+            return false;
+        if (value instanceof Boolean)
+            return (Boolean) value;
+        if (value instanceof Number)
+            return ((Number) value).intValue() != 0;
+        return Boolean.parseBoolean(value.toString());
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+        return (byte) getLong(columnIndex);
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+        return (short) getLong(columnIndex);
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        return (int) getLong(columnIndex);
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        if (Objects.isNull(value))
+            return 0;
+        if (value instanceof Number)
+            return ((Number) value).longValue();
+        if (value instanceof Boolean)
+            return (Boolean) value ? 1 : 0;
+        return parse(value, columnIndex).longValue();
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+        return (float) getDouble(columnIndex);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        if (Objects.isNull(value))
+            return 0;
+        if (value instanceof Number)
+            return ((Number) value).doubleValue();
+        return parse(value, columnIndex).doubleValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        if (Objects.isNull(value) || value instanceof BigDecimal)
+            return (BigDecimal) value;
+        if (value instanceof Double || value instanceof Float)
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        if (value instanceof Number)
+            return BigDecimal.valueOf(((Number) value).longValue());
+        return parse(value, columnIndex);
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        if (Objects.isNull(value) || value instanceof byte[])
+            return (byte[]) value;
+        if (value instanceof UUID) {
+            UUID uuid = (UUID) value;
+            return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+        }
+        throw new SQLException("column " + columnIndex + " is not binary: " + value.getClass().getName());
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+        LocalDate value = getObject(columnIndex, LocalDate.class);
+        return Objects.isNull(value) ? null : Date.valueOf(value);
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+        LocalTime value = getObject(columnIndex, LocalTime.class);
+        return Objects.isNull(value) ? null : Time.valueOf(value);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        if (value instanceof OffsetDateTime)
+            return Timestamp.from(((OffsetDateTime) value).toInstant());
+        LocalDateTime timestamp = getObject(columnIndex, LocalDateTime.class);
+        return Objects.isNull(timestamp) ? null : Timestamp.valueOf(timestamp);
+    }
+
+    /**
+     * dates and times as {@code java.sql} types, like {@link ResultSet#getObject(int)} of JDBC drivers
+     */
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+        Object value = value(columnIndex);
+        if (value instanceof LocalDate)
+            return Date.valueOf((LocalDate) value);
+        if (value instanceof LocalTime)
+            return Time.valueOf((LocalTime) value);
+        if (value instanceof LocalDateTime)
+            return Timestamp.valueOf((LocalDateTime) value);
+        return value;
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        Object value = value(columnIndex);
+        if (Objects.isNull(value) || type.isInstance(value))
+            return (T) value;
+        if (type == String.class)
+            return (T) value.toString();
+        if (type == Integer.class)
+            return (T) (Integer) getInt(columnIndex);
+        if (type == Long.class)
+            return (T) (Long) getLong(columnIndex);
+        if (type == Short.class)
+            return (T) (Short) getShort(columnIndex);
+        if (type == Byte.class)
+            return (T) (Byte) getByte(columnIndex);
+        if (type == Double.class)
+            return (T) (Double) getDouble(columnIndex);
+        if (type == Float.class)
+            return (T) (Float) getFloat(columnIndex);
+        if (type == Boolean.class)
+            return (T) (Boolean) getBoolean(columnIndex);
+        if (type == BigDecimal.class)
+            return (T) getBigDecimal(columnIndex);
+        if (type == BigInteger.class && value instanceof Number)
+            return (T) getBigDecimal(columnIndex).toBigInteger();
+        if (value instanceof LocalDateTime || value instanceof OffsetDateTime) {
+            OffsetDateTime timestamp = value instanceof OffsetDateTime
+                    ? (OffsetDateTime) value
+                    : ((LocalDateTime) value).atZone(ZoneId.systemDefault()).toOffsetDateTime();
+            if (type == Instant.class)
+                return (T) timestamp.toInstant();
+            if (type == OffsetDateTime.class)
+                return (T) timestamp;
+            if (type == ZonedDateTime.class)
+                return (T) timestamp.toZonedDateTime();
+            if (type == LocalDateTime.class)
+                return (T) timestamp.toLocalDateTime();
+            if (type == LocalDate.class)
+                return (T) timestamp.toLocalDate();
+            if (type == LocalTime.class)
+                return (T) timestamp.toLocalTime();
+            if (type == Timestamp.class || type == java.util.Date.class)
+                return (T) getTimestamp(columnIndex);
+        }
+        if (type == UUID.class && value instanceof String)
+            return (T) UUID.fromString((String) value);
+        if (type == Date.class || type == Time.class || type == Timestamp.class || type == java.util.Date.class) {
+            Object converted = getObject(columnIndex);
+            if (type.isInstance(converted))
+                return (T) converted;
+        }
+        throw new SQLException("column " + columnIndex + " of " + value.getClass().getName() + " is not convertible to " + type.getName());
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        return getObject(findColumn(columnLabel), type);
+    }
+
+    private static BigDecimal parse(Object value, int columnIndex) throws SQLException {
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new SQLException("column " + columnIndex + " is not a number: " + value, e);
+        }
+    }
+}
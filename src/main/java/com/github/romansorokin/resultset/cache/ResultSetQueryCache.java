@@ -0,0 +1,355 @@
+package com.github.romansorokin.resultset.cache;
+
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Mapped query results keyed by SQL and parameters.
+ * Entries are evicted in least recently used order when the total weight exceeds the limit and expire after the time to live.
+ * Entries are tagged by the tables of all callers of the query and removed by {@link #invalidateTable(String)}.
+ * Concurrent misses of one key execute one query, the other callers wait for its result.
+ * Invalidation of a table or a query drops the results of loads in progress of the table or the query.
+ * Cached values are shared by all callers and must not be modified.
+ */
+public class ResultSetQueryCache<T> {
+    private final ResultSetQueryExecutor executor;
+    private final ResultSetMapper<T> mapper;
+    private final long maxWeight;
+    private final ToLongFunction<? super T> weigher;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<Key, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Set<Key>> keysByTable = new HashMap<>();
+    private final Map<Key, Load<T>> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+    private long weight;
+
+    /**
+     * cache of at most maxSize results
+     */
+    public ResultSetQueryCache(ResultSetQueryExecutor executor, ResultSetMapper<T> mapper, long maxSize, Duration ttl) {
+        this(executor, mapper, maxSize, value -> 1, ttl);
+    }
+
+    /**
+     * @param weigher weight of a mapped result, empty results weigh 1
+     * @param ttl     time to live of the entries after load
+     */
+    public ResultSetQueryCache(ResultSetQueryExecutor executor, ResultSetMapper<T> mapper, long maxWeight, ToLongFunction<? super T> weigher, Duration ttl) {
+        this(executor, mapper, maxWeight, weigher, ttl, System::nanoTime);
+    }
+
+    ResultSetQueryCache(ResultSetQueryExecutor executor, ResultSetMapper<T> mapper, long maxWeight, ToLongFunction<? super T> weigher, Duration ttl, LongSupplier ticker) {
+        if (maxWeight < 1)
+            throw new IllegalArgumentException("max weight must be positive: " + maxWeight);
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("time to live must be positive: " + ttl);
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.ttlNanos = ttl.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    public Optional<T> get(String sql, Object... parameters) throws SQLException {
+        return getTagged(sql, Set.of(), parameters);
+    }
+
+    /**
+     * @param tables tags of the entry for {@link #invalidateTable(String)}
+     */
+    public Optional<T> getTagged(String sql, Collection<String> tables, Object... parameters) throws SQLException {
+        Key key = new Key(sql, parameters.clone());
+        Set<String> tags = Set.copyOf(tables);
+        Entry<T> entry = getEntry(key, tags);
+        if (Objects.nonNull(entry)) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        Load<T> load = new Load<>(tags);
+        Load<T> running = loading.putIfAbsent(key, load);
+        if (Objects.nonNull(running)) {
+            tag(key, running, tags);
+            return join(running.future);
+        }
+        try {
+            entry = getEntry(key, tags);
+            if (Objects.nonNull(entry)) {
+                finish(key, load);
+                load.future.complete(entry.value);
+                return entry.value;
+            }
+            loads.increment();
+            Optional<T> value = executor.execute(sql, key.parameters, mapper);
+            put(key, load, value);
+            load.future.complete(value);
+            return value;
+        } catch (SQLException | RuntimeException | Error e) {
+            loadFailures.increment();
+            load.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * removes entries tagged by the table, loads in progress tagged by the table are not cached
+     */
+    public synchronized void invalidateTable(String table) {
+        for (Load<T> load : loading.values())
+            if (load.tables.contains(table))
+                load.stale = true;
+        Set<Key> keys = keysByTable.remove(table);
+        if (Objects.isNull(keys))
+            return;
+        for (Key key : keys) {
+            Entry<T> entry = entries.remove(key);
+            if (Objects.nonNull(entry)) {
+                removed(key, entry);
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * removes the entry of the query and the parameters, loads in progress are not cached
+     */
+    public synchronized void invalidateQuery(String sql, Object... parameters) {
+        Key key = new Key(sql, parameters);
+        Load<T> load = loading.get(key);
+        if (Objects.nonNull(load))
+            load.stale = true;
+        Entry<T> entry = entries.remove(key);
+        if (Objects.nonNull(entry)) {
+            removed(key, entry);
+            invalidations++;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        for (Load<T> load : loading.values())
+            load.stale = true;
+        invalidations += entries.size();
+        entries.clear();
+        keysByTable.clear();
+        weight = 0;
+    }
+
+    /**
+     * removes expired entries, expired entries are also removed on access and by evictions
+     */
+    public synchronized void cleanUp() {
+        long now = ticker.getAsLong();
+        Iterator<Map.Entry<Key, Entry<T>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry<T>> next = iterator.next();
+            if (!next.getValue().isExpired(now))
+                continue;
+            iterator.remove();
+            removed(next.getKey(), next.getValue());
+            expirations++;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized ResultSetQueryCacheStats getStats() {
+        return new ResultSetQueryCacheStats(hits.sum(), misses.sum(), loads.sum(), loadFailures.sum(), evictions, expirations, invalidations, weight, entries.size());
+    }
+
+    /**
+     * @param tables tags added to the entry
+     */
+    private synchronized Entry<T> getEntry(Key key, Set<String> tables) {
+        Entry<T> entry = entries.get(key);
+        if (Objects.isNull(entry))
+            return null;
+        if (!entry.isExpired(ticker.getAsLong())) {
+            addTags(key, entry, tables);
+            return entry;
+        }
+        entries.remove(key);
+        removed(key, entry);
+        expirations++;
+        return null;
+    }
+
+    /**
+     * tags of a caller of the load, added to the entry when the load is done
+     */
+    private synchronized void tag(Key key, Load<T> load, Set<String> tables) {
+        if (!load.done) {
+            load.tables.addAll(tables);
+            return;
+        }
+        Entry<T> entry = entries.get(key);
+        if (Objects.nonNull(entry))
+            addTags(key, entry, tables);
+    }
+
+    /**
+     * the entry was cached by another load, tags of the callers of the load are added to it
+     */
+    private synchronized void finish(Key key, Load<T> load) {
+        load.done = true;
+        Entry<T> entry = entries.get(key);
+        if (Objects.nonNull(entry))
+            addTags(key, entry, load.tables);
+    }
+
+    private void addTags(Key key, Entry<T> entry, Set<String> tables) {
+        for (String table : tables)
+            if (entry.tables.add(table))
+                keysByTable.computeIfAbsent(table, t -> new HashSet<>()).add(key);
+    }
+
+    private synchronized void put(Key key, Load<T> load, Optional<T> value) {
+        load.done = true;
+        if (load.stale)
+            return;
+        Set<String> tables = load.tables;
+        long entryWeight = value.isPresent() ? Math.max(1, weigher.applyAsLong(value.get())) : 1;
+        if (entryWeight > maxWeight)
+            return;
+        long now = ticker.getAsLong();
+        long expiresAt = ttlNanos == Long.MAX_VALUE || now > Long.MAX_VALUE - ttlNanos ? Long.MAX_VALUE : now + ttlNanos;
+        Entry<T> previous = entries.put(key, new Entry<>(value, new HashSet<>(tables), entryWeight, expiresAt));
+        if (Objects.nonNull(previous))
+            removed(key, previous);
+        weight += entryWeight;
+        for (String table : tables)
+            keysByTable.computeIfAbsent(table, t -> new HashSet<>()).add(key);
+        Iterator<Map.Entry<Key, Entry<T>>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            Map.Entry<Key, Entry<T>> next = eldest.next();
+            eldest.remove();
+            removed(next.getKey(), next.getValue());
+            if (next.getValue().isExpired(now))
+                expirations++;
+            else
+                evictions++;
+        }
+    }
+
+    private void removed(Key key, Entry<T> entry) {
+        weight -= entry.weight;
+        for (String table : entry.tables) {
+            Set<Key> keys = keysByTable.get(table);
+            if (Objects.nonNull(keys) && keys.remove(key) && keys.isEmpty())
+                keysByTable.remove(table);
+        }
+    }
+
+    private static <T> Optional<T> join(CompletableFuture<Optional<T>> load) throws SQLException {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResultSetMapperRuntimeException("interrupted on wait of query result", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException)
+                throw (SQLException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new ResultSetMapperRuntimeException("query result load", cause);
+        }
+    }
+
+    private static final class Key {
+        private final String sql;
+        private final Object[] parameters;
+        private final int hash;
+
+        private Key(String sql, Object[] parameters) {
+            this.sql = Objects.requireNonNull(sql, "sql");
+            this.parameters = parameters;
+            this.hash = 31 * sql.hashCode() + Arrays.deepHashCode(parameters);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return hash == key.hash && sql.equals(key.sql) && Arrays.deepEquals(parameters, key.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Load<T> {
+        private final CompletableFuture<Optional<T>> future = new CompletableFuture<>();
+        /**
+         * tags of the callers, guarded by the cache
+         */
+        private final Set<String> tables;
+        /**
+         * invalidated while loading, the result is not cached
+         */
+        private boolean stale;
+        /**
+         * the result is cached or dropped, tags of later callers are added to the entry
+         */
+        private boolean done;
+
+        private Load(Set<String> tables) {
+            this.tables = new HashSet<>(tables);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final Optional<T> value;
+        private final Set<String> tables;
+        private final long weight;
+        private final long expiresAt;
+
+        private Entry(Optional<T> value, Set<String> tables, long weight, long expiresAt) {
+            this.value = value;
+            this.tables = tables;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+}
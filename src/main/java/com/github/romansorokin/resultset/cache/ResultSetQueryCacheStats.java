@@ -0,0 +1,92 @@
+package com.github.romansorokin.resultset.cache;
+
+/**
+ * Snapshot of {@link ResultSetQueryCache} counters.
+ */
+public final class ResultSetQueryCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long loadFailureCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final long invalidationCount;
+    private final long weight;
+    private final int size;
+
+    public ResultSetQueryCacheStats(long hitCount, long missCount, long loadCount, long loadFailureCount, long evictionCount,
+                                    long expirationCount, long invalidationCount, long weight, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.loadFailureCount = loadFailureCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.invalidationCount = invalidationCount;
+        this.weight = weight;
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * misses include calls joined to a load of another thread
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * queries executed, one per concurrent misses of the same key
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * entries removed by the weight limit
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * entries removed by the time to live
+     */
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    /**
+     * entries removed by table tags and explicit invalidation
+     */
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultSetQueryCacheStats{hits=" + hitCount + ", misses=" + missCount + ", loads=" + loadCount + ", loadFailures=" + loadFailureCount
+                + ", evictions=" + evictionCount + ", expirations=" + expirationCount + ", invalidations=" + invalidationCount
+                + ", weight=" + weight + ", size=" + size + '}';
+    }
+}
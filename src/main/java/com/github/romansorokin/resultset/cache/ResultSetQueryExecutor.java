@@ -0,0 +1,33 @@
+package com.github.romansorokin.resultset.cache;
+
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+
+@FunctionalInterface
+public interface ResultSetQueryExecutor {
+    /**
+     * executes the query with the parameters and maps its result-set
+     */
+    <T> Optional<T> execute(String sql, Object[] parameters, ResultSetMapper<T> mapper) throws SQLException;
+
+    /**
+     * executor of prepared statements on connections of the data source, parameters are set by {@link PreparedStatement#setObject(int, Object)}
+     */
+    static ResultSetQueryExecutor of(DataSource dataSource) {
+        return new ResultSetQueryExecutor() {
+            @Override
+            public <T> Optional<T> execute(String sql, Object[] parameters, ResultSetMapper<T> mapper) throws SQLException {
+                try (Connection connection = dataSource.getConnection(); PreparedStatement statement = connection.prepareStatement(sql)) {
+                    for (int i = 0; i < parameters.length; i++)
+                        statement.setObject(i + 1, parameters[i]);
+                    return mapper.map(statement.executeQuery());
+                }
+            }
+        };
+    }
+}
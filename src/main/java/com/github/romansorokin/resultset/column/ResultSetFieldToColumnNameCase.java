@@ -1,15 +1,15 @@
 package com.github.romansorokin.resultset.column;
 
 import java.lang.reflect.Field;
+import java.util.function.UnaryOperator;
 
 public enum ResultSetFieldToColumnNameCase implements ResultSetFieldToColumnNameFunction {
-    FIELD_NAME(Field::getName),
+    FIELD_NAME(name -> name),
     /**
      * default for java
      * example: simpleFieldName
      */
-    CAMEL(f -> {
-        String name = f.getName();
+    CAMEL(name -> {
         char[] chars = name.toCharArray();
         StringBuilder sb = new StringBuilder();
         sb.append(Character.toLowerCase(chars[0]));
@@ -33,8 +33,8 @@ public enum ResultSetFieldToColumnNameCase implements ResultSetFieldToColumnName
      * When using snake case, all letters need to be lowercase.
      * example: simple_field_name
      */
-    SNAKE(f -> {
-        char[] chars = f.getName().toCharArray();
+    SNAKE(name -> {
+        char[] chars = name.toCharArray();
         StringBuilder sb = new StringBuilder();
         sb.append(Character.toLowerCase(chars[0]));
         for (int i = 1; i < chars.length; i++) {
@@ -53,8 +53,8 @@ public enum ResultSetFieldToColumnNameCase implements ResultSetFieldToColumnName
      * When using kebab case, all letters need to be lowercase.
      * example: simple-field-name
      */
-    KEBAB(f -> {
-        char[] chars = f.getName().replace("_", "-").toCharArray();
+    KEBAB(name -> {
+        char[] chars = name.replace("_", "-").toCharArray();
         StringBuilder sb = new StringBuilder();
         sb.append(Character.toLowerCase(chars[0]));
         for (int i = 1; i < chars.length; i++) {
@@ -72,8 +72,7 @@ public enum ResultSetFieldToColumnNameCase implements ResultSetFieldToColumnName
     /**
      * example: SimpleFieldName
      */
-    PASCAL(f -> {
-        String name = f.getName();
+    PASCAL(name -> {
         char[] chars = name.toCharArray();
         StringBuilder sb = new StringBuilder();
         sb.append(Character.toUpperCase(chars[0]));
@@ -94,14 +93,21 @@ public enum ResultSetFieldToColumnNameCase implements ResultSetFieldToColumnName
         return sb.toString();
     });
 
-    private final ResultSetFieldToColumnNameFunction func;
+    private final UnaryOperator<String> func;
 
-    ResultSetFieldToColumnNameCase(ResultSetFieldToColumnNameFunction func) {
+    ResultSetFieldToColumnNameCase(UnaryOperator<String> func) {
         this.func = func;
     }
 
     @Override
     public String getColumnName(Field field) {
-        return func.getColumnName(field);
+        return getColumnName(field.getName());
+    }
+
+    /**
+     * column name by field name, used where reflection is not available
+     */
+    public String getColumnName(String fieldName) {
+        return func.apply(fieldName);
     }
 }
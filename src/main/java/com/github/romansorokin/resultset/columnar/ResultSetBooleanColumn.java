@@ -0,0 +1,50 @@
+package com.github.romansorokin.resultset.columnar;
+
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldBooleanValueFunction;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+public class ResultSetBooleanColumn extends ResultSetColumn {
+    private final ResultSetFieldBooleanValueFunction getter = BaseResultSetFieldMapperFactory.getBooleanValueFunction();
+    private boolean[][] chunks = new boolean[0][];
+
+    public ResultSetBooleanColumn(String name, int sqlType) {
+        super(name, sqlType);
+    }
+
+    /**
+     * @return boolean value, default value when the value is null
+     */
+    public boolean getBoolean(int row) {
+        checkRow(row);
+        return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    public boolean[] toArray() {
+        boolean[] result = new boolean[size()];
+        for (int chunk = 0, row = 0; row < result.length; chunk++, row += CHUNK_SIZE)
+            System.arraycopy(chunks[chunk], 0, result, row, Math.min(CHUNK_SIZE, result.length - row));
+        return result;
+    }
+
+    @Override
+    public Boolean getObject(int row) {
+        return isNull(row) ? null : getBoolean(row);
+    }
+
+    @Override
+    protected void addChunk(int chunk) {
+        if (chunk == chunks.length)
+            chunks = Arrays.copyOf(chunks, getChunkCapacity(chunk, chunks.length));
+        chunks[chunk] = new boolean[CHUNK_SIZE];
+    }
+
+    @Override
+    protected boolean read(ResultSet rs, int columnIndex, int chunk, int offset) throws SQLException {
+        chunks[chunk][offset] = getter.getValue(rs, columnIndex);
+        return !rs.wasNull();
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.romansorokin.resultset.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Values of one result-set column, stored in chunks of {@link #CHUNK_SIZE} rows with a null bitmap.
+ * Chunks are appended as rows are read, filled chunks are never copied.
+ */
+public abstract class ResultSetColumn {
+    public static final int CHUNK_SIZE = 1 << 12;
+    static final int CHUNK_SHIFT = 12;
+    static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final String name;
+    private final int sqlType;
+    private long[][] nulls = new long[0][];
+    private int size;
+
+    protected ResultSetColumn(String name, int sqlType) {
+        this.name = name;
+        this.sqlType = sqlType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @see java.sql.Types
+     */
+    public int getSqlType() {
+        return sqlType;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isNull(int row) {
+        checkRow(row);
+        int offset = row & CHUNK_MASK;
+        return (nulls[row >>> CHUNK_SHIFT][offset >>> 6] & (1L << offset)) != 0;
+    }
+
+    /**
+     * @return boxed value, null when the value is null
+     */
+    public abstract Object getObject(int row);
+
+    void append(ResultSet rs, int columnIndex) throws SQLException {
+        int row = size;
+        int chunk = row >>> CHUNK_SHIFT;
+        int offset = row & CHUNK_MASK;
+        if (offset == 0) {
+            if (chunk == nulls.length)
+                nulls = Arrays.copyOf(nulls, getChunkCapacity(chunk, nulls.length));
+            nulls[chunk] = new long[CHUNK_SIZE / 64];
+            addChunk(chunk);
+        }
+        if (!read(rs, columnIndex, chunk, offset))
+            nulls[chunk][offset >>> 6] |= 1L << offset;
+        size = row + 1;
+    }
+
+    /**
+     * allocates the values of the chunk
+     */
+    protected abstract void addChunk(int chunk);
+
+    /**
+     * @return false when the value is null
+     */
+    protected abstract boolean read(ResultSet rs, int columnIndex, int chunk, int offset) throws SQLException;
+
+    protected void checkRow(int row) {
+        if (row < 0 || row >= size)
+            throw new IndexOutOfBoundsException("row " + row + " of " + size + ": " + name);
+    }
+
+    protected static int getChunkCapacity(int chunk, int length) {
+        return chunk < length ? length : Math.max(4, chunk * 2);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{name=" + name + ", size=" + size + "}";
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.romansorokin.resultset.columnar;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Column-oriented rows of a result-set, columns are found by name ignoring case.
+ */
+public class ResultSetColumnBatch {
+    private final List<ResultSetColumn> columns;
+    private final Map<String, ResultSetColumn> columnsByName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private int rowCount;
+
+    public ResultSetColumnBatch(List<ResultSetColumn> columns) {
+        this.columns = List.copyOf(columns);
+        for (ResultSetColumn column : this.columns)
+            columnsByName.putIfAbsent(column.getName(), column);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public List<ResultSetColumn> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    public ResultSetColumn getColumn(String name) {
+        ResultSetColumn column = columnsByName.get(name);
+        if (Objects.isNull(column))
+            throw new IllegalArgumentException("column not found: " + name);
+        return column;
+    }
+
+    public ResultSetIntColumn getIntColumn(String name) {
+        return getColumn(name, ResultSetIntColumn.class);
+    }
+
+    public ResultSetLongColumn getLongColumn(String name) {
+        return getColumn(name, ResultSetLongColumn.class);
+    }
+
+    public ResultSetDoubleColumn getDoubleColumn(String name) {
+        return getColumn(name, ResultSetDoubleColumn.class);
+    }
+
+    public ResultSetBooleanColumn getBooleanColumn(String name) {
+        return getColumn(name, ResultSetBooleanColumn.class);
+    }
+
+    public ResultSetStringColumn getStringColumn(String name) {
+        return getColumn(name, ResultSetStringColumn.class);
+    }
+
+    void incrementRowCount() {
+        rowCount++;
+    }
+
+    private <C extends ResultSetColumn> C getColumn(String name, Class<C> type) {
+        ResultSetColumn column = getColumn(name);
+        if (!type.isInstance(column))
+            throw new IllegalArgumentException("column " + name + " is " + column.getClass().getSimpleName() + ", not " + type.getSimpleName());
+        return type.cast(column);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultSetColumnBatch{rowCount=" + rowCount + ", columns=" + columns + "}";
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.romansorokin.resultset.columnar;
+
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Maps up to {@code batchSize} rows into one {@link ResultSetColumnBatch}.
+ * Column storage is chosen by {@link ResultSetMetaData#getColumnType(int)}:
+ * integer, bigint, floating point and boolean columns are primitive, character columns are dictionary-encoded,
+ * other columns are read by the registered getter of {@link ResultSetMetaData#getColumnClassName(int)}.
+ */
+public class ResultSetColumnarMapper implements ResultSetMapper<ResultSetColumnBatch> {
+    private final int batchSize;
+
+    public ResultSetColumnarMapper() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public ResultSetColumnarMapper(int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batch size must be positive: " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return false when there are no more rows, batches are never empty
+     */
+    @Override
+    public boolean mapNext(ResultSet rs, Consumer<? super ResultSetColumnBatch> sink) throws SQLException {
+        if (!rs.next())
+            return false;
+        ResultSetColumnBatch batch = new ResultSetColumnBatch(getColumns(rs.getMetaData()));
+        List<ResultSetColumn> columns = batch.getColumns();
+        int count = columns.size();
+        int rows = 0;
+        do {
+            for (int i = 0; i < count; i++)
+                columns.get(i).append(rs, i + 1);
+            batch.incrementRowCount();
+        } while (++rows < batchSize && rs.next());
+        sink.accept(batch);
+        return true;
+    }
+
+    protected List<ResultSetColumn> getColumns(ResultSetMetaData meta) throws SQLException {
+        int count = meta.getColumnCount();
+        List<ResultSetColumn> columns = new ArrayList<>(count);
+        for (int i = 1; i < count + 1; i++)
+            columns.add(getColumn(meta, i));
+        return columns;
+    }
+
+    protected ResultSetColumn getColumn(ResultSetMetaData meta, int columnIndex) throws SQLException {
+        String name = meta.getColumnName(columnIndex);
+        int sqlType = meta.getColumnType(columnIndex);
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return new ResultSetIntColumn(name, sqlType);
+            case Types.BIGINT:
+                return new ResultSetLongColumn(name, sqlType);
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new ResultSetDoubleColumn(name, sqlType);
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return new ResultSetBooleanColumn(name, sqlType);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return new ResultSetStringColumn(name, sqlType);
+            default:
+                return new ResultSetObjectColumn<>(name, sqlType, getColumnClass(meta, columnIndex));
+        }
+    }
+
+    private static Class<?> getColumnClass(ResultSetMetaData meta, int columnIndex) throws SQLException {
+        String className = meta.getColumnClassName(columnIndex);
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException | RuntimeException e) {
+            return Object.class;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.romansorokin.resultset.columnar;
+
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldDoubleValueFunction;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+public class ResultSetDoubleColumn extends ResultSetColumn {
+    private final ResultSetFieldDoubleValueFunction getter = BaseResultSetFieldMapperFactory.getDoubleValueFunction();
+    private double[][] chunks = new double[0][];
+
+    public ResultSetDoubleColumn(String name, int sqlType) {
+        super(name, sqlType);
+    }
+
+    /**
+     * @return double value, default value when the value is null
+     */
+    public double getDouble(int row) {
+        checkRow(row);
+        return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    public double[] toArray() {
+        double[] result = new double[size()];
+        for (int chunk = 0, row = 0; row < result.length; chunk++, row += CHUNK_SIZE)
+            System.arraycopy(chunks[chunk], 0, result, row, Math.min(CHUNK_SIZE, result.length - row));
+        return result;
+    }
+
+    @Override
+    public Double getObject(int row) {
+        return isNull(row) ? null : getDouble(row);
+    }
+
+    @Override
+    protected void addChunk(int chunk) {
+        if (chunk == chunks.length)
+            chunks = Arrays.copyOf(chunks, getChunkCapacity(chunk, chunks.length));
+        chunks[chunk] = new double[CHUNK_SIZE];
+    }
+
+    @Override
+    protected boolean read(ResultSet rs, int columnIndex, int chunk, int offset) throws SQLException {
+        chunks[chunk][offset] = getter.getValue(rs, columnIndex);
+        return !rs.wasNull();
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.romansorokin.resultset.columnar;
+
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldIntValueFunction;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+public class ResultSetIntColumn extends ResultSetColumn {
+    private final ResultSetFieldIntValueFunction getter = BaseResultSetFieldMapperFactory.getIntValueFunction();
+    private int[][] chunks = new int[0][];
+
+    public ResultSetIntColumn(String name, int sqlType) {
+        super(name, sqlType);
+    }
+
+    /**
+     * @return int value, default value when the value is null
+     */
+    public int getInt(int row) {
+        checkRow(row);
+        return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size()];
+        for (int chunk = 0, row = 0; row < result.length; chunk++, row += CHUNK_SIZE)
+            System.arraycopy(chunks[chunk], 0, result, row, Math.min(CHUNK_SIZE, result.length - row));
+        return result;
+    }
+
+    @Override
+    public Integer getObject(int row) {
+        return isNull(row) ? null : getInt(row);
+    }
+
+    @Override
+    protected void addChunk(int chunk) {
+        if (chunk == chunks.length)
+            chunks = Arrays.copyOf(chunks, getChunkCapacity(chunk, chunks.length));
+        chunks[chunk] = new int[CHUNK_SIZE];
+    }
+
+    @Override
+    protected boolean read(ResultSet rs, int columnIndex, int chunk, int offset) throws SQLException {
+        chunks[chunk][offset] = getter.getValue(rs, columnIndex);
+        return !rs.wasNull();
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.romansorokin.resultset.columnar;
+
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldLongValueFunction;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+public class ResultSetLongColumn extends ResultSetColumn {
+    private final ResultSetFieldLongValueFunction getter = BaseResultSetFieldMapperFactory.getLongValueFunction();
+    private long[][] chunks = new long[0][];
+
+    public ResultSetLongColumn(String name, int sqlType) {
+        super(name, sqlType);
+    }
+
+    /**
+     * @return long value, default value when the value is null
+     */
+    public long getLong(int row) {
+        checkRow(row);
+        return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size()];
+        for (int chunk = 0, row = 0; row < result.length; chunk++, row += CHUNK_SIZE)
+            System.arraycopy(chunks[chunk], 0, result, row, Math.min(CHUNK_SIZE, result.length - row));
+        return result;
+    }
+
+    @Override
+    public Long getObject(int row) {
+        return isNull(row) ? null : getLong(row);
+    }
+
+    @Override
+    protected void addChunk(int chunk) {
+        if (chunk == chunks.length)
+            chunks = Arrays.copyOf(chunks, getChunkCapacity(chunk, chunks.length));
+        chunks[chunk] = new long[CHUNK_SIZE];
+    }
+
+    @Override
+    protected boolean read(ResultSet rs, int columnIndex, int chunk, int offset) throws SQLException {
+        chunks[chunk][offset] = getter.getValue(rs, columnIndex);
+        return !rs.wasNull();
+    }
+}
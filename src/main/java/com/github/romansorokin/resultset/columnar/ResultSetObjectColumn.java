@@ -0,0 +1,49 @@
+package com.github.romansorokin.resultset.columnar;
+
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.ResultSetFieldValueByColumnIndexFunction;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Column of values without primitive or dictionary encoding, read by the registered getter of the column class.
+ */
+public class ResultSetObjectColumn<V> extends ResultSetColumn {
+    private final Class<V> type;
+    private final ResultSetFieldValueByColumnIndexFunction<V> getter;
+    private Object[][] chunks = new Object[0][];
+
+    public ResultSetObjectColumn(String name, int sqlType, Class<V> type) {
+        super(name, sqlType);
+        this.type = type;
+        this.getter = BaseResultSetFieldMapperFactory.getValueFunction(type);
+    }
+
+    public Class<V> getType() {
+        return type;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getObject(int row) {
+        checkRow(row);
+        return (V) chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    @Override
+    protected void addChunk(int chunk) {
+        if (chunk == chunks.length)
+            chunks = Arrays.copyOf(chunks, getChunkCapacity(chunk, chunks.length));
+        chunks[chunk] = new Object[CHUNK_SIZE];
+    }
+
+    @Override
+    protected boolean read(ResultSet rs, int columnIndex, int chunk, int offset) throws SQLException {
+        V value = getter.getValue(rs, columnIndex);
+        chunks[chunk][offset] = value;
+        return Objects.nonNull(value);
+    }
+}
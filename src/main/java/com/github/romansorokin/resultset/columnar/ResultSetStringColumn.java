@@ -0,0 +1,73 @@
+package com.github.romansorokin.resultset.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Dictionary-encoded string column: each row keeps the code of its distinct value.
+ */
+public class ResultSetStringColumn extends ResultSetColumn {
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+    private int[][] chunks = new int[0][];
+
+    public ResultSetStringColumn(String name, int sqlType) {
+        super(name, sqlType);
+    }
+
+    public String getString(int row) {
+        int code = getCode(row);
+        return code < 0 ? null : dictionary.get(code);
+    }
+
+    /**
+     * @return index of the value in {@link #getDictionary()}, -1 when the value is null
+     */
+    public int getCode(int row) {
+        checkRow(row);
+        return chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    /**
+     * distinct values in order of appearance
+     */
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(dictionary);
+    }
+
+    @Override
+    public String getObject(int row) {
+        return getString(row);
+    }
+
+    @Override
+    protected void addChunk(int chunk) {
+        if (chunk == chunks.length)
+            chunks = Arrays.copyOf(chunks, getChunkCapacity(chunk, chunks.length));
+        chunks[chunk] = new int[CHUNK_SIZE];
+    }
+
+    @Override
+    protected boolean read(ResultSet rs, int columnIndex, int chunk, int offset) throws SQLException {
+        String value = rs.getString(columnIndex);
+        if (Objects.isNull(value)) {
+            chunks[chunk][offset] = -1;
+            return false;
+        }
+        Integer code = codes.get(value);
+        if (Objects.isNull(code)) {
+            code = dictionary.size();
+            dictionary.add(value);
+            codes.put(value, code);
+        }
+        chunks[chunk][offset] = code;
+        return true;
+    }
+}
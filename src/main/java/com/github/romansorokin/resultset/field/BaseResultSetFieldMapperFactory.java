@@ -1,7 +1,31 @@
 package com.github.romansorokin.resultset.field;
 
+import com.github.romansorokin.resultset.ResultSetMapperFactoryUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetField;
+import com.github.romansorokin.resultset.field.enums.ResultSetEnumMapping;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldBooleanSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldBooleanValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldByteSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldByteValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldShortSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldShortValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldIntSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldIntValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldLongSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldLongValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldFloatSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldFloatValueFunction;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldDoubleSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldDoubleValueFunction;
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
+
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -9,42 +33,417 @@ import java.util.function.BiConsumer;
 
 public class BaseResultSetFieldMapperFactory<E> implements ResultSetFieldMapperFactory<E> {
     protected static final Map<Class<?>, ResultSetFieldValueByColumnIndexFunction<?>> MAPPERS = new ConcurrentHashMap<>();
+    /**
+     * unboxed getters of primitive field types
+     */
+    protected static final Map<Class<?>, Object> PRIMITIVE_MAPPERS = new ConcurrentHashMap<>();
+
+    private static final ResultSetFieldBooleanValueFunction DEFAULT_BOOLEAN = ResultSet::getBoolean;
+    private static final ResultSetFieldByteValueFunction DEFAULT_BYTE = ResultSet::getByte;
+    private static final ResultSetFieldShortValueFunction DEFAULT_SHORT = ResultSet::getShort;
+    private static final ResultSetFieldIntValueFunction DEFAULT_INT = ResultSet::getInt;
+    private static final ResultSetFieldLongValueFunction DEFAULT_LONG = ResultSet::getLong;
+    private static final ResultSetFieldFloatValueFunction DEFAULT_FLOAT = ResultSet::getFloat;
+    private static final ResultSetFieldDoubleValueFunction DEFAULT_DOUBLE = ResultSet::getDouble;
 
     static {
-        MAPPERS.put(boolean.class, ResultSet::getBoolean);
-        MAPPERS.put(byte.class, ResultSet::getByte);
-        MAPPERS.put(short.class, ResultSet::getShort);
-        MAPPERS.put(int.class, ResultSet::getInt);
-        MAPPERS.put(long.class, ResultSet::getLong);
-        MAPPERS.put(float.class, ResultSet::getFloat);
-        MAPPERS.put(double.class, ResultSet::getDouble);
-        MAPPERS.put(byte[].class, ResultSet::getBytes);
+        reset();
     }
 
+    /**
+     * {@link ResultSet} getters of the default value functions
+     */
+    private static final Map<Object, Method> JDBC_GETTERS = getJdbcGetters();
+
+    private static volatile ResultSetConverterRegistry converterRegistry = ResultSetConverterRegistry.defaults();
+
+    /**
+     * converters of mappers built after the call, null disables converters
+     */
+    public static void setConverterRegistry(ResultSetConverterRegistry registry) {
+        converterRegistry = Objects.isNull(registry) ? ResultSetConverterRegistry.empty() : registry;
+    }
+
+    public static ResultSetConverterRegistry getConverterRegistry() {
+        return converterRegistry;
+    }
+
+    /**
+     * getters registered by {@link #register(Class, ResultSetFieldValueByColumnIndexFunction)} are used for all column types,
+     * other field types are mapped by the converter of the column type, resolved once per result-set layout
+     */
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     public <V> ResultSetFieldMapper<E> getFieldMapper(Field field, BiConsumer<E, V> setter) {
+        Class<V> type = (Class<V>) field.getType();
+        ResultSetFieldValueByColumnIndexFunction<V> func = getValueFunction(field);
+        if (MAPPERS.containsKey(type))
+            return (entity, rs, index) -> setter.accept(entity, func.getValue(rs, index));
+        ResultSetConverterRegistry converters = getConverters();
+        ResultSetFieldValueByColumnIndexFunction<V> any = converters.get(type);
+        ResultSetFieldValueByColumnIndexFunction<V> getter = Objects.isNull(any) ? func : any;
+        return new ResultSetTypedFieldMapper<>() {
+            @Override
+            public void map(E entity, ResultSet rs, int columnIndex) throws SQLException {
+                setter.accept(entity, getter.getValue(rs, columnIndex));
+            }
+
+            @Override
+            public ResultSetFieldMapper<E> forColumnType(int columnType) {
+                ResultSetFieldValueByColumnIndexFunction<V> converter = converters.get(columnType, type);
+                if (Objects.isNull(converter) || converter == any)
+                    return this;
+                return (entity, rs, index) -> setter.accept(entity, converter.getValue(rs, index));
+            }
+        };
+    }
+
+    /**
+     * value function of the field mappers of this factory for the column type, {@link ResultSetConverterRegistry#ANY_COLUMN_TYPE} when it is unknown
+     */
+    public <V> ResultSetFieldValueByColumnIndexFunction<V> getValueFunction(Field field, int columnType) {
+        @SuppressWarnings("unchecked")
+        Class<V> type = (Class<V>) field.getType();
+        if (MAPPERS.containsKey(type))
+            return getValueFunction(field);
+        ResultSetFieldValueByColumnIndexFunction<V> converter = getConverters().get(columnType, type);
+        return Objects.isNull(converter) ? getValueFunction(field) : converter;
+    }
+
+    /**
+     * @return {@link ResultSet} getter called by the field mappers of this factory for the column type, like getInt of int fields,
+     * null when the field type has a registered getter or a converter
+     */
+    public Method getJdbcGetter(Field field, int columnType) {
+        Class<?> type = field.getType();
+        Object getter = type.isPrimitive() ? PRIMITIVE_MAPPERS.get(type) : getValueFunction(field, columnType);
+        if (Objects.isNull(getter))
+            return null;
+        Method method = JDBC_GETTERS.get(getter);
+        return Objects.nonNull(method) && method.getReturnType() == type ? method : null;
+    }
+
+    /**
+     * converters of the field mappers of this factory, {@link #getConverterRegistry()} by default
+     */
+    protected ResultSetConverterRegistry getConverters() {
+        return converterRegistry;
+    }
+
+    @Override
+    public ResultSetFieldMapper<E> getFieldMapper(Field field, ResultSetFieldAccess access) {
         Class<?> type = field.getType();
-        if (type.isEnum()) {
-            Class<Enum> enumType = (Class<Enum>) type;
+        Object primitive = PRIMITIVE_MAPPERS.get(type);
+        if (Objects.isNull(primitive))
+            return getFieldMapper(field, access.getSetter(field));
+        if (type == boolean.class) {
+            ResultSetFieldBooleanValueFunction getter = (ResultSetFieldBooleanValueFunction) primitive;
+            ResultSetFieldBooleanSetter<E> setter = access.getBooleanSetter(field);
+            return (entity, rs, index) -> setter.set(entity, getter.getValue(rs, index));
+        }
+        if (type == byte.class) {
+            ResultSetFieldByteValueFunction getter = (ResultSetFieldByteValueFunction) primitive;
+            ResultSetFieldByteSetter<E> setter = access.getByteSetter(field);
+            return (entity, rs, index) -> setter.set(entity, getter.getValue(rs, index));
+        }
+        if (type == short.class) {
+            ResultSetFieldShortValueFunction getter = (ResultSetFieldShortValueFunction) primitive;
+            ResultSetFieldShortSetter<E> setter = access.getShortSetter(field);
+            return (entity, rs, index) -> setter.set(entity, getter.getValue(rs, index));
+        }
+        if (type == int.class) {
+            ResultSetFieldIntValueFunction getter = (ResultSetFieldIntValueFunction) primitive;
+            ResultSetFieldIntSetter<E> setter = access.getIntSetter(field);
+            return (entity, rs, index) -> setter.set(entity, getter.getValue(rs, index));
+        }
+        if (type == long.class) {
+            ResultSetFieldLongValueFunction getter = (ResultSetFieldLongValueFunction) primitive;
+            ResultSetFieldLongSetter<E> setter = access.getLongSetter(field);
+            return (entity, rs, index) -> setter.set(entity, getter.getValue(rs, index));
+        }
+        if (type == float.class) {
+            ResultSetFieldFloatValueFunction getter = (ResultSetFieldFloatValueFunction) primitive;
+            ResultSetFieldFloatSetter<E> setter = access.getFloatSetter(field);
+            return (entity, rs, index) -> setter.set(entity, getter.getValue(rs, index));
+        }
+        if (type == double.class) {
+            ResultSetFieldDoubleValueFunction getter = (ResultSetFieldDoubleValueFunction) primitive;
+            ResultSetFieldDoubleSetter<E> setter = access.getDoubleSetter(field);
+            return (entity, rs, index) -> setter.set(entity, getter.getValue(rs, index));
+        }
+        throw new IllegalStateException("primitive getter of unknown type: " + type);
+    }
+
+    /**
+     * unboxed mapper of a primitive field of the instance resolved by the target after the column is read
+     *
+     * @return null when the field type has no unboxed getter
+     */
+    public static <E> ResultSetFieldMapper<E> getFieldMapper(Field field, ResultSetFieldAccess access, ResultSetFieldTarget<E> target) {
+        Class<?> type = field.getType();
+        Object primitive = PRIMITIVE_MAPPERS.get(type);
+        if (Objects.isNull(primitive))
+            return null;
+        if (type == boolean.class) {
+            ResultSetFieldBooleanValueFunction getter = (ResultSetFieldBooleanValueFunction) primitive;
+            ResultSetFieldBooleanSetter<Object> setter = access.getBooleanSetter(field);
             return (entity, rs, index) -> {
-                V value = (V) Enum.valueOf(enumType, rs.getString(index));
-                setter.accept(entity, value);
+                boolean value = getter.getValue(rs, index);
+                Object instance = target.get(entity, rs.wasNull());
+                if (Objects.nonNull(instance))
+                    setter.set(instance, value);
             };
         }
-        ResultSetFieldValueByColumnIndexFunction<V> func = (ResultSetFieldValueByColumnIndexFunction<V>) MAPPERS.get(type);
-        if (Objects.nonNull(func))
+        if (type == byte.class) {
+            ResultSetFieldByteValueFunction getter = (ResultSetFieldByteValueFunction) primitive;
+            ResultSetFieldByteSetter<Object> setter = access.getByteSetter(field);
+            return (entity, rs, index) -> {
+                byte value = getter.getValue(rs, index);
+                Object instance = target.get(entity, rs.wasNull());
+                if (Objects.nonNull(instance))
+                    setter.set(instance, value);
+            };
+        }
+        if (type == short.class) {
+            ResultSetFieldShortValueFunction getter = (ResultSetFieldShortValueFunction) primitive;
+            ResultSetFieldShortSetter<Object> setter = access.getShortSetter(field);
+            return (entity, rs, index) -> {
+                short value = getter.getValue(rs, index);
+                Object instance = target.get(entity, rs.wasNull());
+                if (Objects.nonNull(instance))
+                    setter.set(instance, value);
+            };
+        }
+        if (type == int.class) {
+            ResultSetFieldIntValueFunction getter = (ResultSetFieldIntValueFunction) primitive;
+            ResultSetFieldIntSetter<Object> setter = access.getIntSetter(field);
+            return (entity, rs, index) -> {
+                int value = getter.getValue(rs, index);
+                Object instance = target.get(entity, rs.wasNull());
+                if (Objects.nonNull(instance))
+                    setter.set(instance, value);
+            };
+        }
+        if (type == long.class) {
+            ResultSetFieldLongValueFunction getter = (ResultSetFieldLongValueFunction) primitive;
+            ResultSetFieldLongSetter<Object> setter = access.getLongSetter(field);
+            return (entity, rs, index) -> {
+                long value = getter.getValue(rs, index);
+                Object instance = target.get(entity, rs.wasNull());
+                if (Objects.nonNull(instance))
+                    setter.set(instance, value);
+            };
+        }
+        if (type == float.class) {
+            ResultSetFieldFloatValueFunction getter = (ResultSetFieldFloatValueFunction) primitive;
+            ResultSetFieldFloatSetter<Object> setter = access.getFloatSetter(field);
+            return (entity, rs, index) -> {
+                float value = getter.getValue(rs, index);
+                Object instance = target.get(entity, rs.wasNull());
+                if (Objects.nonNull(instance))
+                    setter.set(instance, value);
+            };
+        }
+        if (type == double.class) {
+            ResultSetFieldDoubleValueFunction getter = (ResultSetFieldDoubleValueFunction) primitive;
+            ResultSetFieldDoubleSetter<Object> setter = access.getDoubleSetter(field);
             return (entity, rs, index) -> {
-                V value = func.getValue(rs, index);
-                setter.accept(entity, value);
+                double value = getter.getValue(rs, index);
+                Object instance = target.get(entity, rs.wasNull());
+                if (Objects.nonNull(instance))
+                    setter.set(instance, value);
             };
-        return (entity, rs, index) -> {
-            V value = (V) rs.getObject(index, type);
-            setter.accept(entity, value);
+        }
+        throw new IllegalStateException("primitive getter of unknown type: " + type);
+    }
+
+    /**
+     * value getter of the field: enum by {@link ResultSetField#enumMapping()} or getter of the field type
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <V> ResultSetFieldValueByColumnIndexFunction<V> getValueFunction(Field field) {
+        Class<?> type = field.getType();
+        if (!type.isEnum())
+            return getValueFunction(type);
+        Annotation annotation = ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByAnnotatedElement(field).get(ResultSetField.class);
+        ResultSetField resultSetField = Objects.isNull(annotation) ? ResultSetMapperFactoryUtils.DEFAULT_RESULT_SET_FIELD : (ResultSetField) annotation;
+        return (ResultSetFieldValueByColumnIndexFunction<V>) resultSetField.enumMapping().getValueFunction((Class<Enum>) type, resultSetField.enumFallback());
+    }
+
+    /**
+     * value getter of the field type: registered getter, enum by name or {@link ResultSet#getObject(int, Class)}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <V> ResultSetFieldValueByColumnIndexFunction<V> getValueFunction(Class<?> type) {
+        if (type.isEnum())
+            return (ResultSetFieldValueByColumnIndexFunction<V>) ResultSetEnumMapping.NAME.getValueFunction((Class<Enum>) type, "");
+        ResultSetFieldValueByColumnIndexFunction<V> func = (ResultSetFieldValueByColumnIndexFunction<V>) MAPPERS.get(type);
+        if (Objects.nonNull(func))
+            return func;
+        return (rs, index) -> (V) rs.getObject(index, type);
+    }
+
+    /**
+     * value function of the field type for the column type by the registered getter or the converter of {@link #getConverterRegistry()},
+     * like the field mappers of this factory, {@link ResultSetConverterRegistry#ANY_COLUMN_TYPE} when the column type is unknown
+     */
+    public static <V> ResultSetFieldValueByColumnIndexFunction<V> getValueFunction(Class<V> type, int columnType) {
+        if (MAPPERS.containsKey(type))
+            return getValueFunction(type);
+        ResultSetFieldValueByColumnIndexFunction<V> converter = converterRegistry.get(columnType, type);
+        return Objects.isNull(converter) ? getValueFunction(type) : converter;
+    }
+
+    public static ResultSetFieldBooleanValueFunction getBooleanValueFunction() {
+        Object primitive = PRIMITIVE_MAPPERS.get(boolean.class);
+        if (Objects.nonNull(primitive))
+            return (ResultSetFieldBooleanValueFunction) primitive;
+        ResultSetFieldValueByColumnIndexFunction<Boolean> boxed = getValueFunction(boolean.class);
+        return (rs, index) -> Boolean.TRUE.equals(boxed.getValue(rs, index));
+    }
+
+    public static ResultSetFieldByteValueFunction getByteValueFunction() {
+        Object primitive = PRIMITIVE_MAPPERS.get(byte.class);
+        if (Objects.nonNull(primitive))
+            return (ResultSetFieldByteValueFunction) primitive;
+        ResultSetFieldValueByColumnIndexFunction<Byte> boxed = getValueFunction(byte.class);
+        return (rs, index) -> {
+            Byte value = boxed.getValue(rs, index);
+            return Objects.isNull(value) ? 0 : value;
+        };
+    }
+
+    public static ResultSetFieldShortValueFunction getShortValueFunction() {
+        Object primitive = PRIMITIVE_MAPPERS.get(short.class);
+        if (Objects.nonNull(primitive))
+            return (ResultSetFieldShortValueFunction) primitive;
+        ResultSetFieldValueByColumnIndexFunction<Short> boxed = getValueFunction(short.class);
+        return (rs, index) -> {
+            Short value = boxed.getValue(rs, index);
+            return Objects.isNull(value) ? 0 : value;
+        };
+    }
+
+    public static ResultSetFieldIntValueFunction getIntValueFunction() {
+        Object primitive = PRIMITIVE_MAPPERS.get(int.class);
+        if (Objects.nonNull(primitive))
+            return (ResultSetFieldIntValueFunction) primitive;
+        ResultSetFieldValueByColumnIndexFunction<Integer> boxed = getValueFunction(int.class);
+        return (rs, index) -> {
+            Integer value = boxed.getValue(rs, index);
+            return Objects.isNull(value) ? 0 : value;
+        };
+    }
+
+    public static ResultSetFieldLongValueFunction getLongValueFunction() {
+        Object primitive = PRIMITIVE_MAPPERS.get(long.class);
+        if (Objects.nonNull(primitive))
+            return (ResultSetFieldLongValueFunction) primitive;
+        ResultSetFieldValueByColumnIndexFunction<Long> boxed = getValueFunction(long.class);
+        return (rs, index) -> {
+            Long value = boxed.getValue(rs, index);
+            return Objects.isNull(value) ? 0 : value;
         };
     }
 
+    public static ResultSetFieldFloatValueFunction getFloatValueFunction() {
+        Object primitive = PRIMITIVE_MAPPERS.get(float.class);
+        if (Objects.nonNull(primitive))
+            return (ResultSetFieldFloatValueFunction) primitive;
+        ResultSetFieldValueByColumnIndexFunction<Float> boxed = getValueFunction(float.class);
+        return (rs, index) -> {
+            Float value = boxed.getValue(rs, index);
+            return Objects.isNull(value) ? 0 : value;
+        };
+    }
+
+    public static ResultSetFieldDoubleValueFunction getDoubleValueFunction() {
+        Object primitive = PRIMITIVE_MAPPERS.get(double.class);
+        if (Objects.nonNull(primitive))
+            return (ResultSetFieldDoubleValueFunction) primitive;
+        ResultSetFieldValueByColumnIndexFunction<Double> boxed = getValueFunction(double.class);
+        return (rs, index) -> {
+            Double value = boxed.getValue(rs, index);
+            return Objects.isNull(value) ? 0 : value;
+        };
+    }
+
+    /**
+     * boxed getter of a primitive field type replaces its unboxed getter.
+     * The getter of other types is used for columns of all types, prefer converters of {@link #setConverterRegistry(ResultSetConverterRegistry)}
+     */
+    private static Map<Object, Method> getJdbcGetters() {
+        Map<Object, Method> getters = new IdentityHashMap<>();
+        ResultSetConverterRegistry defaults = ResultSetConverterRegistry.defaults();
+        try {
+            getters.put(DEFAULT_BOOLEAN, ResultSet.class.getMethod("getBoolean", int.class));
+            getters.put(DEFAULT_BYTE, ResultSet.class.getMethod("getByte", int.class));
+            getters.put(DEFAULT_SHORT, ResultSet.class.getMethod("getShort", int.class));
+            getters.put(DEFAULT_INT, ResultSet.class.getMethod("getInt", int.class));
+            getters.put(DEFAULT_LONG, ResultSet.class.getMethod("getLong", int.class));
+            getters.put(DEFAULT_FLOAT, ResultSet.class.getMethod("getFloat", int.class));
+            getters.put(DEFAULT_DOUBLE, ResultSet.class.getMethod("getDouble", int.class));
+            getters.put(defaults.get(String.class), ResultSet.class.getMethod("getString", int.class));
+            getters.put(defaults.get(BigDecimal.class), ResultSet.class.getMethod("getBigDecimal", int.class));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("result-set getter not found", e);
+        }
+        return getters;
+    }
+
+    /**
+     * drops registered getters and reinstalls the default getters of the primitive field types
+     */
+    public static void reset() {
+        MAPPERS.clear();
+        PRIMITIVE_MAPPERS.clear();
+        registerBoolean(DEFAULT_BOOLEAN);
+        registerByte(DEFAULT_BYTE);
+        registerShort(DEFAULT_SHORT);
+        registerInt(DEFAULT_INT);
+        registerLong(DEFAULT_LONG);
+        registerFloat(DEFAULT_FLOAT);
+        registerDouble(DEFAULT_DOUBLE);
+        MAPPERS.put(byte[].class, ResultSetMappingRecorder::getBytes);
+    }
+
     public static <V> void register(Class<V> fieldType, ResultSetFieldValueByColumnIndexFunction<V> getter) {
         MAPPERS.put(fieldType, getter);
+        PRIMITIVE_MAPPERS.remove(fieldType);
+    }
+
+    public static void registerBoolean(ResultSetFieldBooleanValueFunction getter) {
+        PRIMITIVE_MAPPERS.put(boolean.class, getter);
+        MAPPERS.put(boolean.class, (ResultSetFieldValueByColumnIndexFunction<Boolean>) getter::getValue);
+    }
+
+    public static void registerByte(ResultSetFieldByteValueFunction getter) {
+        PRIMITIVE_MAPPERS.put(byte.class, getter);
+        MAPPERS.put(byte.class, (ResultSetFieldValueByColumnIndexFunction<Byte>) getter::getValue);
+    }
+
+    public static void registerShort(ResultSetFieldShortValueFunction getter) {
+        PRIMITIVE_MAPPERS.put(short.class, getter);
+        MAPPERS.put(short.class, (ResultSetFieldValueByColumnIndexFunction<Short>) getter::getValue);
+    }
+
+    public static void registerInt(ResultSetFieldIntValueFunction getter) {
+        PRIMITIVE_MAPPERS.put(int.class, getter);
+        MAPPERS.put(int.class, (ResultSetFieldValueByColumnIndexFunction<Integer>) getter::getValue);
+    }
+
+    public static void registerLong(ResultSetFieldLongValueFunction getter) {
+        PRIMITIVE_MAPPERS.put(long.class, getter);
+        MAPPERS.put(long.class, (ResultSetFieldValueByColumnIndexFunction<Long>) getter::getValue);
+    }
+
+    public static void registerFloat(ResultSetFieldFloatValueFunction getter) {
+        PRIMITIVE_MAPPERS.put(float.class, getter);
+        MAPPERS.put(float.class, (ResultSetFieldValueByColumnIndexFunction<Float>) getter::getValue);
+    }
+
+    public static void registerDouble(ResultSetFieldDoubleValueFunction getter) {
+        PRIMITIVE_MAPPERS.put(double.class, getter);
+        MAPPERS.put(double.class, (ResultSetFieldValueByColumnIndexFunction<Double>) getter::getValue);
     }
-}
\ No newline at end of file
+}
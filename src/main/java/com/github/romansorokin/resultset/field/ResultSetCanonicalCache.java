@@ -0,0 +1,126 @@
+package com.github.romansorokin.resultset.field;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Direct-mapped cache of column values: equal values are replaced by one shared instance.
+ * A value evicts the cached value with the same slot, reads and writes are lock-free.
+ * Values must be immutable.
+ * Caches of fields are held by the declaring class, they do not keep classes of an unloaded class loader.
+ */
+public final class ResultSetCanonicalCache {
+    private static final ClassValue<Map<String, ResultSetCanonicalCache>> CACHES = new ClassValue<>() {
+        @Override
+        protected Map<String, ResultSetCanonicalCache> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final int size;
+    private final AtomicReferenceArray<Object> values;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param size rounded up to a power of two
+     */
+    public ResultSetCanonicalCache(int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("canonical cache size must be positive: " + size);
+        int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        if (capacity < 0)
+            throw new IllegalArgumentException("canonical cache size is too large: " + size);
+        this.size = size;
+        this.values = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * cache of the field shared by all its mappers, the size must be the same for all of them
+     */
+    public static ResultSetCanonicalCache of(Field field, int size) {
+        ResultSetCanonicalCache cache = CACHES.get(field.getDeclaringClass()).computeIfAbsent(field.getName(), key -> new ResultSetCanonicalCache(size));
+        if (cache.size != size)
+            throw new IllegalArgumentException("canonical cache size " + size + " differs from size " + cache.size + " of field " + field);
+        return cache;
+    }
+
+    /**
+     * @return cache of the field, null when values of the field are not canonicalized
+     */
+    public static ResultSetCanonicalCache get(Field field) {
+        return CACHES.get(field.getDeclaringClass()).get(field.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V canonicalize(V value) {
+        if (Objects.isNull(value))
+            return null;
+        int hash = value.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        Object cached = values.get(index);
+        if (value.equals(cached)) {
+            hits.increment();
+            return (V) cached;
+        }
+        values.set(index, value);
+        misses.increment();
+        return value;
+    }
+
+    public <E, V> BiConsumer<E, V> getSetter(BiConsumer<E, V> setter) {
+        return (entity, value) -> setter.accept(entity, canonicalize(value));
+    }
+
+    /**
+     * factory passing canonical values to the setters, primitives are written boxed
+     */
+    public <E> ResultSetFieldMapperFactory<E> getFieldMapperFactory(ResultSetFieldMapperFactory<E> factory) {
+        return new ResultSetFieldMapperFactory<>() {
+            @Override
+            public <V> ResultSetFieldMapper<E> getFieldMapper(Field field, BiConsumer<E, V> setter) {
+                return factory.getFieldMapper(field, getSetter(setter));
+            }
+        };
+    }
+
+    public int getCapacity() {
+        return values.length();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return share of values found in the cache, 0 when there were no values
+     */
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    public void clear() {
+        for (int i = 0; i < values.length(); i++)
+            values.set(i, null);
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ResultSetCanonicalCache{capacity=" + getCapacity() + ", hits=" + getHits() + ", misses=" + getMisses() + "}";
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.romansorokin.resultset.field;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Immutable converters of column values to field types keyed by the {@link Types} of the column and the field type.
+ * Converters of {@link #ANY_COLUMN_TYPE} are used for columns of other and unknown types.
+ * Mappers resolve the converter once per result-set layout, see {@link ResultSetTypedFieldMapper}.
+ */
+public final class ResultSetConverterRegistry {
+    public static final int ANY_COLUMN_TYPE = Integer.MIN_VALUE;
+
+    private static final ResultSetConverterRegistry EMPTY = new ResultSetConverterRegistry(Map.of());
+    private static final ResultSetConverterRegistry DEFAULTS = getDefaults();
+
+    private final Map<Key, ResultSetFieldValueByColumnIndexFunction<?>> converters;
+
+    private ResultSetConverterRegistry(Map<Key, ResultSetFieldValueByColumnIndexFunction<?>> converters) {
+        this.converters = converters;
+    }
+
+    public static ResultSetConverterRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * converters by typed getters of {@link ResultSet} instead of {@link ResultSet#getObject(int, Class)}:
+     * strings, decimals, boxed numbers and booleans of the same column type, UUID of binary and character columns,
+     * {@link Instant} of epoch milliseconds and of timestamps with time zone
+     */
+    public static ResultSetConverterRegistry defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @return registry with the converter, the converter of the same column and field types is replaced
+     */
+    public <V> ResultSetConverterRegistry with(int columnType, Class<V> fieldType, ResultSetFieldValueByColumnIndexFunction<? extends V> converter) {
+        Objects.requireNonNull(fieldType, "field type");
+        Objects.requireNonNull(converter, "converter");
+        Map<Key, ResultSetFieldValueByColumnIndexFunction<?>> copy = new HashMap<>(converters);
+        copy.put(new Key(columnType, fieldType), converter);
+        return new ResultSetConverterRegistry(Map.copyOf(copy));
+    }
+
+    /**
+     * @return registry with the converter of columns of any type
+     */
+    public <V> ResultSetConverterRegistry with(Class<V> fieldType, ResultSetFieldValueByColumnIndexFunction<? extends V> converter) {
+        return with(ANY_COLUMN_TYPE, fieldType, converter);
+    }
+
+    /**
+     * @return registry with the converter of each column type
+     */
+    public <V> ResultSetConverterRegistry with(int[] columnTypes, Class<V> fieldType, ResultSetFieldValueByColumnIndexFunction<? extends V> converter) {
+        ResultSetConverterRegistry registry = this;
+        for (int columnType : columnTypes)
+            registry = registry.with(columnType, fieldType, converter);
+        return registry;
+    }
+
+    /**
+     * @return converter of the column type or of any column type, null when there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <V> ResultSetFieldValueByColumnIndexFunction<V> get(int columnType, Class<V> fieldType) {
+        ResultSetFieldValueByColumnIndexFunction<?> converter = converters.get(new Key(columnType, fieldType));
+        if (Objects.isNull(converter) && columnType != ANY_COLUMN_TYPE)
+            converter = converters.get(new Key(ANY_COLUMN_TYPE, fieldType));
+        return (ResultSetFieldValueByColumnIndexFunction<V>) converter;
+    }
+
+    /**
+     * @return converter of any column type, null when there is none
+     */
+    public <V> ResultSetFieldValueByColumnIndexFunction<V> get(Class<V> fieldType) {
+        return get(ANY_COLUMN_TYPE, fieldType);
+    }
+
+    public int size() {
+        return converters.size();
+    }
+
+    private static ResultSetConverterRegistry getDefaults() {
+        int[] characterTypes = {Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR};
+        int[] binaryTypes = {Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY};
+        return EMPTY
+                .with(String.class, ResultSet::getString)
+                .with(BigDecimal.class, ResultSet::getBigDecimal)
+                .with(new int[]{Types.TINYINT, Types.SMALLINT, Types.INTEGER}, Integer.class, (rs, index) -> {
+                    int value = rs.getInt(index);
+                    return value == 0 && rs.wasNull() ? null : value;
+                })
+                .with(Types.BIGINT, Long.class, (rs, index) -> {
+                    long value = rs.getLong(index);
+                    return value == 0 && rs.wasNull() ? null : value;
+                })
+                .with(new int[]{Types.FLOAT, Types.DOUBLE}, Double.class, (rs, index) -> {
+                    double value = rs.getDouble(index);
+                    return value == 0 && rs.wasNull() ? null : value;
+                })
+                .with(new int[]{Types.BIT, Types.BOOLEAN}, Boolean.class, (rs, index) -> {
+                    boolean value = rs.getBoolean(index);
+                    return !value && rs.wasNull() ? null : value;
+                })
+                .with(binaryTypes, UUID.class, ResultSetConverterRegistry::getUuid)
+                .with(characterTypes, UUID.class, (rs, index) -> {
+                    String value = rs.getString(index);
+                    return Objects.isNull(value) ? null : UUID.fromString(value);
+                })
+                .with(Types.BIGINT, Instant.class, (rs, index) -> {
+                    long value = rs.getLong(index);
+                    return value == 0 && rs.wasNull() ? null : Instant.ofEpochMilli(value);
+                })
+                .with(Types.TIMESTAMP_WITH_TIMEZONE, Instant.class, (rs, index) -> {
+                    OffsetDateTime value = rs.getObject(index, OffsetDateTime.class);
+                    return Objects.isNull(value) ? null : value.toInstant();
+                });
+    }
+
+    private static UUID getUuid(ResultSet rs, int index) throws SQLException {
+        byte[] value = rs.getBytes(index);
+        if (Objects.isNull(value))
+            return null;
+        if (value.length != 16)
+            throw new SQLException("UUID of " + value.length + " bytes, expected 16, column " + index);
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static final class Key {
+        private final int columnType;
+        private final Class<?> fieldType;
+
+        private Key(int columnType, Class<?> fieldType) {
+            this.columnType = columnType;
+            this.fieldType = fieldType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return columnType == key.columnType && fieldType == key.fieldType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * columnType + fieldType.hashCode();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.romansorokin.resultset.field;
+
+import com.github.romansorokin.resultset.ResultSetMapperFactoryUtils;
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldBooleanSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldByteSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldShortSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldIntSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldLongSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldFloatSetter;
+import com.github.romansorokin.resultset.field.primitive.ResultSetFieldDoubleSetter;
+import com.github.romansorokin.resultset.mapper.ResultSetMapperGenerator;
+import com.github.romansorokin.resultset.mapper.ResultSetSetterGenerator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * How field values are written to the entity.
+ * Handles are created once per field, fields not supported by handles fall back to {@link #REFLECTION}.
+ * Handles are kept in static final fields of classes of {@link ResultSetSetterGenerator}, so the JIT can inline them.
+ * Primitive setters write values without boxing.
+ */
+public enum ResultSetFieldAccess {
+    /**
+     * {@link Field#set(Object, Object)} on every value
+     */
+    REFLECTION {
+        @Override
+        protected MethodHandle getHandle(Field field) {
+            return null;
+        }
+    },
+    /**
+     * {@link MethodHandles.Lookup#unreflectSetter(Field)}
+     */
+    METHOD_HANDLE {
+        @Override
+        protected MethodHandle getHandle(Field field) {
+            if (Modifier.isStatic(field.getModifiers()))
+                return null;
+            ResultSetMapperFactoryUtils.setAccessible(field);
+            try {
+                return MethodHandles.lookup().unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+    },
+    /**
+     * {@link MethodHandles.Lookup#unreflectVarHandle(Field)}, private lookup in the declaring class,
+     * final fields use {@link #METHOD_HANDLE}
+     */
+    VAR_HANDLE {
+        @Override
+        protected MethodHandle getHandle(Field field) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers()))
+                return METHOD_HANDLE.getHandle(field);
+            try {
+                VarHandle handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup()).unreflectVarHandle(field);
+                return handle.toMethodHandle(VarHandle.AccessMode.SET);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+    },
+    /**
+     * fields are written by a hidden class generated per entity and result-set layout, see {@link ResultSetMapperGenerator},
+     * mappers not supported by the generated class use {@link #VAR_HANDLE}
+     */
+    GENERATED {
+        @Override
+        protected MethodHandle getHandle(Field field) {
+            return VAR_HANDLE.getHandle(field);
+        }
+    };
+
+    /**
+     * @return setter handle of type (entity, value)void, null when reflection must be used
+     */
+    protected abstract MethodHandle getHandle(Field field);
+
+    @SuppressWarnings("unchecked")
+    public <E, V> BiConsumer<E, V> getSetter(Field field) {
+        MethodHandle setter = getHandle(field, Object.class);
+        if (Objects.isNull(setter))
+            return (entity, value) -> ResultSetMapperFactoryUtils.setValue(entity, field, value);
+        BiConsumer<E, V> generated = ResultSetSetterGenerator.of(BiConsumer.class, "accept", Object.class, setter);
+        if (Objects.nonNull(generated))
+            return generated;
+        return (entity, value) -> {
+            try {
+                setter.invokeExact((Object) entity, (Object) value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw getException(field, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> ResultSetFieldBooleanSetter<E> getBooleanSetter(Field field) {
+        MethodHandle setter = getHandle(field, boolean.class);
+        if (Objects.isNull(setter))
+            return (entity, value) -> reflect(() -> field.setBoolean(entity, value));
+        ResultSetFieldBooleanSetter<E> generated = ResultSetSetterGenerator.of(ResultSetFieldBooleanSetter.class, "set", boolean.class, setter);
+        if (Objects.nonNull(generated))
+            return generated;
+        return (entity, value) -> {
+            try {
+                setter.invokeExact((Object) entity, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw getException(field, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> ResultSetFieldByteSetter<E> getByteSetter(Field field) {
+        MethodHandle setter = getHandle(field, byte.class);
+        if (Objects.isNull(setter))
+            return (entity, value) -> reflect(() -> field.setByte(entity, value));
+        ResultSetFieldByteSetter<E> generated = ResultSetSetterGenerator.of(ResultSetFieldByteSetter.class, "set", byte.class, setter);
+        if (Objects.nonNull(generated))
+            return generated;
+        return (entity, value) -> {
+            try {
+                setter.invokeExact((Object) entity, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw getException(field, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> ResultSetFieldShortSetter<E> getShortSetter(Field field) {
+        MethodHandle setter = getHandle(field, short.class);
+        if (Objects.isNull(setter))
+            return (entity, value) -> reflect(() -> field.setShort(entity, value));
+        ResultSetFieldShortSetter<E> generated = ResultSetSetterGenerator.of(ResultSetFieldShortSetter.class, "set", short.class, setter);
+        if (Objects.nonNull(generated))
+            return generated;
+        return (entity, value) -> {
+            try {
+                setter.invokeExact((Object) entity, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw getException(field, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> ResultSetFieldIntSetter<E> getIntSetter(Field field) {
+        MethodHandle setter = getHandle(field, int.class);
+        if (Objects.isNull(setter))
+            return (entity, value) -> reflect(() -> field.setInt(entity, value));
+        ResultSetFieldIntSetter<E> generated = ResultSetSetterGenerator.of(ResultSetFieldIntSetter.class, "set", int.class, setter);
+        if (Objects.nonNull(generated))
+            return generated;
+        return (entity, value) -> {
+            try {
+                setter.invokeExact((Object) entity, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw getException(field, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> ResultSetFieldLongSetter<E> getLongSetter(Field field) {
+        MethodHandle setter = getHandle(field, long.class);
+        if (Objects.isNull(setter))
+            return (entity, value) -> reflect(() -> field.setLong(entity, value));
+        ResultSetFieldLongSetter<E> generated = ResultSetSetterGenerator.of(ResultSetFieldLongSetter.class, "set", long.class, setter);
+        if (Objects.nonNull(generated))
+            return generated;
+        return (entity, value) -> {
+            try {
+                setter.invokeExact((Object) entity, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw getException(field, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> ResultSetFieldFloatSetter<E> getFloatSetter(Field field) {
+        MethodHandle setter = getHandle(field, float.class);
+        if (Objects.isNull(setter))
+            return (entity, value) -> reflect(() -> field.setFloat(entity, value));
+        ResultSetFieldFloatSetter<E> generated = ResultSetSetterGenerator.of(ResultSetFieldFloatSetter.class, "set", float.class, setter);
+        if (Objects.nonNull(generated))
+            return generated;
+        return (entity, value) -> {
+            try {
+                setter.invokeExact((Object) entity, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw getException(field, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> ResultSetFieldDoubleSetter<E> getDoubleSetter(Field field) {
+        MethodHandle setter = getHandle(field, double.class);
+        if (Objects.isNull(setter))
+            return (entity, value) -> reflect(() -> field.setDouble(entity, value));
+        ResultSetFieldDoubleSetter<E> generated = ResultSetSetterGenerator.of(ResultSetFieldDoubleSetter.class, "set", double.class, setter);
+        if (Objects.nonNull(generated))
+            return generated;
+        return (entity, value) -> {
+            try {
+                setter.invokeExact((Object) entity, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw getException(field, e);
+            }
+        };
+    }
+
+    /**
+     * @return handle of type (Object, value type)void, null when reflection must be used, the field is made accessible then
+     */
+    private MethodHandle getHandle(Field field, Class<?> valueType) {
+        MethodHandle handle = getHandle(field);
+        if (Objects.isNull(handle)) {
+            ResultSetMapperFactoryUtils.setAccessible(field);
+            return null;
+        }
+        return handle.asType(MethodType.methodType(void.class, Object.class, valueType));
+    }
+
+    private static void reflect(ReflectiveSet set) {
+        try {
+            set.set();
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("reflection, field set value", e);
+        }
+    }
+
+    private static ResultSetMapperRuntimeException getException(Field field, Throwable e) {
+        return new ResultSetMapperRuntimeException("handle, field set value: " + field, e);
+    }
+
+    @FunctionalInterface
+    private interface ReflectiveSet {
+        void set() throws IllegalAccessException;
+    }
+}
@@ -6,4 +6,11 @@ import java.util.function.BiConsumer;
 @FunctionalInterface
 public interface ResultSetFieldMapperFactory<E> {
     <V> ResultSetFieldMapper<E> getFieldMapper(Field field, BiConsumer<E, V> setter);
+
+    /**
+     * factories writing primitives without boxing override this method
+     */
+    default ResultSetFieldMapper<E> getFieldMapper(Field field, ResultSetFieldAccess access) {
+        return getFieldMapper(field, access.getSetter(field));
+    }
 }
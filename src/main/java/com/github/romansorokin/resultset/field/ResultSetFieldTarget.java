@@ -0,0 +1,13 @@
+package com.github.romansorokin.resultset.field;
+
+/**
+ * Instance a field value is written to, resolved from the mapped entity after the column is read.
+ */
+@FunctionalInterface
+public interface ResultSetFieldTarget<E> {
+    /**
+     * @param nullValue the column value is null
+     * @return instance of the field, null to skip the value
+     */
+    Object get(E entity, boolean nullValue);
+}
@@ -0,0 +1,12 @@
+package com.github.romansorokin.resultset.field;
+
+/**
+ * Field mapper with faster mappers of known column types, resolved once per result-set layout.
+ */
+public interface ResultSetTypedFieldMapper<E> extends ResultSetFieldMapper<E> {
+    /**
+     * @param columnType {@link java.sql.Types} of the column
+     * @return mapper of the column type, this mapper when there is no better one
+     */
+    ResultSetFieldMapper<E> forColumnType(int columnType);
+}
@@ -0,0 +1,8 @@
+package com.github.romansorokin.resultset.field.enums;
+
+/**
+ * Integer code of an enum constant, required by {@link ResultSetEnumMapping#CODE}.
+ */
+public interface ResultSetEnumCode {
+    int getCode();
+}
@@ -0,0 +1,147 @@
+package com.github.romansorokin.resultset.field.enums;
+
+import com.github.romansorokin.resultset.field.ResultSetFieldValueByColumnIndexFunction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * How an enum field is decoded from a column.
+ * Decode table is built once per enum type and fallback, unknown values are decoded to the fallback constant
+ * or rejected with {@link IllegalArgumentException} when there is no fallback.
+ */
+public enum ResultSetEnumMapping {
+    /**
+     * string column with constant names
+     */
+    NAME {
+        @Override
+        protected <E extends Enum<E>> ResultSetFieldValueByColumnIndexFunction<E> build(Class<E> type, E fallback) {
+            Map<String, E> table = new HashMap<>();
+            for (E constant : type.getEnumConstants())
+                table.put(constant.name(), constant);
+            return getByName(type, table, fallback);
+        }
+    },
+    /**
+     * string column with constant names in any case
+     */
+    NAME_IGNORE_CASE {
+        @Override
+        protected <E extends Enum<E>> ResultSetFieldValueByColumnIndexFunction<E> build(Class<E> type, E fallback) {
+            Map<String, E> table = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (E constant : type.getEnumConstants())
+                if (Objects.nonNull(table.putIfAbsent(constant.name(), constant)))
+                    throw new IllegalArgumentException("enum constant names differ only in case: " + type);
+            return getByName(type, table, fallback);
+        }
+    },
+    /**
+     * integer column with constant ordinals
+     */
+    ORDINAL {
+        @Override
+        protected <E extends Enum<E>> ResultSetFieldValueByColumnIndexFunction<E> build(Class<E> type, E fallback) {
+            return getByCode(type, 0, type.getEnumConstants(), fallback);
+        }
+    },
+    /**
+     * integer column with codes of {@link ResultSetEnumCode} constants
+     */
+    CODE {
+        @Override
+        protected <E extends Enum<E>> ResultSetFieldValueByColumnIndexFunction<E> build(Class<E> type, E fallback) {
+            if (!ResultSetEnumCode.class.isAssignableFrom(type))
+                throw new IllegalArgumentException("enum must implement " + ResultSetEnumCode.class.getName() + ": " + type);
+            E[] constants = type.getEnumConstants();
+            if (constants.length == 0)
+                return getByCode(type, 0, constants, fallback);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (E constant : constants) {
+                int code = ((ResultSetEnumCode) constant).getCode();
+                min = Math.min(min, code);
+                max = Math.max(max, code);
+            }
+            if ((long) max - min < MAX_DENSE_CODES) {
+                E[] table = Arrays.copyOf(constants, max - min + 1);
+                Arrays.fill(table, null);
+                for (E constant : constants) {
+                    int index = ((ResultSetEnumCode) constant).getCode() - min;
+                    if (Objects.nonNull(table[index]))
+                        throw new IllegalArgumentException("duplicate enum code " + (index + min) + ": " + type);
+                    table[index] = constant;
+                }
+                return getByCode(type, min, table, fallback);
+            }
+            Map<Integer, E> table = new HashMap<>();
+            for (E constant : constants)
+                if (Objects.nonNull(table.put(((ResultSetEnumCode) constant).getCode(), constant)))
+                    throw new IllegalArgumentException("duplicate enum code " + ((ResultSetEnumCode) constant).getCode() + ": " + type);
+            return (rs, index) -> {
+                int code = rs.getInt(index);
+                if (rs.wasNull())
+                    return null;
+                E result = table.get(code);
+                return Objects.nonNull(result) ? result : getFallback(type, code, fallback);
+            };
+        }
+    };
+
+    private static final int MAX_DENSE_CODES = 4096;
+
+    private final Map<Class<?>, Map<String, ResultSetFieldValueByColumnIndexFunction<?>>> functions = new ConcurrentHashMap<>();
+
+    /**
+     * @param fallback name of the constant for unknown values, blank when unknown values are rejected
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Enum<E>> ResultSetFieldValueByColumnIndexFunction<E> getValueFunction(Class<E> type, String fallback) {
+        return (ResultSetFieldValueByColumnIndexFunction<E>) functions
+                .computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(fallback, key -> build(type, fallback.isBlank() ? null : getConstant(type, fallback)));
+    }
+
+    protected abstract <E extends Enum<E>> ResultSetFieldValueByColumnIndexFunction<E> build(Class<E> type, E fallback);
+
+    private static <E extends Enum<E>> E getConstant(Class<E> type, String name) {
+        for (E constant : type.getEnumConstants())
+            if (constant.name().equals(name))
+                return constant;
+        throw new IllegalArgumentException("fallback constant " + name + " not found: " + type);
+    }
+
+    private static <E extends Enum<E>> ResultSetFieldValueByColumnIndexFunction<E> getByName(Class<E> type, Map<String, E> table, E fallback) {
+        return (rs, index) -> {
+            String name = rs.getString(index);
+            if (Objects.isNull(name))
+                return null;
+            E result = table.get(name);
+            return Objects.nonNull(result) ? result : getFallback(type, name, fallback);
+        };
+    }
+
+    /**
+     * @param table constants by code minus offset
+     */
+    private static <E extends Enum<E>> ResultSetFieldValueByColumnIndexFunction<E> getByCode(Class<E> type, int offset, E[] table, E fallback) {
+        return (rs, index) -> {
+            int code = rs.getInt(index);
+            if (rs.wasNull())
+                return null;
+            int i = code - offset;
+            E result = i >= 0 && i < table.length ? table[i] : null;
+            return Objects.nonNull(result) ? result : getFallback(type, code, fallback);
+        };
+    }
+
+    private static <E extends Enum<E>> E getFallback(Class<E> type, Object value, E fallback) {
+        if (Objects.nonNull(fallback))
+            return fallback;
+        throw new IllegalArgumentException("unknown value " + value + " of enum " + type.getName() + ", expected one of " + Arrays.toString(type.getEnumConstants()));
+    }
+}
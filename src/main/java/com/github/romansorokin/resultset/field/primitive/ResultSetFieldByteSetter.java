@@ -0,0 +1,6 @@
+package com.github.romansorokin.resultset.field.primitive;
+
+@FunctionalInterface
+public interface ResultSetFieldByteSetter<E> {
+    void set(E entity, byte value);
+}
@@ -0,0 +1,9 @@
+package com.github.romansorokin.resultset.field.primitive;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface ResultSetFieldDoubleValueFunction {
+    double getValue(ResultSet rs, int columnIndex) throws SQLException;
+}
@@ -0,0 +1,6 @@
+package com.github.romansorokin.resultset.field.primitive;
+
+@FunctionalInterface
+public interface ResultSetFieldIntSetter<E> {
+    void set(E entity, int value);
+}
@@ -0,0 +1,9 @@
+package com.github.romansorokin.resultset.field.primitive;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface ResultSetFieldLongValueFunction {
+    long getValue(ResultSet rs, int columnIndex) throws SQLException;
+}
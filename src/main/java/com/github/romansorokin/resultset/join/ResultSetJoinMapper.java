@@ -0,0 +1,103 @@
+package com.github.romansorokin.resultset.join;
+
+import com.github.romansorokin.resultset.mapper.ResultSetLayoutCache;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Maps all rows of a joined result-set to the list of distinct root entities with their children.
+ * Rows of an entity need not be adjacent: entities are found by id in identity maps,
+ * roots by the whole result-set, children by their parent. Fields are mapped from the first row of an entity.
+ * Columns are matched by label, so joined tables are told apart by column aliases.
+ * Like collection mappers, the list is passed to the sink even when the result-set is empty.
+ */
+public class ResultSetJoinMapper<E> implements ResultSetMapper<List<E>> {
+    private final ResultSetLayoutCache<ResultSetJoinNode.Layout<E>> layouts;
+
+    public ResultSetJoinMapper(ResultSetJoinNode<E> root) {
+        this.layouts = new ResultSetLayoutCache<>(root::getLayout, true);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean mapNext(ResultSet rs, Consumer<? super List<E>> sink) throws SQLException {
+        List<E> roots = new ArrayList<>();
+        if (rs.next()) {
+            ResultSetJoinNode.Layout<E> layout = layouts.get(rs);
+            Object ids = newIds(layout);
+            do {
+                read(layout, ids, rs, (Collection<Object>) roots);
+            } while (rs.next());
+        }
+        sink.accept(roots);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> void read(ResultSetJoinNode.Layout<E> layout, Object ids, ResultSet rs, Collection<Object> target) throws SQLException {
+        Group group;
+        if (layout.isLongId()) {
+            long id = rs.getLong(layout.idIndex);
+            if (rs.wasNull())
+                return;
+            ResultSetLongKeyMap<Group> groups = (ResultSetLongKeyMap<Group>) ids;
+            group = groups.get(id);
+            if (Objects.isNull(group)) {
+                group = newGroup(layout, rs, target);
+                groups.put(id, group);
+            }
+        } else {
+            Object id = rs.getObject(layout.idIndex);
+            if (Objects.isNull(id))
+                return;
+            Map<Object, Group> groups = (Map<Object, Group>) ids;
+            group = groups.get(id);
+            if (Objects.isNull(group)) {
+                group = newGroup(layout, rs, target);
+                groups.put(id, group);
+            }
+        }
+        ResultSetJoinNode.Layout<?>[] children = layout.children;
+        for (int i = 0; i < children.length; i++) {
+            if (Objects.isNull(group.childIds[i]))
+                group.childIds[i] = newIds(children[i]);
+            read(children[i], group.childIds[i], rs, group.children.get(i));
+        }
+    }
+
+    private static <E> Group newGroup(ResultSetJoinNode.Layout<E> layout, ResultSet rs, Collection<Object> target) throws SQLException {
+        E entity = layout.newEntity();
+        layout.plan.map(entity, rs);
+        List<Collection<Object>> children = new ArrayList<>(layout.children.length);
+        for (int i = 0; i < layout.children.length; i++)
+            children.add(layout.newChildren(entity, i));
+        target.add(entity);
+        return new Group(children);
+    }
+
+    private static Object newIds(ResultSetJoinNode.Layout<?> layout) {
+        return layout.isLongId() ? new ResultSetLongKeyMap<Group>() : new HashMap<Object, Group>();
+    }
+
+    /**
+     * children of one entity and their identity maps
+     */
+    private static final class Group {
+        private final List<Collection<Object>> children;
+        private final Object[] childIds;
+
+        private Group(List<Collection<Object>> children) {
+            this.children = children;
+            this.childIds = new Object[children.size()];
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.romansorokin.resultset.join;
+
+import com.github.romansorokin.resultset.field.ResultSetFieldMapper;
+import com.github.romansorokin.resultset.mapper.ResultSetMapperPlan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Entity of a joined result-set: its field mappers by prefixed column name, id column and child relations.
+ */
+public final class ResultSetJoinNode<E> {
+    private final Supplier<E> supplier;
+    private final Map<String, ResultSetFieldMapper<E>> mappers;
+    private final String idColumn;
+    private final boolean ignoreCase;
+    private final boolean longId;
+    private final List<Relation<E, ?>> children = new ArrayList<>();
+
+    /**
+     * @param mappers field mappers by column name without prefix
+     * @param longId  id is read by {@link java.sql.ResultSet#getLong(int)} and kept unboxed
+     */
+    public ResultSetJoinNode(Supplier<E> supplier, Map<String, ResultSetFieldMapper<E>> mappers, String prefix, String idColumn,
+                             boolean ignoreCase, boolean longId) {
+        this.supplier = supplier;
+        this.mappers = ignoreCase ? new TreeMap<>(String.CASE_INSENSITIVE_ORDER) : new HashMap<>();
+        mappers.forEach((column, mapper) -> this.mappers.put(prefix + column, mapper));
+        this.idColumn = prefix + idColumn;
+        this.ignoreCase = ignoreCase;
+        this.longId = longId;
+    }
+
+    /**
+     * @param setter     writes the collection of the children to the parent
+     * @param collection new collection of the children of one parent
+     */
+    public <C> ResultSetJoinNode<E> addChildren(ResultSetJoinNode<C> child, BiConsumer<E, Collection<C>> setter, Supplier<Collection<C>> collection) {
+        children.add(new Relation<>(child, setter, collection));
+        return this;
+    }
+
+    Layout<E> getLayout(List<String> columnNames) {
+        return getLayout(columnNames, 0);
+    }
+
+    /**
+     * @param parentIdIndex id column index of the parent, 0 for the root
+     */
+    private Layout<E> getLayout(List<String> columnNames, int parentIdIndex) {
+        int idIndex = -1;
+        for (int i = 0; i < columnNames.size() && idIndex < 0; i++) {
+            String name = columnNames.get(i);
+            if (ignoreCase ? name.equalsIgnoreCase(idColumn) : name.equals(idColumn))
+                idIndex = i + 1;
+        }
+        if (idIndex < 0)
+            throw new IllegalArgumentException("id column not found: " + idColumn + ", columns: " + columnNames);
+        if (idIndex == parentIdIndex)
+            throw new IllegalArgumentException("child id column is the id column of the parent: " + idColumn + ", columns: " + columnNames);
+        Layout<?>[] childLayouts = new Layout<?>[children.size()];
+        for (int i = 0; i < childLayouts.length; i++)
+            childLayouts[i] = children.get(i).child.getLayout(columnNames, idIndex);
+        return new Layout<>(this, ResultSetMapperPlan.of(columnNames, mappers), idIndex, childLayouts);
+    }
+
+    static final class Relation<P, C> {
+        private final ResultSetJoinNode<C> child;
+        private final BiConsumer<P, Collection<C>> setter;
+        private final Supplier<Collection<C>> collection;
+
+        private Relation(ResultSetJoinNode<C> child, BiConsumer<P, Collection<C>> setter, Supplier<Collection<C>> collection) {
+            this.child = child;
+            this.setter = setter;
+            this.collection = collection;
+        }
+    }
+
+    /**
+     * column indexes of the node and its children in one result-set layout
+     */
+    static final class Layout<E> {
+        final ResultSetJoinNode<E> node;
+        final ResultSetMapperPlan<E> plan;
+        final int idIndex;
+        final Layout<?>[] children;
+
+        private Layout(ResultSetJoinNode<E> node, ResultSetMapperPlan<E> plan, int idIndex, Layout<?>[] children) {
+            this.node = node;
+            this.plan = plan;
+            this.idIndex = idIndex;
+            this.children = children;
+        }
+
+        boolean isLongId() {
+            return node.longId;
+        }
+
+        E newEntity() {
+            return node.supplier.get();
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Collection<Object> newChildren(E entity, int child) {
+            Relation<E, Object> relation = (Relation) node.children.get(child);
+            Collection<Object> collection = relation.collection.get();
+            relation.setter.accept(entity, collection);
+            return collection;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.romansorokin.resultset.join;
+
+import java.util.Objects;
+
+/**
+ * Open addressing map of primitive long keys, values must not be null.
+ */
+public final class ResultSetLongKeyMap<V> {
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    public ResultSetLongKeyMap() {
+        this(16);
+    }
+
+    public ResultSetLongKeyMap(int capacity) {
+        int length = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1);
+        keys = new long[length];
+        values = new Object[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int mask = keys.length - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            Object value = values[i];
+            if (Objects.isNull(value))
+                return null;
+            if (keys[i] == key)
+                return (V) value;
+        }
+    }
+
+    public void put(long key, V value) {
+        Objects.requireNonNull(value, "value");
+        int mask = keys.length - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            if (Objects.isNull(values[i])) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size * 2 > keys.length)
+                    resize();
+                return;
+            }
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (Objects.isNull(oldValues[j]))
+                continue;
+            int i = index(oldKeys[j], mask);
+            while (Objects.nonNull(values[i]))
+                i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+
+    private static int index(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
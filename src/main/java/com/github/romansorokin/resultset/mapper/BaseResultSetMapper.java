@@ -1,39 +1,146 @@
 package com.github.romansorokin.resultset.mapper;
 
 import com.github.romansorokin.resultset.field.ResultSetFieldMapper;
+import com.github.romansorokin.resultset.metrics.ResultSetMapperListener;
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
 
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class BaseResultSetMapper<E> implements ResultSetMapper<E> {
     private final Supplier<E> supplier;
-    private final Map<String, ResultSetFieldMapper<E>> mappers;
+    private final Class<?> entity;
+    private final ResultSetLayoutCache<ResultSetMapperPlan<E>> plans;
+    private final ResultSetMapperMeter meter;
 
     public BaseResultSetMapper(Supplier<E> supplier, Map<String, ResultSetFieldMapper<E>> mappers) {
+        this(supplier, mappers, Object.class, ResultSetMapperListener.NOOP);
+    }
+
+    public BaseResultSetMapper(Supplier<E> supplier, Map<String, ResultSetFieldMapper<E>> mappers, Class<?> entity, ResultSetMapperListener listener) {
+        this(supplier, mappers, entity, listener, null);
+    }
+
+    /**
+     * @param generator generator of the plans, null for plans of field mappers
+     */
+    public BaseResultSetMapper(Supplier<E> supplier, Map<String, ResultSetFieldMapper<E>> mappers, Class<?> entity, ResultSetMapperListener listener,
+                               ResultSetMapperGenerator<E> generator) {
+        this(supplier, entity, ResultSetMapperMeter.of(listener, entity), getPlanFactory(mappers, generator));
+    }
+
+    private BaseResultSetMapper(Supplier<E> supplier, Class<?> entity, ResultSetMapperMeter meter, Function<ResultSetLayout, ResultSetMapperPlan<E>> plans) {
+        this(supplier, entity, ResultSetLayoutCache.typed(Objects.isNull(meter) ? plans : plans.andThen(meter::onLayout)), meter);
+    }
+
+    private BaseResultSetMapper(Supplier<E> supplier, Class<?> entity, ResultSetLayoutCache<ResultSetMapperPlan<E>> plans, ResultSetMapperMeter meter) {
         this.supplier = supplier;
-        this.mappers = mappers;
+        this.entity = entity;
+        this.plans = plans;
+        this.meter = meter;
+    }
+
+    private static <E> Function<ResultSetLayout, ResultSetMapperPlan<E>> getPlanFactory(Map<String, ResultSetFieldMapper<E>> mappers,
+                                                                                       ResultSetMapperGenerator<E> generator) {
+        if (Objects.isNull(generator))
+            return layout -> ResultSetMapperPlan.of(layout, mappers);
+        return layout -> generator.getPlan(layout, mappers);
+    }
+
+    /**
+     * mapper with another supplier, field mappers and layout plans are shared
+     */
+    @Override
+    public BaseResultSetMapper<E> withSupplier(Supplier<E> supplier) {
+        return supplier == this.supplier ? this : new BaseResultSetMapper<>(supplier, entity, plans, meter);
+    }
+
+    @Override
+    public boolean mapNext(ResultSet rs, Consumer<? super E> sink) throws SQLException {
+        if (!rs.next())
+            return false;
+        sink.accept(mapRow(rs));
+        return true;
     }
 
     @Override
     public Optional<E> map(ResultSet rs) throws SQLException {
         if (!rs.next())
             return Optional.empty();
-        ResultSetMetaData meta = rs.getMetaData();
-        int count = meta.getColumnCount() + 1;
-        E entity = supplier.get();
-        for (int i = 1; i < count; i++) {
-            String columnName = meta.getColumnName(i);
-            ResultSetFieldMapper<E> mapper = mappers.get(columnName);
-            if (Objects.isNull(mapper))
-                continue;
-            mapper.map(entity, rs, i);
+        return Optional.of(mapRow(rs));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long forEachReusing(ResultSet rs, int ringSize, Consumer<? super E> action) throws SQLException {
+        if (ringSize < 1)
+            throw new IllegalArgumentException("ring size must be positive: " + ringSize);
+        ResultSetMappingRecorder recorder = ResultSetMappingRecorder.begin(rs, this);
+        if (!rs.next()) {
+            recorder.end();
+            return 0;
         }
-        return Optional.of(entity);
+        ResultSetMapperPlan<E> plan = getPlan(rs);
+        Object[] ring = new Object[ringSize];
+        long count = 0;
+        int slot = 0;
+        do {
+            E entity = (E) ring[slot];
+            long start = Objects.isNull(meter) ? 0 : System.nanoTime();
+            if (Objects.isNull(entity))
+                ring[slot] = entity = supplier.get();
+            if (Objects.isNull(meter)) {
+                plan.map(entity, rs);
+            } else {
+                meter.map(plan, entity, rs);
+                meter.onRowMapped(start);
+            }
+            action.accept(entity);
+            count++;
+            recorder.onRow();
+            if (++slot == ringSize)
+                slot = 0;
+        } while (rs.next());
+        recorder.end();
+        return count;
     }
 
+    private E mapRow(ResultSet rs) throws SQLException {
+        ResultSetMapperPlan<E> plan = getPlan(rs);
+        if (Objects.isNull(meter)) {
+            E entity = supplier.get();
+            plan.map(entity, rs);
+            return entity;
+        }
+        long start = System.nanoTime();
+        E entity = supplier.get();
+        meter.map(plan, entity, rs);
+        meter.onRowMapped(start);
+        return entity;
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return entity;
+    }
+
+    @Override
+    public int getMappedColumnCount(ResultSet rs) throws SQLException {
+        return getPlan(rs).getMappedColumnCount();
+    }
+
+    public ResultSetMapperPlan<E> getPlan(ResultSet rs) throws SQLException {
+        return plans.get(rs);
+    }
+
+    public ResultSetMapperPlan<E> getPlan(List<String> columnNames) {
+        return plans.get(columnNames);
+    }
 }
@@ -1,20 +1,43 @@
 package com.github.romansorokin.resultset.mapper;
 
 import com.github.romansorokin.resultset.ResultSetMapperFactoryUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetChildren;
 import com.github.romansorokin.resultset.annotations.ResultSetField;
+import com.github.romansorokin.resultset.annotations.ResultSetId;
 import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.ResultSetCanonicalCache;
+import com.github.romansorokin.resultset.field.ResultSetFieldAccess;
 import com.github.romansorokin.resultset.field.ResultSetFieldMapper;
 import com.github.romansorokin.resultset.field.ResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.ResultSetFieldTarget;
+import com.github.romansorokin.resultset.field.ResultSetFieldValueByColumnIndexFunction;
+import com.github.romansorokin.resultset.join.ResultSetJoinMapper;
+import com.github.romansorokin.resultset.join.ResultSetJoinNode;
+import com.github.romansorokin.resultset.metrics.ResultSetMapperBuildEvent;
+import com.github.romansorokin.resultset.metrics.ResultSetMapperListener;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -24,23 +47,176 @@ import static com.github.romansorokin.resultset.ResultSetMapperFactoryUtils.DEFA
 
 public class BaseResultSetMapperFactory implements ResultSetMapperFactory {
     private static final Map<Class<? extends ResultSetFieldMapperFactory<?>>, ResultSetFieldMapperFactory<?>> FIELD_FACTORIES = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> LONG_ID_TYPES = Set.of(long.class, int.class, short.class, byte.class, Long.class, Integer.class, Short.class, Byte.class);
+    private static volatile ResultSetMapperListener listener = ResultSetMapperListener.NOOP;
+
+    /**
+     * listener of mappers built after the call, null restores the no-op listener
+     */
+    public static void setListener(ResultSetMapperListener listener) {
+        BaseResultSetMapperFactory.listener = Objects.isNull(listener) ? ResultSetMapperListener.NOOP : listener;
+    }
+
+    public static ResultSetMapperListener getListener() {
+        return listener;
+    }
 
     @Override
     public <T> ResultSetMapper<T> getMapper(Class<T> entity, Supplier<T> supplier) {
+        ResultSetMapperListener listener = BaseResultSetMapperFactory.listener;
+        ResultSetMapperBuildEvent event = new ResultSetMapperBuildEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Map<Class<?>, Annotation> typeAnnotations = ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByClass(entity);
+        ResultSetType resultSetType = getResultSetType(typeAnnotations);
+        Map<ResultSetFieldMapper<T>, Field> generatedFields = new IdentityHashMap<>();
+        Map<String, ResultSetFieldMapper<T>> fieldMappers = resultSetType.access() == ResultSetFieldAccess.GENERATED
+                ? getGeneratedFieldMappers(resultSetType, ResultSetMapperFactoryUtils.getFields(entity), generatedFields)
+                : getFieldMappers(entity, typeAnnotations);
+        if (fieldMappers.isEmpty())
+            throw new IllegalArgumentException("result-set annotations not found: " + entity);
+        ResultSetMapperGenerator<T> generator = resultSetType.access() == ResultSetFieldAccess.GENERATED
+                ? ResultSetMapperGenerator.of(entity, getFieldFactory(BaseResultSetFieldMapperFactory.class), generatedFields)
+                : null;
+        BaseResultSetMapper<T> mapper = new BaseResultSetMapper<>(supplier, fieldMappers, entity, listener, generator);
+        listener.onMapperBuilt(entity, System.nanoTime() - start);
+        commit(event, entity, fieldMappers.size());
+        return mapper;
+    }
+
+    @Override
+    public <T> ResultSetMapper<T> getMapper(Class<T> entity) {
+        ResultSetMapperListener listener = BaseResultSetMapperFactory.listener;
+        ResultSetMapperBuildEvent event = new ResultSetMapperBuildEvent();
+        event.begin();
+        long start = System.nanoTime();
+        List<Field> fields = ResultSetMapperFactoryUtils.getConstructorFields(entity);
+        Constructor<T> constructor = ResultSetMapperFactoryUtils.getConstructor(entity, fields);
         Map<Class<?>, Annotation> typeAnnotations = ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByClass(entity);
-        Map<String, ResultSetFieldMapper<T>> fieldMappers = getFieldMappers(entity, typeAnnotations);
+        Map<String, ResultSetFieldMapper<Object[]>> fieldMappers = getFieldMappers(getResultSetType(typeAnnotations), fields,
+                (factory, field) -> factory.getFieldMapper(field, getSlotSetter(fields.indexOf(field))),
+                field -> getSlotHolder(fields.indexOf(field), field));
         if (fieldMappers.isEmpty())
             throw new IllegalArgumentException("result-set annotations not found: " + entity);
-        return new BaseResultSetMapper<>(supplier, fieldMappers);
+        ResultSetConstructorMapper<T> mapper = new ResultSetConstructorMapper<>(constructor, fieldMappers, listener);
+        listener.onMapperBuilt(entity, System.nanoTime() - start);
+        commit(event, entity, fieldMappers.size());
+        return mapper;
+    }
+
+    @Override
+    public <T> ResultSetJoinMapper<T> getJoinMapper(Class<T> entity, Supplier<T> supplier) {
+        return new ResultSetJoinMapper<>(getJoinNode(entity, supplier, "", new HashSet<>()));
+    }
+
+    /**
+     * @param path entities of the parents, a child type of its own parent is rejected
+     */
+    protected <E> ResultSetJoinNode<E> getJoinNode(Class<E> entity, Supplier<E> supplier, String prefix, Set<Class<?>> path) {
+        if (!path.add(entity))
+            throw new IllegalArgumentException("cyclic children relation: " + entity);
+        ResultSetType resultSetType = getResultSetType(ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByClass(entity));
+        List<Field> fields = ResultSetMapperFactoryUtils.getFields(entity);
+        Field id = null;
+        List<Field> children = new ArrayList<>();
+        for (Field field : fields) {
+            Map<Class<?>, Annotation> annotations = ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByAnnotatedElement(field);
+            if (Objects.isNull(id) && annotations.containsKey(ResultSetId.class))
+                id = field;
+            if (annotations.containsKey(ResultSetChildren.class))
+                children.add(field);
+        }
+        if (Objects.isNull(id))
+            throw new IllegalArgumentException("result-set id field required: " + entity);
+        Annotation idField = ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByAnnotatedElement(id).get(ResultSetField.class);
+        String idColumn = getColumnName(id, resultSetType, Objects.isNull(idField) ? DEFAULT_RESULT_SET_FIELD : (ResultSetField) idField);
+        Map<String, ResultSetFieldMapper<E>> fieldMappers = getFieldMappers(resultSetType, fields);
+        ResultSetJoinNode<E> node = new ResultSetJoinNode<>(supplier, fieldMappers, prefix, idColumn, resultSetType.ignoreCase(), LONG_ID_TYPES.contains(id.getType()));
+        for (Field field : children)
+            addChildren(node, field, resultSetType, prefix, path);
+        path.remove(entity);
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E, C> void addChildren(ResultSetJoinNode<E> node, Field field, ResultSetType resultSetType, String prefix, Set<Class<?>> path) {
+        ResultSetChildren annotation = (ResultSetChildren) ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByAnnotatedElement(field).get(ResultSetChildren.class);
+        if (annotation.prefix().isEmpty())
+            throw new IllegalArgumentException("children prefix required: " + field);
+        Class<C> childType = (Class<C>) getChildType(field, annotation);
+        ResultSetJoinNode<C> child = getJoinNode(childType, ResultSetMapperFactoryUtils.getSupplier(childType), prefix + annotation.prefix(), path);
+        BiConsumer<E, Collection<C>> setter = resultSetType.access().getSetter(field);
+        node.addChildren(child, setter, getCollectionSupplier(field));
+    }
+
+    private static Class<?> getChildType(Field field, ResultSetChildren annotation) {
+        if (annotation.type() != Object.class)
+            return annotation.type();
+        Type type = field.getGenericType();
+        if (type instanceof ParameterizedType && ((ParameterizedType) type).getActualTypeArguments()[0] instanceof Class)
+            return (Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0];
+        throw new IllegalArgumentException("child type required: " + field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> Supplier<Collection<C>> getCollectionSupplier(Field field) {
+        Class<?> type = field.getType();
+        if (!Collection.class.isAssignableFrom(type))
+            throw new IllegalArgumentException("collection field required: " + field);
+        if (type.isAssignableFrom(ArrayList.class))
+            return ArrayList::new;
+        if (type.isAssignableFrom(LinkedHashSet.class))
+            return LinkedHashSet::new;
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+            throw new IllegalArgumentException("collection type is not supported: " + field);
+        return (Supplier<Collection<C>>) ResultSetMapperFactoryUtils.getSupplier(type);
+    }
+
+    /**
+     * field mappers of {@link ResultSetFieldAccess#GENERATED}
+     *
+     * @param generatedFields fields of the mappers of {@link BaseResultSetFieldMapperFactory}, written by the generated classes
+     */
+    protected <E> Map<String, ResultSetFieldMapper<E>> getGeneratedFieldMappers(ResultSetType resultSetType, List<Field> fields,
+                                                                               Map<ResultSetFieldMapper<E>, Field> generatedFields) {
+        return getFieldMappers(resultSetType, fields, (factory, field) -> {
+            ResultSetFieldMapper<E> mapper = factory.getFieldMapper(field, resultSetType.access());
+            if (factory.getClass() == BaseResultSetFieldMapperFactory.class)
+                generatedFields.put(mapper, field);
+            return mapper;
+        }, field -> getEmbeddedHolder(field, resultSetType.access()));
     }
 
     protected <E> Map<String, ResultSetFieldMapper<E>> getFieldMappers(Class<E> entity, Map<Class<?>, Annotation> typeAnnotations) {
+        return getFieldMappers(getResultSetType(typeAnnotations), ResultSetMapperFactoryUtils.getFields(entity));
+    }
+
+    protected ResultSetType getResultSetType(Map<Class<?>, Annotation> typeAnnotations) {
         Annotation annotation = typeAnnotations.get(ResultSetType.class);
-        ResultSetType resultSetType = Objects.isNull(annotation) ? DEFAULT_RESULT_SET_TYPE : (ResultSetType) annotation;
-        return getFieldMappers(resultSetType, ResultSetMapperFactoryUtils.getFields(entity));
+        return Objects.isNull(annotation) ? DEFAULT_RESULT_SET_TYPE : (ResultSetType) annotation;
     }
 
     protected <E> Map<String, ResultSetFieldMapper<E>> getFieldMappers(ResultSetType resultSetType, List<Field> fields) {
+        return getFieldMappers(resultSetType, fields, (factory, field) -> factory.getFieldMapper(field, resultSetType.access()),
+                field -> getEmbeddedHolder(field, resultSetType.access()));
+    }
+
+    /**
+     * @param mapperByFactory field mapper of the field factory, decides where values are written
+     */
+    protected <E> Map<String, ResultSetFieldMapper<E>> getFieldMappers(ResultSetType resultSetType, List<Field> fields,
+                                                                      BiFunction<ResultSetFieldMapperFactory<E>, Field, ResultSetFieldMapper<E>> mapperByFactory) {
+        return getFieldMappers(resultSetType, fields, mapperByFactory, field -> {
+            throw new IllegalArgumentException("embedded field is not supported: " + field);
+        });
+    }
+
+    /**
+     * @param holderByField instance of the embedded field, created when it is absent and the column is not null
+     */
+    protected <E> Map<String, ResultSetFieldMapper<E>> getFieldMappers(ResultSetType resultSetType, List<Field> fields,
+                                                                      BiFunction<ResultSetFieldMapperFactory<E>, Field, ResultSetFieldMapper<E>> mapperByFactory,
+                                                                      Function<Field, ResultSetFieldTarget<E>> holderByField) {
         if (fields.isEmpty())
             return Collections.emptyMap();
         Map<Field, Map<Class<?>, Annotation>> markedFields = fields.stream()
@@ -52,14 +228,112 @@ public class BaseResultSetMapperFactory implements ResultSetMapperFactory {
             Map<Class<?>, Annotation> annotations = entry.getValue();
             Annotation annotation = annotations.get(ResultSetField.class);
             ResultSetField resultSetField = Objects.isNull(annotation) ? DEFAULT_RESULT_SET_FIELD : (ResultSetField) annotation;
-            Map.Entry<String, ResultSetFieldMapper<E>> setterByColumnName = getFieldMapper(entry.getKey(), resultSetType, resultSetField);
+            if (resultSetField.embedded()) {
+                Field field = entry.getKey();
+                addEmbeddedFieldMappers(fieldMappers, field, getEmbeddedPrefix(field, resultSetType, resultSetField), resultSetType,
+                        holderByField.apply(field), new HashSet<>());
+                continue;
+            }
+            Map.Entry<String, ResultSetFieldMapper<E>> setterByColumnName = getFieldMapper(entry.getKey(), resultSetType, resultSetField, mapperByFactory);
             fieldMappers.putIfAbsent(setterByColumnName.getKey(), setterByColumnName.getValue());
         }
         return fieldMappers;
     }
 
+    /**
+     * adds mappers of the embedded field type to the plan of the entity, nested embedded fields are flattened too
+     *
+     * @param path embedded types of the parents, a type embedded in itself is rejected
+     */
+    protected <E> void addEmbeddedFieldMappers(Map<String, ResultSetFieldMapper<E>> fieldMappers, Field field, String prefix,
+                                               ResultSetType resultSetType, ResultSetFieldTarget<E> holder, Set<Class<?>> path) {
+        Class<?> type = field.getType();
+        if (!path.add(type))
+            throw new IllegalArgumentException("cyclic embedded field: " + field);
+        Annotation typeAnnotation = ResultSetMapperFactoryUtils.getResultSetChildrenAnnotationsByClass(type).get(ResultSetType.class);
+        ResultSetType embeddedType = Objects.isNull(typeAnnotation) ? resultSetType : (ResultSetType) typeAnnotation;
+        Map<Field, Map<Class<?>, Annotation>> markedFields = ResultSetMapperFactoryUtils.getFields(type).stream()
+                .filter(embedded -> !Modifier.isStatic(embedded.getModifiers()))
+                .collect(Collectors.toMap(Function.identity(), ResultSetMapperFactoryUtils::getResultSetChildrenAnnotationsByAnnotatedElement));
+        for (var entry : getFieldsToMap(embeddedType, markedFields).entrySet()) {
+            Field embedded = entry.getKey();
+            Annotation annotation = entry.getValue().get(ResultSetField.class);
+            ResultSetField resultSetField = Objects.isNull(annotation) ? DEFAULT_RESULT_SET_FIELD : (ResultSetField) annotation;
+            if (resultSetField.embedded()) {
+                ResultSetFieldTarget<Object> nested = getEmbeddedHolder(embedded, embeddedType.access());
+                addEmbeddedFieldMappers(fieldMappers, embedded, prefix + getEmbeddedPrefix(embedded, embeddedType, resultSetField), embeddedType,
+                        (ResultSetFieldTarget<E>) (entity, nullValue) -> {
+                            Object parent = holder.get(entity, nullValue);
+                            return Objects.isNull(parent) ? null : nested.get(parent, nullValue);
+                        }, path);
+                continue;
+            }
+            String columnName = prefix + getColumnName(embedded, embeddedType, resultSetField);
+            fieldMappers.putIfAbsent(columnName, getEmbeddedFieldMapper(embedded, embeddedType, resultSetField, holder));
+        }
+        path.remove(type);
+    }
+
+    protected String getEmbeddedPrefix(Field field, ResultSetType resultSetType, ResultSetField resultSetField) {
+        String prefix = resultSetField.value();
+        return prefix.isBlank() ? resultSetType.naming().getColumnName(field) + "_" : prefix;
+    }
+
+    /**
+     * null values are written to an existing embedded instance, the holder creates the instance only for a not null column
+     */
+    protected <E> ResultSetFieldMapper<E> getEmbeddedFieldMapper(Field field, ResultSetType resultSetType, ResultSetField resultSetField, ResultSetFieldTarget<E> holder) {
+        if (field.getType().isPrimitive() && resultSetField.factory() == BaseResultSetFieldMapperFactory.class) {
+            ResultSetFieldMapper<E> mapper = BaseResultSetFieldMapperFactory.getFieldMapper(field, resultSetType.access(), holder);
+            if (Objects.nonNull(mapper))
+                return mapper;
+        }
+        BiConsumer<Object, Object> setter = resultSetType.access().getSetter(field);
+        ResultSetFieldMapperFactory<E> factory = getFieldFactory(resultSetField.factory());
+        if (resultSetField.canonicalCacheSize() > 0 && !field.getType().isPrimitive())
+            factory = ResultSetCanonicalCache.of(field, resultSetField.canonicalCacheSize()).getFieldMapperFactory(factory);
+        return factory.getFieldMapper(field, (E entity, Object value) -> {
+            Object instance = holder.get(entity, Objects.isNull(value));
+            if (Objects.nonNull(instance))
+                setter.accept(instance, value);
+        });
+    }
+
+    protected <E> ResultSetFieldTarget<E> getEmbeddedHolder(Field field, ResultSetFieldAccess access) {
+        Function<Object, Object> getter = ResultSetMapperFactoryUtils.getGetter(field);
+        BiConsumer<E, Object> setter = access.getSetter(field);
+        Supplier<?> supplier = getEmbeddedSupplier(field);
+        return (entity, nullValue) -> {
+            Object value = getter.apply(entity);
+            if (Objects.isNull(value) && !nullValue) {
+                value = supplier.get();
+                setter.accept(entity, value);
+            }
+            return value;
+        };
+    }
+
+    private static Supplier<?> getEmbeddedSupplier(Field field) {
+        Class<?> type = field.getType();
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isRecord() || type.isInterface())
+            throw new IllegalArgumentException("embedded field of a mutable class required: " + field);
+        return ResultSetMapperFactoryUtils.getSupplier(type);
+    }
+
+    private static ResultSetFieldTarget<Object[]> getSlotHolder(int slot, Field field) {
+        Supplier<?> supplier = getEmbeddedSupplier(field);
+        return (slots, nullValue) -> {
+            Object value = slots[slot];
+            if (Objects.isNull(value) && !nullValue)
+                slots[slot] = value = supplier.get();
+            return value;
+        };
+    }
+
     protected Map<Field, Map<Class<?>, Annotation>> getFieldsToMap(ResultSetType resultSetType, Map<Field, Map<Class<?>, Annotation>> markedFields) {
         return markedFields.entrySet().stream().filter(entry -> {
+            if (entry.getValue().containsKey(ResultSetChildren.class))
+                return false;
             Annotation annotation = entry.getValue().get(ResultSetField.class);
             if (Objects.isNull(annotation))
                 return resultSetType.mapAllFields();
@@ -68,17 +342,39 @@ public class BaseResultSetMapperFactory implements ResultSetMapperFactory {
         }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    @SuppressWarnings("unchecked")
     protected <E> Map.Entry<String, ResultSetFieldMapper<E>> getFieldMapper(Field field, ResultSetType resultSetType, ResultSetField resultSetField) {
-        String columnName = resultSetField.value();
-        if (columnName.isBlank())
-            columnName = resultSetType.naming().getColumnName(field);
+        return getFieldMapper(field, resultSetType, resultSetField, (factory, f) -> factory.getFieldMapper(f, resultSetType.access()));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <E> Map.Entry<String, ResultSetFieldMapper<E>> getFieldMapper(Field field, ResultSetType resultSetType, ResultSetField resultSetField,
+                                                                           BiFunction<ResultSetFieldMapperFactory<E>, Field, ResultSetFieldMapper<E>> mapperByFactory) {
+        String columnName = getColumnName(field, resultSetType, resultSetField);
         ResultSetFieldMapperFactory<E> factory = getFieldFactory(resultSetField.factory());
-        ResultSetMapperFactoryUtils.setAccessible(field);
-        ResultSetFieldMapper<E> mapper = factory.getFieldMapper(field, (e, v) -> ResultSetMapperFactoryUtils.setValue(e, field, v));
+        if (resultSetField.canonicalCacheSize() > 0 && !field.getType().isPrimitive())
+            factory = ResultSetCanonicalCache.of(field, resultSetField.canonicalCacheSize()).getFieldMapperFactory(factory);
+        ResultSetFieldMapper<E> mapper = mapperByFactory.apply(factory, field);
         return Map.entry(columnName, mapper);
     }
 
+    protected String getColumnName(Field field, ResultSetType resultSetType, ResultSetField resultSetField) {
+        String columnName = resultSetField.value();
+        return columnName.isBlank() ? resultSetType.naming().getColumnName(field) : columnName;
+    }
+
+    private static void commit(ResultSetMapperBuildEvent event, Class<?> entity, int fieldCount) {
+        event.end();
+        if (!event.shouldCommit())
+            return;
+        event.setEntity(entity);
+        event.setFieldCount(fieldCount);
+        event.commit();
+    }
+
+    private static <V> BiConsumer<Object[], V> getSlotSetter(int slot) {
+        return (slots, value) -> slots[slot] = value;
+    }
+
     @SuppressWarnings("unchecked")
     protected <T extends ResultSetFieldMapperFactory<?>> T getFieldFactory(Class<T> factoryClass) {
         ResultSetFieldMapperFactory<?> factory = FIELD_FACTORIES.get(factoryClass);
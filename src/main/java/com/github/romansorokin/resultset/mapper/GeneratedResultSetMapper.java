@@ -0,0 +1,179 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Base of the mappers generated at compile time by the result-set-mapper-processor.
+ * Generated class is named by {@link #getGeneratedClassName(Class)} and has a constructor with {@link Supplier} argument.
+ * Mappers of {@link #withSupplier(Supplier)} share the layout plans of this mapper.
+ */
+public abstract class GeneratedResultSetMapper<E> implements ResultSetMapper<E> {
+    public static final String SUFFIX = "_ResultSetMapper";
+
+    private final Supplier<E> supplier;
+    private final Class<?> entity;
+    /**
+     * pairs of column index and field number
+     */
+    private final ResultSetLayoutCache<int[]> plans = new ResultSetLayoutCache<>(this::getPlan);
+
+    protected GeneratedResultSetMapper(Supplier<E> supplier) {
+        this(supplier, Object.class);
+    }
+
+    protected GeneratedResultSetMapper(Supplier<E> supplier, Class<?> entity) {
+        this.supplier = supplier;
+        this.entity = entity;
+    }
+
+    public static String getGeneratedClassName(Class<?> entity) {
+        return entity.getName().replace('$', '_') + SUFFIX;
+    }
+
+    @Override
+    public ResultSetMapper<E> withSupplier(Supplier<E> supplier) {
+        return supplier == this.supplier ? this : new SuppliedMapper(supplier);
+    }
+
+    @Override
+    public boolean mapNext(ResultSet rs, Consumer<? super E> sink) throws SQLException {
+        return mapNext(rs, sink, supplier);
+    }
+
+    @Override
+    public Optional<E> map(ResultSet rs) throws SQLException {
+        return map(rs, supplier);
+    }
+
+    @Override
+    public long forEachReusing(ResultSet rs, int ringSize, Consumer<? super E> action) throws SQLException {
+        return forEachReusing(rs, ringSize, action, supplier);
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return entity;
+    }
+
+    @Override
+    public int getMappedColumnCount(ResultSet rs) throws SQLException {
+        return plans.get(rs).length / 2;
+    }
+
+    /**
+     * @return field number of the column, -1 when column is not mapped
+     */
+    protected abstract int getField(String columnName);
+
+    protected abstract void map(E entity, ResultSet rs, int columnIndex, int field) throws SQLException;
+
+    private boolean mapNext(ResultSet rs, Consumer<? super E> sink, Supplier<E> supplier) throws SQLException {
+        if (!rs.next())
+            return false;
+        sink.accept(mapRow(rs, supplier));
+        return true;
+    }
+
+    private Optional<E> map(ResultSet rs, Supplier<E> supplier) throws SQLException {
+        if (!rs.next())
+            return Optional.empty();
+        return Optional.of(mapRow(rs, supplier));
+    }
+
+    @SuppressWarnings("unchecked")
+    private long forEachReusing(ResultSet rs, int ringSize, Consumer<? super E> action, Supplier<E> supplier) throws SQLException {
+        if (ringSize < 1)
+            throw new IllegalArgumentException("ring size must be positive: " + ringSize);
+        ResultSetMappingRecorder recorder = ResultSetMappingRecorder.begin(rs, this);
+        if (!rs.next()) {
+            recorder.end();
+            return 0;
+        }
+        int[] plan = plans.get(rs);
+        Object[] ring = new Object[ringSize];
+        long count = 0;
+        int slot = 0;
+        do {
+            E entity = (E) ring[slot];
+            if (Objects.isNull(entity))
+                ring[slot] = entity = supplier.get();
+            for (int i = 0; i < plan.length; i += 2)
+                map(entity, rs, plan[i], plan[i + 1]);
+            action.accept(entity);
+            count++;
+            recorder.onRow();
+            if (++slot == ringSize)
+                slot = 0;
+        } while (rs.next());
+        recorder.end();
+        return count;
+    }
+
+    private E mapRow(ResultSet rs, Supplier<E> supplier) throws SQLException {
+        int[] plan = plans.get(rs);
+        E entity = supplier.get();
+        for (int i = 0; i < plan.length; i += 2)
+            map(entity, rs, plan[i], plan[i + 1]);
+        return entity;
+    }
+
+    private int[] getPlan(List<String> columnNames) {
+        int[] plan = new int[columnNames.size() * 2];
+        int size = 0;
+        for (int i = 0; i < columnNames.size(); i++) {
+            int field = getField(columnNames.get(i));
+            if (field < 0)
+                continue;
+            plan[size++] = i + 1;
+            plan[size++] = field;
+        }
+        return size == plan.length ? plan : Arrays.copyOf(plan, size);
+    }
+
+    private final class SuppliedMapper implements ResultSetMapper<E> {
+        private final Supplier<E> supplier;
+
+        private SuppliedMapper(Supplier<E> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public ResultSetMapper<E> withSupplier(Supplier<E> supplier) {
+            return GeneratedResultSetMapper.this.withSupplier(supplier);
+        }
+
+        @Override
+        public boolean mapNext(ResultSet rs, Consumer<? super E> sink) throws SQLException {
+            return GeneratedResultSetMapper.this.mapNext(rs, sink, supplier);
+        }
+
+        @Override
+        public Optional<E> map(ResultSet rs) throws SQLException {
+            return GeneratedResultSetMapper.this.map(rs, supplier);
+        }
+
+        @Override
+        public long forEachReusing(ResultSet rs, int ringSize, Consumer<? super E> action) throws SQLException {
+            return GeneratedResultSetMapper.this.forEachReusing(rs, ringSize, action, supplier);
+        }
+
+        @Override
+        public Class<?> getEntityType() {
+            return entity;
+        }
+
+        @Override
+        public int getMappedColumnCount(ResultSet rs) throws SQLException {
+            return GeneratedResultSetMapper.this.getMappedColumnCount(rs);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.github.romansorokin.resultset.mapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Minimal class file writer of {@link ResultSetMapperGenerator}: constant pool, fields and methods of straight-line code.
+ * Methods have no branches, so no stack map frames are written.
+ */
+final class ResultSetClassWriter {
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    static final int ICONST_0 = 0x03;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC_W = 0x13;
+    static final int ILOAD = 0x15;
+    static final int LLOAD = 0x16;
+    static final int FLOAD = 0x17;
+    static final int DLOAD = 0x18;
+    static final int ALOAD = 0x19;
+    static final int ALOAD_0 = 0x2a;
+    static final int AALOAD = 0x32;
+    static final int ASTORE_0 = 0x4b;
+    static final int RETURN = 0xb1;
+    static final int GETSTATIC = 0xb2;
+    static final int PUTSTATIC = 0xb3;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+    static final int CHECKCAST = 0xc0;
+
+    /**
+     * Java 17
+     */
+    private static final int VERSION = 61;
+    /**
+     * methods over 8000 bytes are not compiled by the JIT
+     */
+    static final int MAX_METHOD_SIZE = 8000;
+
+    private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    private final DataOutputStream poolOut = new DataOutputStream(pool);
+    private final Map<String, Integer> constants = new HashMap<>();
+    private final ByteArrayOutputStream fields = new ByteArrayOutputStream();
+    private final DataOutputStream fieldsOut = new DataOutputStream(fields);
+    private final ByteArrayOutputStream methods = new ByteArrayOutputStream();
+    private final DataOutputStream methodsOut = new DataOutputStream(methods);
+    private final String name;
+    private int constantCount = 1;
+    private int fieldCount;
+    private int methodCount;
+
+    /**
+     * @param name internal name of the class
+     */
+    ResultSetClassWriter(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    static String getInternalName(Class<?> type) {
+        return type.isArray() ? type.descriptorString() : type.getName().replace('.', '/');
+    }
+
+    int utf8(String value) {
+        return constant("U" + value, out -> {
+            out.writeByte(1);
+            out.writeUTF(value);
+        });
+    }
+
+    int integer(int value) {
+        return constant("I" + value, out -> {
+            out.writeByte(3);
+            out.writeInt(value);
+        });
+    }
+
+    int type(String internalName) {
+        int utf8 = utf8(internalName);
+        return constant("C" + internalName, out -> {
+            out.writeByte(7);
+            out.writeShort(utf8);
+        });
+    }
+
+    int string(String value) {
+        int utf8 = utf8(value);
+        return constant("S" + value, out -> {
+            out.writeByte(8);
+            out.writeShort(utf8);
+        });
+    }
+
+    int field(String owner, String name, String descriptor) {
+        return member(9, owner, name, descriptor);
+    }
+
+    int method(String owner, String name, String descriptor) {
+        return member(10, owner, name, descriptor);
+    }
+
+    int interfaceMethod(String owner, String name, String descriptor) {
+        return member(11, owner, name, descriptor);
+    }
+
+    private int member(int tag, String owner, String name, String descriptor) {
+        int type = type(owner);
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        int nameAndType = constant("N" + name + ' ' + descriptor, out -> {
+            out.writeByte(12);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+        });
+        return constant(tag + owner + '.' + name + ' ' + descriptor, out -> {
+            out.writeByte(tag);
+            out.writeShort(type);
+            out.writeShort(nameAndType);
+        });
+    }
+
+    private int constant(String key, Entry entry) {
+        Integer index = constants.get(key);
+        if (Objects.nonNull(index))
+            return index;
+        if (constantCount >= 0xffff)
+            throw new IllegalStateException("constant pool is full: " + name);
+        try {
+            entry.write(poolOut);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        constants.put(key, constantCount);
+        return constantCount++;
+    }
+
+    void addField(int access, String name, String descriptor) {
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        try {
+            fieldsOut.writeShort(access);
+            fieldsOut.writeShort(nameIndex);
+            fieldsOut.writeShort(descriptorIndex);
+            fieldsOut.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        fieldCount++;
+    }
+
+    void addMethod(int access, String name, String descriptor, Code code) {
+        if (code.size() > MAX_METHOD_SIZE)
+            throw new IllegalStateException("method code of " + code.size() + " bytes: " + name);
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        int codeIndex = utf8("Code");
+        try {
+            methodsOut.writeShort(access);
+            methodsOut.writeShort(nameIndex);
+            methodsOut.writeShort(descriptorIndex);
+            methodsOut.writeShort(1);
+            methodsOut.writeShort(codeIndex);
+            methodsOut.writeInt(12 + code.size());
+            methodsOut.writeShort(code.maxStack);
+            methodsOut.writeShort(code.maxLocals);
+            methodsOut.writeInt(code.size());
+            code.bytes.writeTo(methodsOut);
+            methodsOut.writeShort(0);
+            methodsOut.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        methodCount++;
+    }
+
+    byte[] toByteArray(String superName, String... interfaces) {
+        int thisIndex = type(name);
+        int superIndex = type(superName);
+        int[] interfaceIndexes = new int[interfaces.length];
+        for (int i = 0; i < interfaces.length; i++)
+            interfaceIndexes[i] = type(interfaces[i]);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(pool.size() + fields.size() + methods.size() + 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xcafebabe);
+            out.writeShort(0);
+            out.writeShort(VERSION);
+            out.writeShort(constantCount);
+            pool.writeTo(out);
+            out.writeShort(ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisIndex);
+            out.writeShort(superIndex);
+            out.writeShort(interfaces.length);
+            for (int index : interfaceIndexes)
+                out.writeShort(index);
+            out.writeShort(fieldCount);
+            fields.writeTo(out);
+            out.writeShort(methodCount);
+            methods.writeTo(out);
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface Entry {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * bytecode of one method, the caller tracks the stack depth
+     */
+    static final class Code {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final int maxStack;
+        private final int maxLocals;
+
+        Code(int maxStack, int maxLocals) {
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        /**
+         * instruction with a constant pool index
+         */
+        Code op(int opcode, int index) {
+            bytes.write(opcode);
+            return u2(index);
+        }
+
+        Code aload(int local) {
+            return op(ALOAD_0 + local);
+        }
+
+        /**
+         * load of a local of the type, long and double take two slots
+         */
+        Code load(Class<?> type, int local) {
+            int opcode;
+            if (type == long.class)
+                opcode = LLOAD;
+            else if (type == float.class)
+                opcode = FLOAD;
+            else if (type == double.class)
+                opcode = DLOAD;
+            else if (type.isPrimitive())
+                opcode = ILOAD;
+            else
+                opcode = ALOAD;
+            return op(opcode).op(local);
+        }
+
+        Code astore(int local) {
+            return op(ASTORE_0 + local);
+        }
+
+        Code push(ResultSetClassWriter writer, int value) {
+            if (value >= 0 && value <= 5)
+                return op(ICONST_0 + value);
+            if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+                return op(BIPUSH).op(value & 0xff);
+            if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+                return op(SIPUSH).u2(value);
+            return op(LDC_W, writer.integer(value));
+        }
+
+        /**
+         * @param slots slots of the receiver and the arguments
+         */
+        Code invokeInterface(int index, int slots) {
+            op(INVOKEINTERFACE, index);
+            bytes.write(slots);
+            bytes.write(0);
+            return this;
+        }
+
+        private Code u2(int value) {
+            bytes.write(value >>> 8);
+            bytes.write(value);
+            return this;
+        }
+    }
+}
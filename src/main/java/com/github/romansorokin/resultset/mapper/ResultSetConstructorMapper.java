@@ -0,0 +1,129 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import com.github.romansorokin.resultset.field.ResultSetFieldMapper;
+import com.github.romansorokin.resultset.metrics.ResultSetMapperListener;
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Mapper of records and immutable classes.
+ * Column values are collected into constructor arguments, the entity is created once per row.
+ * Arguments of not mapped columns are null, zero for primitives.
+ * {@link #forEachReusing(ResultSet, int, Consumer)} reuses one argument array for all rows, the constructor handle copies the arguments.
+ */
+public class ResultSetConstructorMapper<E> implements ResultSetMapper<E> {
+    private final Class<E> entityType;
+    private final MethodHandle constructor;
+    private final Object[] defaults;
+    private final ResultSetLayoutCache<ResultSetMapperPlan<Object[]>> plans;
+    private final ResultSetMapperMeter meter;
+
+    public ResultSetConstructorMapper(Constructor<E> constructor, Map<String, ResultSetFieldMapper<Object[]>> mappers) {
+        this(constructor, mappers, ResultSetMapperListener.NOOP);
+    }
+
+    public ResultSetConstructorMapper(Constructor<E> constructor, Map<String, ResultSetFieldMapper<Object[]>> mappers, ResultSetMapperListener listener) {
+        Class<?>[] types = constructor.getParameterTypes();
+        this.entityType = constructor.getDeclaringClass();
+        try {
+            constructor.setAccessible(true);
+            this.constructor = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, types.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("constructor is not accessible: " + constructor, e);
+        }
+        this.defaults = new Object[types.length];
+        for (int i = 0; i < types.length; i++)
+            if (types[i].isPrimitive())
+                defaults[i] = Array.get(Array.newInstance(types[i], 1), 0);
+        ResultSetMapperMeter meter = ResultSetMapperMeter.of(listener, entityType);
+        this.meter = meter;
+        this.plans = ResultSetLayoutCache.typed(Objects.isNull(meter)
+                ? layout -> ResultSetMapperPlan.of(layout, mappers)
+                : layout -> meter.onLayout(ResultSetMapperPlan.of(layout, mappers)));
+    }
+
+    @Override
+    public boolean mapNext(ResultSet rs, Consumer<? super E> sink) throws SQLException {
+        if (!rs.next())
+            return false;
+        sink.accept(mapRow(rs, defaults.clone()));
+        return true;
+    }
+
+    @Override
+    public long forEachReusing(ResultSet rs, int ringSize, Consumer<? super E> action) throws SQLException {
+        if (ringSize < 1)
+            throw new IllegalArgumentException("ring size must be positive: " + ringSize);
+        ResultSetMappingRecorder recorder = ResultSetMappingRecorder.begin(rs, this);
+        Object[] arguments = defaults.clone();
+        long count = 0;
+        while (rs.next()) {
+            action.accept(mapRow(rs, arguments));
+            System.arraycopy(defaults, 0, arguments, 0, defaults.length);
+            count++;
+            recorder.onRow();
+        }
+        recorder.end();
+        return count;
+    }
+
+    @Override
+    public Optional<E> map(ResultSet rs) throws SQLException {
+        if (!rs.next())
+            return Optional.empty();
+        return Optional.of(mapRow(rs, defaults.clone()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private E mapRow(ResultSet rs, Object[] arguments) throws SQLException {
+        ResultSetMapperPlan<Object[]> plan = getPlan(rs);
+        long start = Objects.isNull(meter) ? 0 : System.nanoTime();
+        if (Objects.isNull(meter))
+            plan.map(arguments, rs);
+        else
+            meter.map(plan, arguments, rs);
+        try {
+            E entity = (E) (Object) constructor.invokeExact(arguments);
+            if (Objects.nonNull(meter))
+                meter.onRowMapped(start);
+            return entity;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ResultSetMapperRuntimeException("constructor invoke: " + constructor, e);
+        }
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    @Override
+    public int getMappedColumnCount(ResultSet rs) throws SQLException {
+        return getPlan(rs).getMappedColumnCount();
+    }
+
+    public ResultSetMapperPlan<Object[]> getPlan(ResultSet rs) throws SQLException {
+        return plans.get(rs);
+    }
+
+    public ResultSetMapperPlan<Object[]> getPlan(List<String> columnNames) {
+        return plans.get(columnNames);
+    }
+}
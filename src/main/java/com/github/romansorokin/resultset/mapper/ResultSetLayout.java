@@ -0,0 +1,83 @@
+package com.github.romansorokin.resultset.mapper;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Column names of a result-set with their {@link java.sql.Types} when they are known.
+ */
+public final class ResultSetLayout {
+    private final List<String> columnNames;
+    private final int[] columnTypes;
+    private final int hash;
+
+    private ResultSetLayout(List<String> columnNames, int[] columnTypes) {
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.hash = 31 * columnNames.hashCode() + Arrays.hashCode(columnTypes);
+    }
+
+    /**
+     * layout of unknown column types
+     */
+    public static ResultSetLayout of(List<String> columnNames) {
+        return new ResultSetLayout(columnNames, null);
+    }
+
+    public static ResultSetLayout of(List<String> columnNames, int[] columnTypes) {
+        if (columnNames.size() != columnTypes.length)
+            throw new IllegalArgumentException("column types count " + columnTypes.length + " differs from column names count " + columnNames.size());
+        return new ResultSetLayout(columnNames, columnTypes.clone());
+    }
+
+    /**
+     * @param labels layout by {@link ResultSetMetaData#getColumnLabel(int)}
+     */
+    public static ResultSetLayout of(ResultSetMetaData meta, boolean labels) throws SQLException {
+        List<String> columnNames = labels ? ResultSetLayoutCache.getColumnLabels(meta) : ResultSetLayoutCache.getColumnNames(meta);
+        int[] columnTypes = new int[columnNames.size()];
+        for (int i = 0; i < columnTypes.length; i++)
+            columnTypes[i] = meta.getColumnType(i + 1);
+        return new ResultSetLayout(columnNames, columnTypes);
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public boolean hasColumnTypes() {
+        return Objects.nonNull(columnTypes);
+    }
+
+    /**
+     * @param columnIndex one-based index of the column
+     */
+    public int getColumnType(int columnIndex) {
+        if (Objects.isNull(columnTypes))
+            throw new IllegalStateException("column types are unknown");
+        return columnTypes[columnIndex - 1];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ResultSetLayout))
+            return false;
+        ResultSetLayout layout = (ResultSetLayout) o;
+        return hash == layout.hash && columnNames.equals(layout.columnNames) && Arrays.equals(columnTypes, layout.columnTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultSetLayout{columnNames=" + columnNames + ", columnTypes=" + Arrays.toString(columnTypes) + '}';
+    }
+}
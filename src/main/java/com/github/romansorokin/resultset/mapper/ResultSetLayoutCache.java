@@ -0,0 +1,116 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.buffer.ResultSetBufferMetaData;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Values computed once per result-set column layout.
+ * Values of recently seen result-sets are returned without metadata calls, result-sets mapped concurrently by several threads
+ * are bound to slots by identity hash, values are kept by column names for next executions of the same query.
+ * Caches of {@link #typed(Function)} also key values by the column types.
+ */
+public final class ResultSetLayoutCache<P> {
+    private static final int MAX_LAYOUTS = 64;
+    private static final int BINDING_SLOTS = 8;
+
+    private final Function<ResultSetLayout, P> factory;
+    private final boolean labels;
+    private final boolean types;
+    private final Map<ResultSetLayout, P> layouts = new ConcurrentHashMap<>();
+    /**
+     * bindings are immutable, a stale slot read is a miss
+     */
+    @SuppressWarnings("unchecked")
+    private final Binding<P>[] bindings = new Binding[BINDING_SLOTS];
+
+    public ResultSetLayoutCache(Function<List<String>, P> factory) {
+        this(factory, false);
+    }
+
+    /**
+     * @param labels layouts by {@link ResultSetMetaData#getColumnLabel(int)}, column aliases of the query
+     */
+    public ResultSetLayoutCache(Function<List<String>, P> factory, boolean labels) {
+        this(layout -> factory.apply(layout.getColumnNames()), labels, false);
+    }
+
+    private ResultSetLayoutCache(Function<ResultSetLayout, P> factory, boolean labels, boolean types) {
+        this.factory = factory;
+        this.labels = labels;
+        this.types = types;
+    }
+
+    /**
+     * cache of values by column names and types, values of {@link #get(List)} have unknown column types
+     */
+    public static <P> ResultSetLayoutCache<P> typed(Function<ResultSetLayout, P> factory) {
+        return new ResultSetLayoutCache<>(factory, false, true);
+    }
+
+    public static List<String> getColumnNames(ResultSetMetaData meta) throws SQLException {
+        if (meta instanceof ResultSetBufferMetaData)
+            return ((ResultSetBufferMetaData) meta).getColumnNames();
+        int count = meta.getColumnCount();
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++)
+            names[i] = meta.getColumnName(i + 1);
+        return List.of(names);
+    }
+
+    public static List<String> getColumnLabels(ResultSetMetaData meta) throws SQLException {
+        if (meta instanceof ResultSetBufferMetaData)
+            return ((ResultSetBufferMetaData) meta).getColumnLabels();
+        int count = meta.getColumnCount();
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++)
+            names[i] = meta.getColumnLabel(i + 1);
+        return List.of(names);
+    }
+
+    public P get(ResultSet rs) throws SQLException {
+        int slot = System.identityHashCode(rs) & (BINDING_SLOTS - 1);
+        Binding<P> current = bindings[slot];
+        if (Objects.nonNull(current) && current.resultSet.get() == rs)
+            return current.value;
+        ResultSetMetaData meta = rs.getMetaData();
+        P value;
+        if (types)
+            value = get(ResultSetLayout.of(meta, labels));
+        else
+            value = get(labels ? getColumnLabels(meta) : getColumnNames(meta));
+        bindings[slot] = new Binding<>(rs, value);
+        return value;
+    }
+
+    public P get(List<String> columnNames) {
+        return get(ResultSetLayout.of(columnNames));
+    }
+
+    public P get(ResultSetLayout layout) {
+        P value = layouts.get(layout);
+        if (Objects.nonNull(value))
+            return value;
+        if (layouts.size() >= MAX_LAYOUTS)
+            layouts.clear();
+        return layouts.computeIfAbsent(layout, factory);
+    }
+
+    private static final class Binding<P> {
+        private final WeakReference<ResultSet> resultSet;
+        private final P value;
+
+        private Binding(ResultSet resultSet, P value) {
+            this.resultSet = new WeakReference<>(resultSet);
+            this.value = value;
+        }
+    }
+}
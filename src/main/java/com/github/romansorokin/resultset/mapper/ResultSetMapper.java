@@ -1,9 +1,72 @@
 package com.github.romansorokin.resultset.mapper;
 
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
+
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public interface ResultSetMapper<T> {
-    Optional<T> map(ResultSet rs) throws SQLException;
+    /**
+     * moves the result-set to the next row and passes the mapped row to the sink
+     *
+     * @return false when there are no more rows, the sink is not called
+     */
+    boolean mapNext(ResultSet rs, Consumer<? super T> sink) throws SQLException;
+
+    /**
+     * passes the remaining rows to the action, entities may be reused for the next rows:
+     * the action must not keep a reference to an entity longer than {@code ringSize} rows.
+     * Fields mapped by the result-set layout are overwritten on each row, other fields keep supplier values.
+     *
+     * @return number of rows
+     */
+    default long forEachReusing(ResultSet rs, int ringSize, Consumer<? super T> action) throws SQLException {
+        if (ringSize < 1)
+            throw new IllegalArgumentException("ring size must be positive: " + ringSize);
+        ResultSetMappingRecorder recorder = ResultSetMappingRecorder.begin(rs, this);
+        long count = 0;
+        while (mapNext(rs, action)) {
+            count++;
+            recorder.onRow();
+        }
+        recorder.end();
+        return count;
+    }
+
+    default long forEachReusing(ResultSet rs, Consumer<? super T> action) throws SQLException {
+        return forEachReusing(rs, 1, action);
+    }
+
+    /**
+     * @return mapper creating entities by the supplier and sharing the layout plans of this mapper,
+     * null when the mapper can not be rebound to another supplier
+     */
+    default ResultSetMapper<T> withSupplier(Supplier<T> supplier) {
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    default Optional<T> map(ResultSet rs) throws SQLException {
+        Object[] row = new Object[1];
+        if (!mapNext(rs, value -> row[0] = value))
+            return Optional.empty();
+        return Optional.of((T) row[0]);
+    }
+
+    /**
+     * @return type of the mapped rows, {@code Object.class} when the mapper is not bound to an entity
+     */
+    default Class<?> getEntityType() {
+        return Object.class;
+    }
+
+    /**
+     * @return number of columns of the result-set layout read by the mapper, all columns by default
+     */
+    default int getMappedColumnCount(ResultSet rs) throws SQLException {
+        return rs.getMetaData().getColumnCount();
+    }
 }
@@ -0,0 +1,171 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.ResultSetMapperFactoryUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Mappers built once per entity class, reads are lock-free.
+ * A mapper requested with another supplier is the cached one rebound by {@link ResultSetMapper#withSupplier(Supplier)},
+ * it is built again only when the cached mapper can not be rebound.
+ * Bounded cache evicts entity classes in insertion order, lookups do not refresh an entity,
+ * {@link #evict(ClassLoader)} releases classes of an unloaded class loader.
+ */
+public class ResultSetMapperCache {
+    private final int maxSize;
+    private final Map<Class<?>, Entry> mappers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ResultSetMapper<?>> constructorMappers = new ConcurrentHashMap<>();
+    private final Queue<Class<?>> order = new ConcurrentLinkedQueue<>();
+
+    public ResultSetMapperCache() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxSize maximum number of mappers, the mappers of {@link #get(Class, Supplier)} and {@link #get(Class)} of one entity are evicted together
+     */
+    public ResultSetMapperCache(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("max size must be positive: " + maxSize);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * mapper of the entity built by its generated mapper or {@link ResultSetMapperFactory#getMapper(Class, Supplier)}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResultSetMapper<T> get(Class<T> entity, Supplier<T> supplier) {
+        Entry entry = mappers.get(entity);
+        if (Objects.nonNull(entry)) {
+            if (entry.supplier == supplier)
+                return (ResultSetMapper<T>) entry.mapper;
+            ResultSetMapper<T> mapper = ((ResultSetMapper<T>) entry.mapper).withSupplier(supplier);
+            return Objects.nonNull(mapper) ? mapper : build(entity, supplier);
+        }
+        ResultSetMapper<T> mapper = build(entity, supplier);
+        entry = mappers.putIfAbsent(entity, new Entry(supplier, mapper));
+        if (Objects.isNull(entry))
+            added(entity);
+        return mapper;
+    }
+
+    /**
+     * mapper of the record or immutable class built by {@link ResultSetMapperFactory#getMapper(Class)}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResultSetMapper<T> get(Class<T> entity) {
+        ResultSetMapper<T> mapper = (ResultSetMapper<T>) constructorMappers.get(entity);
+        if (Objects.nonNull(mapper))
+            return mapper;
+        mapper = ResultSetMapperFactoryUtils.getMapperFactory(entity).getMapper(entity);
+        ResultSetMapper<?> previous = constructorMappers.putIfAbsent(entity, mapper);
+        if (Objects.nonNull(previous))
+            return (ResultSetMapper<T>) previous;
+        added(entity);
+        return mapper;
+    }
+
+    /**
+     * builds mappers of the entities in parallel on the common fork-join pool,
+     * entities without a no-argument constructor are mapped by {@link #get(Class)}
+     */
+    public void warmUp(Class<?>... entities) {
+        warmUp(ForkJoinPool.commonPool(), entities);
+    }
+
+    public void warmUp(ForkJoinPool pool, Class<?>... entities) {
+        pool.submit(() -> Arrays.stream(entities).parallel().forEach(this::warmUp)).join();
+    }
+
+    public void remove(Class<?> entity) {
+        mappers.remove(entity);
+        constructorMappers.remove(entity);
+        order.remove(entity);
+    }
+
+    /**
+     * removes mappers of the classes loaded by the class loader
+     */
+    public void evict(ClassLoader classLoader) {
+        mappers.keySet().removeIf(entity -> entity.getClassLoader() == classLoader);
+        constructorMappers.keySet().removeIf(entity -> entity.getClassLoader() == classLoader);
+        order.removeIf(entity -> entity.getClassLoader() == classLoader);
+    }
+
+    public void clear() {
+        mappers.clear();
+        constructorMappers.clear();
+        order.clear();
+    }
+
+    public int size() {
+        return mappers.size() + constructorMappers.size();
+    }
+
+    public boolean contains(Class<?> entity) {
+        return mappers.containsKey(entity) || constructorMappers.containsKey(entity);
+    }
+
+    private <T> void warmUp(Class<T> entity) {
+        Constructor<T> constructor;
+        try {
+            constructor = entity.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            get(entity);
+            return;
+        }
+        if (!constructor.trySetAccessible())
+            throw new IllegalArgumentException("no-argument constructor is not accessible: " + entity);
+        get(entity, () -> newInstance(constructor));
+    }
+
+    private static <T> ResultSetMapper<T> build(Class<T> entity, Supplier<T> supplier) {
+        ResultSetMapper<T> generated = ResultSetMapperFactoryUtils.getGeneratedMapper(entity, supplier);
+        if (Objects.nonNull(generated))
+            return generated;
+        return ResultSetMapperFactoryUtils.getMapperFactory(entity).getMapper(entity, supplier);
+    }
+
+    private static <T> T newInstance(Constructor<T> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("error on create entity " + constructor.getDeclaringClass(), e);
+        }
+    }
+
+    /**
+     * queues the entity once, an entity of both maps is queued by the first of them and evicted from both
+     */
+    private void added(Class<?> entity) {
+        if (maxSize == Integer.MAX_VALUE || (mappers.containsKey(entity) && constructorMappers.containsKey(entity)))
+            return;
+        order.add(entity);
+        while (size() > maxSize) {
+            Class<?> eldest = order.poll();
+            if (Objects.isNull(eldest))
+                return;
+            mappers.remove(eldest);
+            constructorMappers.remove(eldest);
+        }
+    }
+
+    private static final class Entry {
+        private final Supplier<?> supplier;
+        private final ResultSetMapper<?> mapper;
+
+        private Entry(Supplier<?> supplier, ResultSetMapper<?> mapper) {
+            this.supplier = supplier;
+            this.mapper = mapper;
+        }
+    }
+}
@@ -1,8 +1,24 @@
 package com.github.romansorokin.resultset.mapper;
 
+import com.github.romansorokin.resultset.join.ResultSetJoinMapper;
+
 import java.util.function.Supplier;
 
 @FunctionalInterface
 public interface ResultSetMapperFactory {
     <T> ResultSetMapper<T> getMapper(Class<T> entity, Supplier<T> supplier);
+
+    /**
+     * mapper of records and classes created by a constructor of all instance fields
+     */
+    default <T> ResultSetMapper<T> getMapper(Class<T> entity) {
+        throw new UnsupportedOperationException("constructor mapping is not supported by " + getClass() + ": " + entity);
+    }
+
+    /**
+     * mapper of joined result-sets to entities with {@link com.github.romansorokin.resultset.annotations.ResultSetChildren} collections
+     */
+    default <T> ResultSetJoinMapper<T> getJoinMapper(Class<T> entity, Supplier<T> supplier) {
+        throw new UnsupportedOperationException("join mapping is not supported by " + getClass() + ": " + entity);
+    }
 }
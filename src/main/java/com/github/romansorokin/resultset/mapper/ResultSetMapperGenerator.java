@@ -0,0 +1,219 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.ResultSetConverterRegistry;
+import com.github.romansorokin.resultset.field.ResultSetFieldMapper;
+import com.github.romansorokin.resultset.field.ResultSetFieldValueByColumnIndexFunction;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Generates a hidden class per result-set layout of the entity, the class maps a row by straight-line code:
+ * fields of {@link ResultSet} getters are written by the getter call and putfield, like {@code entity.count = rs.getInt(3)},
+ * fields of converters by the converter of the column type, other columns by their field mapper.
+ * Converters and field mappers are kept in static final fields, one per column, so every call site sees one class.
+ * The hidden class is a nestmate of the entity and is unloaded with the plan of the layout.
+ * Layouts are not generated when the entity package is not open to this library, the plan keeps its loop over field mappers.
+ */
+public final class ResultSetMapperGenerator<E> {
+    /**
+     * columns of one generated method, keeps methods under the JIT size limit
+     */
+    private static final int COLUMNS_PER_METHOD = 256;
+    private static final String OBJECT = "java/lang/Object";
+    private static final String RESULT_SET = ResultSetClassWriter.getInternalName(ResultSet.class);
+    private static final String FIELD_MAPPER = ResultSetClassWriter.getInternalName(ResultSetFieldMapper.class);
+    private static final String VALUE_FUNCTION = ResultSetClassWriter.getInternalName(ResultSetFieldValueByColumnIndexFunction.class);
+    private static final String ROW_MAPPER = ResultSetClassWriter.getInternalName(ResultSetRowMapper.class);
+    private static final String LOOKUP = ResultSetClassWriter.getInternalName(MethodHandles.Lookup.class);
+    private static final String COLUMNS_DESCRIPTOR = "(Ljava/lang/Object;Ljava/sql/ResultSet;)V";
+
+    private final Class<E> entity;
+    private final MethodHandles.Lookup lookup;
+    private final BaseResultSetFieldMapperFactory<?> factory;
+    private final Map<ResultSetFieldMapper<E>, Field> fields;
+
+    private ResultSetMapperGenerator(Class<E> entity, MethodHandles.Lookup lookup, BaseResultSetFieldMapperFactory<?> factory, Map<ResultSetFieldMapper<E>, Field> fields) {
+        this.entity = entity;
+        this.lookup = lookup;
+        this.factory = factory;
+        this.fields = fields;
+    }
+
+    /**
+     * @param fields fields of the field mappers built by the factory, other mappers are called by the generated class
+     * @return null when hidden classes can not be defined in the entity package
+     */
+    public static <E> ResultSetMapperGenerator<E> of(Class<E> entity, BaseResultSetFieldMapperFactory<?> factory, Map<ResultSetFieldMapper<E>, Field> fields) {
+        if (entity.isHidden() || entity.isArray() || entity.isPrimitive())
+            return null;
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(entity, MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+        if (!lookup.hasFullPrivilegeAccess())
+            return null;
+        return new ResultSetMapperGenerator<>(entity, lookup, factory, new IdentityHashMap<>(fields));
+    }
+
+    /**
+     * plan of the layout mapped by the generated class, the plan of field mappers when the class can not be defined
+     */
+    public ResultSetMapperPlan<E> getPlan(ResultSetLayout layout, Map<String, ResultSetFieldMapper<E>> mappers) {
+        ResultSetMapperPlan<E> plan = ResultSetMapperPlan.of(layout, mappers);
+        if (plan.getMappedColumnCount() == 0)
+            return plan;
+        try {
+            return plan.withRowMapper(generate(layout, plan, mappers));
+        } catch (IllegalAccessException | IllegalStateException | LinkageError e) {
+            return plan;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResultSetRowMapper<E> generate(ResultSetLayout layout, ResultSetMapperPlan<E> plan, Map<String, ResultSetFieldMapper<E>> mappers) throws IllegalAccessException {
+        String entityName = ResultSetClassWriter.getInternalName(entity);
+        ResultSetClassWriter writer = new ResultSetClassWriter(entityName + "$ResultSetRowMapper");
+        int[] columnIndexes = plan.getColumnIndexes();
+        ResultSetFieldMapper<E>[] planMappers = plan.getMappers();
+        List<Object> constants = new ArrayList<>();
+        List<String> constantTypes = new ArrayList<>();
+        List<ResultSetClassWriter.Code> methods = new ArrayList<>();
+        ResultSetClassWriter.Code code = null;
+        for (int i = 0; i < columnIndexes.length; i++) {
+            if (i % COLUMNS_PER_METHOD == 0) {
+                code = new ResultSetClassWriter.Code(4, 3)
+                        .aload(0)
+                        .op(ResultSetClassWriter.CHECKCAST, writer.type(entityName))
+                        .astore(2);
+                methods.add(code);
+            }
+            int columnIndex = columnIndexes[i];
+            String columnName = layout.getColumnNames().get(columnIndex - 1);
+            int columnType = layout.hasColumnTypes() ? layout.getColumnType(columnIndex) : ResultSetConverterRegistry.ANY_COLUMN_TYPE;
+            Field field = fields.get(mappers.get(columnName));
+            if (Objects.nonNull(field) && isWritable(field)) {
+                Method getter = factory.getJdbcGetter(field, columnType);
+                if (Objects.nonNull(getter)) {
+                    code.aload(2).aload(1).push(writer, columnIndex)
+                            .invokeInterface(writer.interfaceMethod(RESULT_SET, getter.getName(), "(I)" + field.getType().descriptorString()), 2);
+                    putField(writer, code, field);
+                    continue;
+                }
+                if (!field.getType().isPrimitive()) {
+                    String name = "C" + constants.size();
+                    constants.add(factory.getValueFunction(field, columnType));
+                    constantTypes.add(VALUE_FUNCTION);
+                    code.aload(2).op(ResultSetClassWriter.GETSTATIC, writer.field(writer.getName(), name, 'L' + VALUE_FUNCTION + ';'))
+                            .aload(1).push(writer, columnIndex)
+                            .invokeInterface(writer.interfaceMethod(VALUE_FUNCTION, "getValue", "(Ljava/sql/ResultSet;I)Ljava/lang/Object;"), 3)
+                            .op(ResultSetClassWriter.CHECKCAST, writer.type(ResultSetClassWriter.getInternalName(field.getType())));
+                    putField(writer, code, field);
+                    continue;
+                }
+            }
+            String name = "C" + constants.size();
+            constants.add(planMappers[i]);
+            constantTypes.add(FIELD_MAPPER);
+            code.op(ResultSetClassWriter.GETSTATIC, writer.field(writer.getName(), name, 'L' + FIELD_MAPPER + ';'))
+                    .aload(0).aload(1).push(writer, columnIndex)
+                    .invokeInterface(writer.interfaceMethod(FIELD_MAPPER, "map", "(Ljava/lang/Object;Ljava/sql/ResultSet;I)V"), 4);
+        }
+        for (int i = 0; i < constantTypes.size(); i++)
+            writer.addField(ResultSetClassWriter.ACC_PRIVATE | ResultSetClassWriter.ACC_STATIC | ResultSetClassWriter.ACC_FINAL, "C" + i, 'L' + constantTypes.get(i) + ';');
+        addConstructor(writer);
+        addStaticInitializer(writer, constantTypes);
+        ResultSetClassWriter.Code map = new ResultSetClassWriter.Code(2, 3);
+        for (int i = 0; i < methods.size(); i++) {
+            writer.addMethod(ResultSetClassWriter.ACC_PRIVATE | ResultSetClassWriter.ACC_STATIC, "map" + i, COLUMNS_DESCRIPTOR,
+                    methods.get(i).op(ResultSetClassWriter.RETURN));
+            map.aload(1).aload(2).op(ResultSetClassWriter.INVOKESTATIC, writer.method(writer.getName(), "map" + i, COLUMNS_DESCRIPTOR));
+        }
+        writer.addMethod(ResultSetClassWriter.ACC_PUBLIC, "map", COLUMNS_DESCRIPTOR, map.op(ResultSetClassWriter.RETURN));
+        byte[] bytes = writer.toByteArray(OBJECT, ROW_MAPPER);
+        MethodHandles.Lookup hidden = lookup.defineHiddenClassWithClassData(bytes, constants.toArray(), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+        try {
+            return (ResultSetRowMapper<E>) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (RuntimeException | Error | IllegalAccessException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("generated row mapper constructor: " + entity, e);
+        }
+    }
+
+    private static void putField(ResultSetClassWriter writer, ResultSetClassWriter.Code code, Field field) {
+        code.op(ResultSetClassWriter.PUTFIELD, writer.field(ResultSetClassWriter.getInternalName(field.getDeclaringClass()), field.getName(),
+                field.getType().descriptorString()));
+    }
+
+    private static void addConstructor(ResultSetClassWriter writer) {
+        ResultSetClassWriter.Code code = new ResultSetClassWriter.Code(1, 1)
+                .aload(0)
+                .op(ResultSetClassWriter.INVOKESPECIAL, writer.method(OBJECT, "<init>", "()V"))
+                .op(ResultSetClassWriter.RETURN);
+        writer.addMethod(0, "<init>", "()V", code);
+    }
+
+    /**
+     * static fields of the class data, an array of converters and field mappers
+     */
+    private static void addStaticInitializer(ResultSetClassWriter writer, List<String> constantTypes) {
+        ResultSetClassWriter.Code code = new ResultSetClassWriter.Code(3, 1)
+                .op(ResultSetClassWriter.INVOKESTATIC, writer.method("java/lang/invoke/MethodHandles", "lookup", "()L" + LOOKUP + ';'))
+                .op(ResultSetClassWriter.LDC_W, writer.string("_"))
+                .op(ResultSetClassWriter.LDC_W, writer.type("[Ljava/lang/Object;"))
+                .op(ResultSetClassWriter.INVOKESTATIC, writer.method("java/lang/invoke/MethodHandles", "classData",
+                        "(L" + LOOKUP + ";Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;"))
+                .op(ResultSetClassWriter.CHECKCAST, writer.type("[Ljava/lang/Object;"))
+                .astore(0);
+        for (int i = 0; i < constantTypes.size(); i++) {
+            code.aload(0).push(writer, i).op(ResultSetClassWriter.AALOAD)
+                    .op(ResultSetClassWriter.CHECKCAST, writer.type(constantTypes.get(i)))
+                    .op(ResultSetClassWriter.PUTSTATIC, writer.field(writer.getName(), "C" + i, 'L' + constantTypes.get(i) + ';'));
+        }
+        writer.addMethod(ResultSetClassWriter.ACC_STATIC, "<clinit>", "()V", code.op(ResultSetClassWriter.RETURN));
+    }
+
+    /**
+     * field written by putfield of a class in the entity package and nest
+     */
+    private boolean isWritable(Field field) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic())
+            return false;
+        Class<?> owner = field.getDeclaringClass();
+        if (!isAccessible(owner) || !isAccessible(field.getType()))
+            return false;
+        if (Modifier.isPublic(modifiers))
+            return true;
+        if (Modifier.isPrivate(modifiers))
+            return owner.getNestHost() == entity.getNestHost();
+        return isSamePackage(owner);
+    }
+
+    private boolean isAccessible(Class<?> type) {
+        while (type.isArray())
+            type = type.getComponentType();
+        if (type.isPrimitive() || isSamePackage(type))
+            return true;
+        Module module = type.getModule();
+        return Modifier.isPublic(type.getModifiers()) && module.isExported(type.getPackageName(), entity.getModule())
+                && entity.getModule().canRead(module);
+    }
+
+    private boolean isSamePackage(Class<?> type) {
+        return type.getClassLoader() == entity.getClassLoader() && type.getPackageName().equals(entity.getPackageName());
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.metrics.ResultSetMapperListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Listener calls of one mapper, mappers keep null instead of a meter of the no-op listener.
+ */
+final class ResultSetMapperMeter {
+    private final ResultSetMapperListener listener;
+    private final Class<?> entity;
+    private final int sampleInterval;
+    /**
+     * racy counter, lost increments only shift the sampled rows
+     */
+    private int rows;
+
+    private ResultSetMapperMeter(ResultSetMapperListener listener, Class<?> entity) {
+        this.listener = listener;
+        this.entity = entity;
+        this.sampleInterval = listener.getColumnSampleInterval();
+    }
+
+    static ResultSetMapperMeter of(ResultSetMapperListener listener, Class<?> entity) {
+        return listener == ResultSetMapperListener.NOOP ? null : new ResultSetMapperMeter(listener, entity);
+    }
+
+    <E> ResultSetMapperPlan<E> onLayout(ResultSetMapperPlan<E> plan) {
+        listener.onLayout(entity, plan.getColumnNames(), plan.getColumnCount() - plan.getMappedColumnCount());
+        return plan;
+    }
+
+    <E> void map(ResultSetMapperPlan<E> plan, E target, ResultSet rs) throws SQLException {
+        if (sampleInterval > 0 && ++rows % sampleInterval == 0)
+            plan.map(target, rs, listener, entity);
+        else
+            plan.map(target, rs);
+    }
+
+    void onRowMapped(long start) {
+        listener.onRowMapped(entity, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.field.ResultSetFieldMapper;
+import com.github.romansorokin.resultset.field.ResultSetTypedFieldMapper;
+import com.github.romansorokin.resultset.metrics.ResultSetMapperListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Column-index based mapping plan of one result-set layout.
+ * Columns without field mapper are removed, so mapping of a row is a plain loop over arrays.
+ * When the column types are known, {@link ResultSetTypedFieldMapper} are replaced by their mappers of the column type.
+ * Plans of {@link ResultSetMapperGenerator} map rows by a generated {@link ResultSetRowMapper} instead of the loop.
+ */
+public final class ResultSetMapperPlan<E> {
+    private final List<String> columnNames;
+    private final int[] columnIndexes;
+    private final ResultSetFieldMapper<E>[] mappers;
+    private final ResultSetRowMapper<E> rowMapper;
+
+    private ResultSetMapperPlan(List<String> columnNames, int[] columnIndexes, ResultSetFieldMapper<E>[] mappers, ResultSetRowMapper<E> rowMapper) {
+        this.columnNames = columnNames;
+        this.columnIndexes = columnIndexes;
+        this.mappers = mappers;
+        this.rowMapper = rowMapper;
+    }
+
+    public static <E> ResultSetMapperPlan<E> of(List<String> columnNames, Map<String, ResultSetFieldMapper<E>> fieldMappers) {
+        return of(ResultSetLayout.of(columnNames), fieldMappers);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> ResultSetMapperPlan<E> of(ResultSetLayout layout, Map<String, ResultSetFieldMapper<E>> fieldMappers) {
+        List<String> columnNames = layout.getColumnNames();
+        List<Integer> indexes = new ArrayList<>();
+        List<ResultSetFieldMapper<E>> mappers = new ArrayList<>();
+        for (int i = 0; i < columnNames.size(); i++) {
+            ResultSetFieldMapper<E> mapper = fieldMappers.get(columnNames.get(i));
+            if (Objects.isNull(mapper))
+                continue;
+            if (layout.hasColumnTypes() && mapper instanceof ResultSetTypedFieldMapper)
+                mapper = ((ResultSetTypedFieldMapper<E>) mapper).forColumnType(layout.getColumnType(i + 1));
+            indexes.add(i + 1);
+            mappers.add(mapper);
+        }
+        int[] columnIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+        return new ResultSetMapperPlan<>(List.copyOf(columnNames), columnIndexes, mappers.toArray(ResultSetFieldMapper[]::new), null);
+    }
+
+    /**
+     * plan of the same columns mapped by the row mapper
+     */
+    ResultSetMapperPlan<E> withRowMapper(ResultSetRowMapper<E> rowMapper) {
+        return new ResultSetMapperPlan<>(columnNames, columnIndexes, mappers, rowMapper);
+    }
+
+    public void map(E entity, ResultSet rs) throws SQLException {
+        if (Objects.nonNull(rowMapper)) {
+            rowMapper.map(entity, rs);
+            return;
+        }
+        int[] indexes = columnIndexes;
+        ResultSetFieldMapper<E>[] fieldMappers = mappers;
+        for (int i = 0; i < indexes.length; i++)
+            fieldMappers[i].map(entity, rs, indexes[i]);
+    }
+
+    /**
+     * maps the row and reports the time of every mapped column
+     */
+    public void map(E target, ResultSet rs, ResultSetMapperListener listener, Class<?> entity) throws SQLException {
+        int[] indexes = columnIndexes;
+        ResultSetFieldMapper<E>[] fieldMappers = mappers;
+        for (int i = 0; i < indexes.length; i++) {
+            long start = System.nanoTime();
+            fieldMappers[i].map(target, rs, indexes[i]);
+            listener.onColumnMapped(entity, columnNames.get(indexes[i] - 1), System.nanoTime() - start);
+        }
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public int getColumnCount() {
+        return columnNames.size();
+    }
+
+    public int getMappedColumnCount() {
+        return columnIndexes.length;
+    }
+
+    /**
+     * @return true when rows are mapped by a class of {@link ResultSetMapperGenerator}
+     */
+    public boolean isGenerated() {
+        return Objects.nonNull(rowMapper);
+    }
+
+    int[] getColumnIndexes() {
+        return columnIndexes;
+    }
+
+    ResultSetFieldMapper<E>[] getMappers() {
+        return mappers;
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.romansorokin.resultset.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Mapping of the current row of one result-set layout, implemented by classes of {@link ResultSetMapperGenerator}.
+ */
+public interface ResultSetRowMapper<E> {
+    void map(E entity, ResultSet rs) throws SQLException;
+}
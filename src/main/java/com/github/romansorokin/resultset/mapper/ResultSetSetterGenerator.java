@@ -0,0 +1,61 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.field.ResultSetFieldAccess;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Generates a hidden class per field setter of {@link ResultSetFieldAccess}: the setter handle is kept in a static final field
+ * and invoked by {@code invokeExact}, so the JIT sees the handle as a constant at every call site of the setter.
+ */
+public final class ResultSetSetterGenerator {
+    private static final String OBJECT = "java/lang/Object";
+    private static final String METHOD_HANDLE = ResultSetClassWriter.getInternalName(MethodHandle.class);
+    private static final String LOOKUP = ResultSetClassWriter.getInternalName(MethodHandles.Lookup.class);
+
+    private ResultSetSetterGenerator() {
+    }
+
+    /**
+     * @param setterType functional interface of the setter, its method takes the entity and the value and returns void
+     * @param handle     handle of type (Object, value type)void
+     * @return instance of the setter type, null when the class can not be defined
+     */
+    public static <S> S of(Class<S> setterType, String methodName, Class<?> valueType, MethodHandle handle) {
+        String descriptor = "(Ljava/lang/Object;" + (valueType.isPrimitive() ? valueType.descriptorString() : "Ljava/lang/Object;") + ")V";
+        ResultSetClassWriter writer = new ResultSetClassWriter(ResultSetClassWriter.getInternalName(ResultSetSetterGenerator.class) + "$Setter");
+        writer.addField(ResultSetClassWriter.ACC_PRIVATE | ResultSetClassWriter.ACC_STATIC | ResultSetClassWriter.ACC_FINAL, "H", 'L' + METHOD_HANDLE + ';');
+        writer.addMethod(0, "<init>", "()V", new ResultSetClassWriter.Code(1, 1)
+                .aload(0)
+                .op(ResultSetClassWriter.INVOKESPECIAL, writer.method(OBJECT, "<init>", "()V"))
+                .op(ResultSetClassWriter.RETURN));
+        writer.addMethod(ResultSetClassWriter.ACC_STATIC, "<clinit>", "()V", new ResultSetClassWriter.Code(3, 0)
+                .op(ResultSetClassWriter.INVOKESTATIC, writer.method("java/lang/invoke/MethodHandles", "lookup", "()L" + LOOKUP + ';'))
+                .op(ResultSetClassWriter.LDC_W, writer.string("_"))
+                .op(ResultSetClassWriter.LDC_W, writer.type(METHOD_HANDLE))
+                .op(ResultSetClassWriter.INVOKESTATIC, writer.method("java/lang/invoke/MethodHandles", "classData",
+                        "(L" + LOOKUP + ";Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;"))
+                .op(ResultSetClassWriter.CHECKCAST, writer.type(METHOD_HANDLE))
+                .op(ResultSetClassWriter.PUTSTATIC, writer.field(writer.getName(), "H", 'L' + METHOD_HANDLE + ';'))
+                .op(ResultSetClassWriter.RETURN));
+        writer.addMethod(ResultSetClassWriter.ACC_PUBLIC, methodName, descriptor, new ResultSetClassWriter.Code(4, 4)
+                .op(ResultSetClassWriter.GETSTATIC, writer.field(writer.getName(), "H", 'L' + METHOD_HANDLE + ';'))
+                .aload(1)
+                .load(valueType, 2)
+                .op(ResultSetClassWriter.INVOKEVIRTUAL, writer.method(METHOD_HANDLE, "invokeExact", descriptor))
+                .op(ResultSetClassWriter.RETURN));
+        byte[] bytes = writer.toByteArray(OBJECT, ResultSetClassWriter.getInternalName(setterType));
+        try {
+            MethodHandles.Lookup hidden = MethodHandles.lookup().defineHiddenClassWithClassData(bytes, handle, true);
+            return setterType.cast(hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke());
+        } catch (IllegalAccessException | LinkageError e) {
+            return null;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("generated setter constructor: " + setterType, e);
+        }
+    }
+}
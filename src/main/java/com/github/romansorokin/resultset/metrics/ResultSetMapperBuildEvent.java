@@ -0,0 +1,27 @@
+package com.github.romansorokin.resultset.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.github.romansorokin.resultset.MapperBuild")
+@Label("Result-Set Mapper Build")
+@Category("Result-Set Mapper")
+@Description("Reading annotations and creating field mappers of an entity")
+public class ResultSetMapperBuildEvent extends Event {
+    @Label("Entity")
+    Class<?> entity;
+
+    @Label("Field Count")
+    int fieldCount;
+
+    public void setEntity(Class<?> entity) {
+        this.entity = entity;
+    }
+
+    public void setFieldCount(int fieldCount) {
+        this.fieldCount = fieldCount;
+    }
+}
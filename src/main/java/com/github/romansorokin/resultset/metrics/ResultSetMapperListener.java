@@ -0,0 +1,41 @@
+package com.github.romansorokin.resultset.metrics;
+
+import java.util.List;
+
+/**
+ * Instrumentation hooks of entity mappers, every hook is a no-op by default.
+ * Mappers built while {@link #NOOP} is installed skip instrumentation completely.
+ * Hooks are called on the mapping thread and should not block.
+ */
+public interface ResultSetMapperListener {
+    ResultSetMapperListener NOOP = new ResultSetMapperListener() {};
+
+    /**
+     * @param nanos time of reading annotations and creating field mappers
+     */
+    default void onMapperBuilt(Class<?> entity, long nanos) {}
+
+    /**
+     * called once per new result-set layout
+     *
+     * @param unmatchedColumns count of columns without field mapper, their values are never read
+     */
+    default void onLayout(Class<?> entity, List<String> columnNames, int unmatchedColumns) {}
+
+    /**
+     * @param nanos time of creating and filling the entity of one row, cursor movement excluded
+     */
+    default void onRowMapped(Class<?> entity, long nanos) {}
+
+    /**
+     * called for every mapped column of each sampled row
+     */
+    default void onColumnMapped(Class<?> entity, String columnName, long nanos) {}
+
+    /**
+     * @return every n-th row of a mapper is sampled by {@link #onColumnMapped}, 0 disables sampling
+     */
+    default int getColumnSampleInterval() {
+        return 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.romansorokin.resultset.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.github.romansorokin.resultset.Mapping")
+@Label("Result-Set Mapping")
+@Category("Result-Set Mapper")
+@Description("Mapping of all rows of one result-set, cursor movement included")
+public class ResultSetMappingEvent extends Event {
+    @Label("Entity")
+    Class<?> entity;
+
+    @Label("Row Count")
+    long rowCount;
+
+    @Label("Column Count")
+    int columnCount;
+
+    @Label("Unmatched Columns")
+    @Description("Columns without field mapper")
+    int unmatchedColumnCount;
+
+    @Label("Binary Bytes")
+    @Description("Bytes of byte[] fields mapped on the thread reading the result-set")
+    @DataAmount
+    long binaryBytes;
+}
@@ -0,0 +1,87 @@
+package com.github.romansorokin.resultset.metrics;
+
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Collects one {@link ResultSetMappingEvent} of a result-set.
+ * {@link #begin} returns a recorder doing nothing while the event is disabled, so callers do not check it.
+ * Bytes of byte[] fields are counted by {@link #getBytes(ResultSet, int)} on the thread mapping the row
+ * and added to the recorder by {@link #onRow()} on the same thread.
+ */
+public final class ResultSetMappingRecorder {
+    private static final ResultSetMappingEvent PROBE = new ResultSetMappingEvent();
+    private static final ResultSetMappingRecorder DISABLED = new ResultSetMappingRecorder(null);
+    /**
+     * bytes of byte[] fields mapped by the thread since its last row
+     */
+    private static final ThreadLocal<long[]> BINARY_BYTES = ThreadLocal.withInitial(() -> new long[1]);
+
+    private ResultSetMappingEvent event;
+
+    private ResultSetMappingRecorder(ResultSetMappingEvent event) {
+        this.event = event;
+    }
+
+    public static boolean isEnabled() {
+        return PROBE.isEnabled();
+    }
+
+    /**
+     * @return recorder of the result-set, it does nothing when the event is disabled
+     */
+    public static ResultSetMappingRecorder begin(ResultSet rs, ResultSetMapper<?> mapper) throws SQLException {
+        if (!PROBE.isEnabled())
+            return DISABLED;
+        ResultSetMappingEvent event = new ResultSetMappingEvent();
+        event.entity = mapper.getEntityType();
+        event.columnCount = rs.getMetaData().getColumnCount();
+        event.unmatchedColumnCount = event.columnCount - mapper.getMappedColumnCount(rs);
+        BINARY_BYTES.get()[0] = 0;
+        event.begin();
+        return new ResultSetMappingRecorder(event);
+    }
+
+    /**
+     * value getter of byte[] fields, the length is counted while the event is enabled
+     */
+    public static byte[] getBytes(ResultSet rs, int index) throws SQLException {
+        byte[] value = rs.getBytes(index);
+        if (Objects.nonNull(value) && PROBE.isEnabled())
+            BINARY_BYTES.get()[0] += value.length;
+        return value;
+    }
+
+    public boolean isRecording() {
+        return Objects.nonNull(event);
+    }
+
+    /**
+     * called after the row is mapped, on the thread mapping it
+     */
+    public void onRow() {
+        ResultSetMappingEvent event = this.event;
+        if (Objects.isNull(event))
+            return;
+        event.rowCount++;
+        long[] bytes = BINARY_BYTES.get();
+        event.binaryBytes += bytes[0];
+        bytes[0] = 0;
+    }
+
+    /**
+     * commits the event once, later calls do nothing
+     */
+    public void end() {
+        ResultSetMappingEvent event = this.event;
+        if (Objects.isNull(event))
+            return;
+        this.event = null;
+        event.end();
+        if (event.shouldCommit())
+            event.commit();
+    }
+}
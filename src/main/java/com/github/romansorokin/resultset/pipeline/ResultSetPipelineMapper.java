@@ -0,0 +1,264 @@
+package com.github.romansorokin.resultset.pipeline;
+
+import com.github.romansorokin.resultset.buffer.ResultSetBufferMetaData;
+import com.github.romansorokin.resultset.buffer.ResultSetColumnCodec;
+import com.github.romansorokin.resultset.buffer.ResultSetRowBuffer;
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Two stage mapping of rows with expensive field mappers.
+ * The calling thread reads column values by {@link ResultSetRowBuffer#readObjects(ResultSet, ResultSetColumnCodec[], Object[])} into reusable batches of rows,
+ * workers map the batches through {@link ResultSetRowBuffer} by the row mapper, so conversions of dates and timestamps run on the workers.
+ * Mapped rows are passed to the action on the calling thread, in result-set order when ordered, in order of mapped batches otherwise.
+ * At most queueDepth batches are read and not yet passed to the action.
+ * The row mapper is called by several workers at once and must be thread-safe, like the mappers of {@link com.github.romansorokin.resultset.ResultSetMapperUtils}.
+ */
+public class ResultSetPipelineMapper<T> implements ResultSetMapper<List<T>>, AutoCloseable {
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    private static final Batch<?> STOP = new Batch<>(0, 0);
+
+    private final ResultSetMapper<T> mapper;
+    private final ExecutorService executor;
+    private final boolean ownExecutor;
+    private final int workers;
+    private final int batchSize;
+    private final int queueDepth;
+    private final boolean ordered;
+
+    /**
+     * ordered mapper of batches of {@link #DEFAULT_BATCH_SIZE} rows, two batches per worker
+     */
+    public ResultSetPipelineMapper(ResultSetMapper<T> mapper, int workers) {
+        this(mapper, workers, DEFAULT_BATCH_SIZE, 2 * workers, true);
+    }
+
+    /**
+     * mapper on its own daemon threads of the workers, stopped by {@link #close()}
+     */
+    public ResultSetPipelineMapper(ResultSetMapper<T> mapper, int workers, int batchSize, int queueDepth, boolean ordered) {
+        this(mapper, newExecutor(workers), true, workers, batchSize, queueDepth, ordered);
+    }
+
+    /**
+     * mapper running workers on the executor, the executor must run all workers of a mapping at once and is not stopped by {@link #close()}
+     */
+    public ResultSetPipelineMapper(ResultSetMapper<T> mapper, ExecutorService executor, int workers, int batchSize, int queueDepth, boolean ordered) {
+        this(mapper, executor, false, workers, batchSize, queueDepth, ordered);
+    }
+
+    private ResultSetPipelineMapper(ResultSetMapper<T> mapper, ExecutorService executor, boolean ownExecutor, int workers, int batchSize, int queueDepth, boolean ordered) {
+        if (workers < 1)
+            throw new IllegalArgumentException("workers must be positive: " + workers);
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batch size must be positive: " + batchSize);
+        if (queueDepth < 1)
+            throw new IllegalArgumentException("queue depth must be positive: " + queueDepth);
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.ownExecutor = ownExecutor;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.queueDepth = queueDepth;
+        this.ordered = ordered;
+    }
+
+    /**
+     * maps all rows into one list, like {@link com.github.romansorokin.resultset.ResultSetMapperUtils#getListMapper(ResultSetMapper)}
+     */
+    @Override
+    public boolean mapNext(ResultSet rs, Consumer<? super List<T>> sink) throws SQLException {
+        List<T> result = new ArrayList<>();
+        forEach(rs, result::add);
+        sink.accept(result);
+        return true;
+    }
+
+    /**
+     * maps all rows, the action is called on the calling thread
+     *
+     * @return count of mapped rows
+     */
+    public long forEach(ResultSet rs, Consumer<? super T> action) throws SQLException {
+        ResultSetBufferMetaData meta = ResultSetBufferMetaData.of(rs.getMetaData());
+        return new Run(meta, action).run(rs, ResultSetColumnCodec.of(meta));
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return mapper.getEntityType();
+    }
+
+    @Override
+    public void close() {
+        if (ownExecutor)
+            executor.shutdown();
+    }
+
+    private static ExecutorService newExecutor(int workers) {
+        if (workers < 1)
+            throw new IllegalArgumentException("workers must be positive: " + workers);
+        ThreadFactory factory = task -> {
+            Thread thread = new Thread(task, "result-set-pipeline-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(workers, factory);
+    }
+
+    private final class Run {
+        private final ResultSetBufferMetaData meta;
+        private final Consumer<? super T> action;
+        private final BlockingQueue<Batch<T>> read = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Batch<T>> mapped = new LinkedBlockingQueue<>();
+        private final ArrayDeque<Batch<T>> free = new ArrayDeque<>();
+        /**
+         * mapped batches waiting for the previous ones by sequence modulo queue depth, null when not ordered
+         */
+        private final Object[] reorder;
+        private long nextSequence;
+        private long nextDelivery;
+        private int inFlight;
+        private long count;
+
+        private Run(ResultSetBufferMetaData meta, Consumer<? super T> action) {
+            this.meta = meta;
+            this.action = action;
+            this.reorder = ordered ? new Object[queueDepth] : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private long run(ResultSet rs, ResultSetColumnCodec[] codecs) throws SQLException {
+            ResultSetMappingRecorder recorder = ResultSetMappingRecorder.begin(rs, mapper);
+            int started = 0;
+            try {
+                for (; started < workers; started++)
+                    executor.execute(this::work);
+                boolean more = true;
+                while (more || inFlight > 0) {
+                    if (more && inFlight < queueDepth) {
+                        Batch<T> batch = free.isEmpty() ? new Batch<>(batchSize, codecs.length) : free.poll();
+                        while (batch.size < batchSize && (more = rs.next())) {
+                            ResultSetRowBuffer.readObjects(rs, codecs, batch.rows[batch.size++]);
+                            recorder.onRow();
+                        }
+                        if (batch.size > 0) {
+                            batch.sequence = nextSequence++;
+                            inFlight++;
+                            read.add(batch);
+                        } else {
+                            free.add(batch);
+                        }
+                        deliver(mapped.poll());
+                        continue;
+                    }
+                    deliver(mapped.take());
+                }
+                return count;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ResultSetMapperRuntimeException("interrupted on wait of mapped rows", e);
+            } finally {
+                for (int i = 0; i < started; i++)
+                    read.add((Batch<T>) STOP);
+                recorder.end();
+            }
+        }
+
+        private void deliver(Batch<T> batch) throws SQLException {
+            for (; Objects.nonNull(batch); batch = mapped.poll()) {
+                if (Objects.nonNull(batch.error))
+                    throw rethrow(batch.error);
+                if (!ordered) {
+                    accept(batch);
+                    continue;
+                }
+                reorder[(int) (batch.sequence % queueDepth)] = batch;
+                while (Objects.nonNull(reorder[(int) (nextDelivery % queueDepth)])) {
+                    int index = (int) (nextDelivery % queueDepth);
+                    @SuppressWarnings("unchecked")
+                    Batch<T> next = (Batch<T>) reorder[index];
+                    reorder[index] = null;
+                    nextDelivery++;
+                    accept(next);
+                }
+            }
+        }
+
+        private void accept(Batch<T> batch) {
+            List<T> results = batch.results;
+            for (int i = 0, size = results.size(); i < size; i++)
+                action.accept(results.get(i));
+            count += results.size();
+            results.clear();
+            batch.size = 0;
+            inFlight--;
+            free.add(batch);
+        }
+
+        private void work() {
+            ResultSetRowBuffer rows = new ResultSetRowBuffer(meta);
+            while (true) {
+                Batch<T> batch;
+                try {
+                    batch = read.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (batch == STOP)
+                    return;
+                try {
+                    rows.reset(batch.rows, batch.size);
+                    while (mapper.mapNext(rows, batch.add)) {
+                    }
+                } catch (Throwable e) {
+                    batch.error = e;
+                }
+                mapped.add(batch);
+            }
+        }
+    }
+
+    private static SQLException rethrow(Throwable error) {
+        if (error instanceof SQLException)
+            return (SQLException) error;
+        if (error instanceof RuntimeException)
+            throw (RuntimeException) error;
+        if (error instanceof Error)
+            throw (Error) error;
+        throw new ResultSetMapperRuntimeException("pipelined row mapping", error);
+    }
+
+    private static final class Batch<T> {
+        private final Object[][] rows;
+        private final List<T> results;
+        private final Consumer<T> add;
+        private int size;
+        private long sequence;
+        private Throwable error;
+
+        private Batch(int batchSize, int columnCount) {
+            this.rows = new Object[batchSize][columnCount];
+            this.results = new ArrayList<>(batchSize);
+            this.add = results::add;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.romansorokin.resultset.row;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable key index of one result-set layout shared by all its row maps.
+ * Duplicate column names are one key with the value of the last column, like {@link Map#put(Object, Object)}.
+ */
+public final class ResultSetRowKeys {
+    private final String[] names;
+    private final int[] columnIndexes;
+    private final int columnCount;
+    private final Map<String, Integer> keys;
+    /**
+     * keys by lower-case name, null when the case is not ignored
+     */
+    private final Map<String, Integer> lowerCaseKeys;
+
+    private ResultSetRowKeys(String[] names, int[] columnIndexes, int columnCount, Map<String, Integer> keys, Map<String, Integer> lowerCaseKeys) {
+        this.names = names;
+        this.columnIndexes = columnIndexes;
+        this.columnCount = columnCount;
+        this.keys = keys;
+        this.lowerCaseKeys = lowerCaseKeys;
+    }
+
+    public static ResultSetRowKeys of(List<String> columnNames, boolean ignoreCase) {
+        List<String> names = new ArrayList<>();
+        List<Integer> columnIndexes = new ArrayList<>();
+        Map<String, Integer> keys = new HashMap<>();
+        Map<String, Integer> lowerCaseKeys = ignoreCase ? new HashMap<>() : null;
+        for (int i = 0; i < columnNames.size(); i++) {
+            String name = columnNames.get(i);
+            Integer key = ignoreCase ? lowerCaseKeys.get(name.toLowerCase(Locale.ROOT)) : keys.get(name);
+            if (Objects.nonNull(key)) {
+                columnIndexes.set(key, i);
+                continue;
+            }
+            key = names.size();
+            names.add(name);
+            columnIndexes.add(i);
+            keys.put(name, key);
+            if (ignoreCase)
+                lowerCaseKeys.put(name.toLowerCase(Locale.ROOT), key);
+        }
+        return new ResultSetRowKeys(names.toArray(String[]::new), columnIndexes.stream().mapToInt(Integer::intValue).toArray(),
+                columnNames.size(), Map.copyOf(keys), ignoreCase ? Map.copyOf(lowerCaseKeys) : null);
+    }
+
+    /**
+     * @return key number, -1 when there is no such key
+     */
+    public int indexOf(Object name) {
+        if (!(name instanceof String))
+            return -1;
+        Integer key = keys.get(name);
+        if (Objects.isNull(key) && Objects.nonNull(lowerCaseKeys))
+            key = lowerCaseKeys.get(((String) name).toLowerCase(Locale.ROOT));
+        return Objects.isNull(key) ? -1 : key;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String getName(int key) {
+        return names[key];
+    }
+
+    /**
+     * @return zero-based column index of the key value
+     */
+    public int getColumnIndex(int key) {
+        return columnIndexes[key];
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.romansorokin.resultset.row;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Unmodifiable row map over the column values array, keys are looked up by the shared {@link ResultSetRowKeys}.
+ * Use {@code new HashMap<>(row)} for a modifiable copy.
+ */
+public final class ResultSetRowMap extends AbstractMap<String, Object> {
+    private final ResultSetRowKeys keys;
+    private final Object[] values;
+
+    public ResultSetRowMap(ResultSetRowKeys keys, Object[] values) {
+        if (values.length != keys.getColumnCount())
+            throw new IllegalArgumentException("values count " + values.length + " differs from column count " + keys.getColumnCount());
+        this.keys = keys;
+        this.values = values;
+    }
+
+    public ResultSetRowKeys getKeys() {
+        return keys;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = keys.indexOf(key);
+        return index < 0 ? null : values[keys.getColumnIndex(index)];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return keys.indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int key;
+
+                    @Override
+                    public boolean hasNext() {
+                        return key < keys.size();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+                        int current = key++;
+                        return new SimpleImmutableEntry<>(keys.getName(current), values[keys.getColumnIndex(current)]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.size();
+            }
+        };
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int index = keys.indexOf(key);
+        return index < 0 ? defaultValue : values[keys.getColumnIndex(index)];
+    }
+}
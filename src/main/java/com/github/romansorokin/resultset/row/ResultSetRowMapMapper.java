@@ -0,0 +1,32 @@
+package com.github.romansorokin.resultset.row;
+
+import com.github.romansorokin.resultset.mapper.ResultSetLayoutCache;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Maps rows into {@link ResultSetRowMap}, column names are read once per result-set layout.
+ */
+public class ResultSetRowMapMapper implements ResultSetMapper<Map<String, Object>> {
+    private final ResultSetLayoutCache<ResultSetRowKeys> layouts;
+
+    public ResultSetRowMapMapper(boolean ignoreCase) {
+        this.layouts = new ResultSetLayoutCache<>(names -> ResultSetRowKeys.of(names, ignoreCase));
+    }
+
+    @Override
+    public boolean mapNext(ResultSet rs, Consumer<? super Map<String, Object>> sink) throws SQLException {
+        if (!rs.next())
+            return false;
+        ResultSetRowKeys keys = layouts.get(rs);
+        Object[] values = new Object[keys.getColumnCount()];
+        for (int i = 0; i < values.length; i++)
+            values[i] = rs.getObject(i + 1);
+        sink.accept(new ResultSetRowMap(keys, values));
+        return true;
+    }
+}
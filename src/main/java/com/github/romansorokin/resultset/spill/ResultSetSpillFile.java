@@ -0,0 +1,179 @@
+package com.github.romansorokin.resultset.spill;
+
+import com.github.romansorokin.resultset.buffer.ResultSetColumnCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Temporary file of rows in binary form: length of the row, null bitmap and not null values by {@link ResultSetColumnCodec}.
+ * Rows are appended through a direct buffer and read back by memory-mapped regions.
+ * The file is opened with {@link StandardOpenOption#DELETE_ON_CLOSE}, it may be unlinked right after creation, and is deleted on close.
+ */
+public final class ResultSetSpillFile implements AutoCloseable {
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    private static final long REGION_SIZE = 1L << 26;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ResultSetColumnCodec[] codecs;
+    private final int bitmapSize;
+    private final Object[] encoded;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private long size;
+    private long rowCount;
+
+    private ResultSetSpillFile(Path path, FileChannel channel, ResultSetColumnCodec[] codecs) {
+        this.path = path;
+        this.channel = channel;
+        this.codecs = codecs;
+        this.bitmapSize = (codecs.length + 7) / 8;
+        this.encoded = new Object[codecs.length];
+    }
+
+    public static ResultSetSpillFile create(Path directory, ResultSetColumnCodec[] codecs) throws IOException {
+        Path path = Files.createTempFile(directory, "result-set-", ".spill");
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+            return new ResultSetSpillFile(path, channel, codecs);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    /**
+     * @return estimated bytes of the row in the file, values are not encoded
+     */
+    public static int getSize(ResultSetColumnCodec[] codecs, Object[] row) {
+        int size = Integer.BYTES + (codecs.length + 7) / 8;
+        for (int i = 0; i < codecs.length; i++)
+            if (Objects.nonNull(row[i]))
+                size += codecs[i].estimate(row[i]);
+        return size;
+    }
+
+    /**
+     * values of the row are encoded once
+     */
+    public void append(Object[] row) throws IOException {
+        int rowSize = Integer.BYTES + bitmapSize;
+        for (int i = 0; i < codecs.length; i++) {
+            encoded[i] = Objects.isNull(row[i]) ? null : codecs[i].encode(row[i]);
+            if (Objects.nonNull(encoded[i]))
+                rowSize += codecs[i].size(encoded[i]);
+        }
+        if (buffer.remaining() < rowSize)
+            flush();
+        if (buffer.remaining() < rowSize) {
+            ByteBuffer large = ByteBuffer.allocate(rowSize);
+            encode(large);
+            large.flip();
+            write(large);
+        } else {
+            encode(buffer);
+        }
+        rowCount++;
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return bytes written to the file, rows in the write buffer excluded
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * reader of the rows flushed before the call, readers are independent of each other
+     */
+    public Reader reader() {
+        return new Reader();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private void encode(ByteBuffer target) {
+        int start = target.position();
+        target.putInt(0);
+        int bitmap = target.position();
+        for (int i = 0; i < bitmapSize; i++)
+            target.put((byte) 0);
+        for (int i = 0; i < codecs.length; i++) {
+            if (Objects.isNull(encoded[i])) {
+                target.put(bitmap + (i >>> 3), (byte) (target.get(bitmap + (i >>> 3)) | 1 << (i & 7)));
+                continue;
+            }
+            codecs[i].write(target, encoded[i]);
+        }
+        target.putInt(start, target.position() - start - Integer.BYTES);
+    }
+
+    private void write(ByteBuffer source) throws IOException {
+        while (source.hasRemaining())
+            size += channel.write(source, size);
+    }
+
+    public final class Reader {
+        private final long limit = size;
+        private long position;
+        private long regionStart;
+        private MappedByteBuffer region;
+
+        private Reader() {
+        }
+
+        /**
+         * @return false when there are no more rows
+         */
+        public boolean read(Object[] row) throws IOException {
+            if (position >= limit)
+                return false;
+            map(Integer.BYTES);
+            int length = region.getInt((int) (position - regionStart));
+            map(Integer.BYTES + length);
+            region.position((int) (position - regionStart) + Integer.BYTES);
+            int bitmap = region.position();
+            region.position(bitmap + bitmapSize);
+            for (int i = 0; i < codecs.length; i++) {
+                boolean isNull = (region.get(bitmap + (i >>> 3)) & 1 << (i & 7)) != 0;
+                row[i] = isNull ? null : codecs[i].read(region);
+            }
+            position += Integer.BYTES + length;
+            return true;
+        }
+
+        private void map(int bytes) throws IOException {
+            if (Objects.nonNull(region) && position + bytes <= regionStart + region.capacity())
+                return;
+            regionStart = position;
+            region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(Math.max(REGION_SIZE, bytes), limit - position));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.romansorokin.resultset.spill;
+
+import com.github.romansorokin.resultset.buffer.ResultSetBufferMetaData;
+import com.github.romansorokin.resultset.buffer.ResultSetRowBuffer;
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Rows of a result-set mapped by {@link ResultSetSpillMapper}: rows within the memory budget are kept mapped,
+ * the rest are mapped again from the spill file on every iteration. Closing deletes the spill file.
+ * Iteration order is the result-set order, the collection is unmodifiable.
+ */
+public class ResultSetSpillList<T> extends AbstractCollection<T> implements AutoCloseable {
+    private static final int BATCH_SIZE = 256;
+
+    private final List<T> memory;
+    private final ResultSetMapper<T> mapper;
+    private final ResultSetBufferMetaData meta;
+    private final ResultSetSpillFile file;
+    private volatile boolean closed;
+
+    /**
+     * @param file spilled rows, null when all rows are in memory
+     */
+    public ResultSetSpillList(List<T> memory, ResultSetMapper<T> mapper, ResultSetBufferMetaData meta, ResultSetSpillFile file) {
+        this.memory = memory;
+        this.mapper = mapper;
+        this.meta = meta;
+        this.file = file;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (closed)
+            throw new IllegalStateException("spill list is closed");
+        Iterator<T> inMemory = Collections.unmodifiableList(memory).iterator();
+        if (Objects.isNull(file))
+            return inMemory;
+        return new SpilledIterator(inMemory, file.reader());
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, getRowCount());
+    }
+
+    public long getRowCount() {
+        return memory.size() + getSpilledRowCount();
+    }
+
+    public long getSpilledRowCount() {
+        return Objects.isNull(file) ? 0 : file.getRowCount();
+    }
+
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        if (Objects.isNull(file))
+            return;
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new ResultSetMapperRuntimeException("spill file close: " + file.getPath(), e);
+        }
+    }
+
+    private final class SpilledIterator implements Iterator<T> {
+        private final Iterator<T> inMemory;
+        private final ResultSetSpillFile.Reader reader;
+        private final ResultSetRowBuffer rows = new ResultSetRowBuffer(meta);
+        private final Object[][] batch = new Object[BATCH_SIZE][meta.getColumnCount()];
+        private final Consumer<T> setNext = value -> next = value;
+        private T next;
+        private boolean done;
+
+        private SpilledIterator(Iterator<T> inMemory, ResultSetSpillFile.Reader reader) {
+            this.inMemory = inMemory;
+            this.reader = reader;
+            rows.reset(batch, 0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (inMemory.hasNext() || Objects.nonNull(next))
+                return true;
+            if (closed)
+                throw new IllegalStateException("spill list is closed");
+            try {
+                while (!done) {
+                    if (mapper.mapNext(rows, setNext))
+                        return true;
+                    int count = 0;
+                    while (count < BATCH_SIZE && reader.read(batch[count]))
+                        count++;
+                    done = count == 0;
+                    rows.reset(batch, count);
+                }
+            } catch (IOException | SQLException e) {
+                done = true;
+                throw new ResultSetMapperRuntimeException("spill file read: " + file.getPath(), e);
+            }
+            return false;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            if (inMemory.hasNext())
+                return inMemory.next();
+            T result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.romansorokin.resultset.spill;
+
+import com.github.romansorokin.resultset.buffer.ResultSetBufferMetaData;
+import com.github.romansorokin.resultset.buffer.ResultSetColumnCodec;
+import com.github.romansorokin.resultset.buffer.ResultSetRowBuffer;
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Collection mapper of result-sets larger than the heap.
+ * Column values are read once by the codecs of the column types, rows are mapped through a one-row {@link ResultSetRowBuffer}.
+ * Rows are kept mapped while the estimated binary size of the rows read so far is within the memory budget,
+ * later rows are written to a spill file in the directory and mapped again on every iteration of {@link ResultSetSpillList}.
+ * Like collection mappers, the list is passed to the sink even when the result-set is empty.
+ */
+public class ResultSetSpillMapper<T> implements ResultSetMapper<ResultSetSpillList<T>> {
+    private final ResultSetMapper<T> mapper;
+    private final long memoryBudget;
+    private final Path directory;
+
+    /**
+     * @param memoryBudget bytes of rows in binary form kept in memory
+     */
+    public ResultSetSpillMapper(ResultSetMapper<T> mapper, long memoryBudget, Path directory) {
+        if (memoryBudget < 0)
+            throw new IllegalArgumentException("memory budget must not be negative: " + memoryBudget);
+        this.mapper = mapper;
+        this.memoryBudget = memoryBudget;
+        this.directory = directory;
+    }
+
+    @Override
+    public boolean mapNext(ResultSet rs, Consumer<? super ResultSetSpillList<T>> sink) throws SQLException {
+        ResultSetBufferMetaData meta = ResultSetBufferMetaData.of(rs.getMetaData());
+        ResultSetColumnCodec[] codecs = ResultSetColumnCodec.of(meta);
+        ResultSetRowBuffer rows = new ResultSetRowBuffer(meta);
+        Object[][] current = {new Object[codecs.length]};
+        List<T> memory = new ArrayList<>();
+        Consumer<T> add = memory::add;
+        long bytes = 0;
+        ResultSetSpillFile file = null;
+        try {
+            while (rs.next()) {
+                ResultSetRowBuffer.read(rs, codecs, current[0]);
+                if (Objects.isNull(file)) {
+                    bytes += ResultSetSpillFile.getSize(codecs, current[0]);
+                    if (bytes <= memoryBudget) {
+                        mapper.mapNext(rows.reset(current, 1), add);
+                        continue;
+                    }
+                    file = ResultSetSpillFile.create(directory, codecs);
+                }
+                file.append(current[0]);
+            }
+            if (Objects.nonNull(file))
+                file.flush();
+        } catch (IOException e) {
+            close(file, e);
+            throw new ResultSetMapperRuntimeException("result-set spill to " + directory, e);
+        } catch (SQLException | RuntimeException | Error e) {
+            close(file, e);
+            throw e;
+        }
+        sink.accept(new ResultSetSpillList<>(memory, mapper, meta, file));
+        return true;
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return mapper.getEntityType();
+    }
+
+    private static void close(ResultSetSpillFile file, Throwable cause) {
+        if (Objects.isNull(file))
+            return;
+        try {
+            file.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.romansorokin.resultset.stream;
+
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Iterator of the mapped rows, {@link #hasNext()} reads one row ahead.
+ * {@link #close()} closes the result-set, rows left unread are skipped.
+ */
+public class ResultSetIterator<T> implements Iterator<T>, AutoCloseable {
+    private final ResultSet rs;
+    private final ResultSetMapper<T> mapper;
+    private final Consumer<T> setNext = value -> next = value;
+    private T next;
+    private boolean done;
+    private boolean started;
+    private ResultSetMappingRecorder recorder;
+
+    public ResultSetIterator(ResultSet rs, ResultSetMapper<T> mapper) {
+        this.rs = rs;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.nonNull(next))
+            return true;
+        if (done)
+            return false;
+        try {
+            if (!started) {
+                started = true;
+                recorder = ResultSetMappingRecorder.begin(rs, mapper);
+            }
+            done = !mapper.mapNext(rs, setNext);
+            record();
+        } catch (SQLException e) {
+            done = true;
+            throw new ResultSetMapperRuntimeException("result-set read", e);
+        }
+        return !done;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        T result = next;
+        next = null;
+        return result;
+    }
+
+    private void record() {
+        if (done)
+            recorder.end();
+        else
+            recorder.onRow();
+    }
+
+    @Override
+    public void close() {
+        done = true;
+        next = null;
+        if (Objects.nonNull(recorder))
+            recorder.end();
+        try {
+            rs.close();
+        } catch (SQLException e) {
+            throw new ResultSetMapperRuntimeException("result-set close", e);
+        }
+    }
+}
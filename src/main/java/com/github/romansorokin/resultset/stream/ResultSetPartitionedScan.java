@@ -0,0 +1,199 @@
+package com.github.romansorokin.resultset.stream;
+
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parallel scan of a query by partitions, each partition is executed on its own connection of the data source.
+ * The query is executed with the parameters of the partition, rows are mapped by the shared mapper on the partition thread.
+ * Ordered scans return the rows of partitions in partition order, the rows of each partition are buffered up to the buffer size.
+ * Unordered scans return the rows as they are mapped, through one buffer of all partitions.
+ * A partition waits while its buffer is full, closing the stream stops the partitions.
+ */
+public class ResultSetPartitionedScan<T> {
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private static final Executor DEFAULT_EXECUTOR = ResultSetThreads.getExecutor("result-set-partition");
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final DataSource dataSource;
+    private final String sql;
+    private final ResultSetPartitioning partitioning;
+    private final ResultSetMapper<T> mapper;
+    private final Executor executor;
+    private final int bufferSize;
+
+    public ResultSetPartitionedScan(DataSource dataSource, String sql, ResultSetPartitioning partitioning, ResultSetMapper<T> mapper) {
+        this(dataSource, sql, partitioning, mapper, DEFAULT_EXECUTOR, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param executor runs one task per partition, tasks block on reads and full buffers
+     */
+    public ResultSetPartitionedScan(DataSource dataSource, String sql, ResultSetPartitioning partitioning, ResultSetMapper<T> mapper, Executor executor, int bufferSize) {
+        if (bufferSize < 1)
+            throw new IllegalArgumentException("buffer size must be positive: " + bufferSize);
+        this.dataSource = Objects.requireNonNull(dataSource, "data source");
+        this.sql = Objects.requireNonNull(sql, "sql");
+        this.partitioning = Objects.requireNonNull(partitioning, "partitioning");
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * starts the partitions, the stream must be closed
+     */
+    public Stream<T> stream(boolean ordered) {
+        Merge merge = new Merge(partitioning.getParameters(), ordered);
+        int characteristics = Spliterator.NONNULL | (ordered ? Spliterator.ORDERED : 0);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merge, characteristics), false)
+                .onClose(merge::close);
+    }
+
+    public List<T> toList(boolean ordered) {
+        try (Stream<T> stream = stream(ordered)) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    private static final class End {
+        private final Throwable error;
+
+        private End(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    private final class Merge implements Iterator<T> {
+        private final List<BlockingQueue<Object>> buffers;
+        private final boolean ordered;
+        private volatile boolean closed;
+        private int current;
+        private int remaining;
+        private T next;
+
+        private Merge(List<Object[]> parameters, boolean ordered) {
+            this.ordered = ordered;
+            this.remaining = parameters.size();
+            int count = ordered ? parameters.size() : 1;
+            this.buffers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++)
+                buffers.add(new ArrayBlockingQueue<>(bufferSize));
+            try {
+                for (int i = 0; i < parameters.size(); i++) {
+                    BlockingQueue<Object> buffer = buffers.get(ordered ? i : 0);
+                    Object[] partition = parameters.get(i);
+                    executor.execute(() -> scan(partition, buffer));
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            if (Objects.nonNull(next))
+                return true;
+            while (remaining > 0) {
+                Object item = take(buffers.get(current));
+                if (!(item instanceof End)) {
+                    next = (T) item;
+                    return true;
+                }
+                remaining--;
+                if (ordered)
+                    current++;
+                Throwable error = ((End) item).error;
+                if (Objects.nonNull(error)) {
+                    close();
+                    if (error instanceof RuntimeException)
+                        throw (RuntimeException) error;
+                    if (error instanceof Error)
+                        throw (Error) error;
+                    throw new ResultSetMapperRuntimeException("partition scan: " + sql, error);
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            T result = next;
+            next = null;
+            return result;
+        }
+
+        private Object take(BlockingQueue<Object> buffer) {
+            try {
+                return buffer.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new ResultSetMapperRuntimeException("interrupted on wait of partition rows", e);
+            }
+        }
+
+        private void close() {
+            closed = true;
+            remaining = 0;
+            next = null;
+        }
+
+        private void scan(Object[] parameters, BlockingQueue<Object> buffer) {
+            Throwable error = null;
+            try (Connection connection = dataSource.getConnection(); PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.length; i++)
+                    statement.setObject(i + 1, parameters[i]);
+                try (ResultSet rs = statement.executeQuery()) {
+                    Consumer<T> put = value -> put(buffer, value);
+                    while (!closed && mapper.mapNext(rs, put)) {
+                    }
+                }
+            } catch (Throwable e) {
+                error = e;
+            }
+            boolean interrupted = Thread.interrupted();
+            put(buffer, new End(error));
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+
+        /**
+         * waits for space in the buffer until the scan is closed
+         */
+        private void put(BlockingQueue<Object> buffer, Object item) {
+            try {
+                while (!closed && !buffer.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ResultSetMapperRuntimeException("interrupted on wait of partition buffer", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.romansorokin.resultset.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Statement parameters of the partitions of a query, see {@link ResultSetPartitionedScan}.
+ */
+@FunctionalInterface
+public interface ResultSetPartitioning {
+    /**
+     * @return parameters of each partition in partition order
+     */
+    List<Object[]> getParameters();
+
+    /**
+     * count ranges of keys from inclusive to exclusive of about the same size,
+     * parameters are the lower inclusive and upper exclusive keys, like {@code where id >= ? and id < ?}
+     */
+    static ResultSetPartitioning ranges(long from, long to, int count) {
+        if (count < 1)
+            throw new IllegalArgumentException("partition count must be positive: " + count);
+        if (from >= to)
+            throw new IllegalArgumentException("empty key range: " + from + ".." + to);
+        long size = to - from;
+        if (size < 0)
+            throw new IllegalArgumentException("key range is too large: " + from + ".." + to);
+        int partitions = (int) Math.min(count, size);
+        List<Object[]> parameters = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            long lower = from + size / partitions * i + Math.min(i, size % partitions);
+            long upper = lower + size / partitions + (i < size % partitions ? 1 : 0);
+            parameters.add(new Object[]{lower, upper});
+        }
+        List<Object[]> result = List.copyOf(parameters);
+        return () -> result;
+    }
+
+    /**
+     * count buckets of keys by remainder, parameters are the count and the bucket, like {@code where mod(id, ?) = ?}.
+     * The remainder of a negative key is negative in SQL, keys must not be negative or the query must use {@code mod(abs(id), ?)}
+     */
+    static ResultSetPartitioning modulo(int count) {
+        if (count < 1)
+            throw new IllegalArgumentException("partition count must be positive: " + count);
+        List<Object[]> parameters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            parameters.add(new Object[]{count, i});
+        List<Object[]> result = List.copyOf(parameters);
+        return () -> result;
+    }
+}
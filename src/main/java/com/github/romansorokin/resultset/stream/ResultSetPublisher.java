@@ -0,0 +1,175 @@
+package com.github.romansorokin.resultset.stream;
+
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Publisher of the mapped rows to one subscriber.
+ * Rows are read on the executor only while the subscriber has outstanding demand, the task ends when the demand is exhausted.
+ * The result-set is closed on completion, error and cancel.
+ * The default executor runs tasks on virtual threads when the runtime supports them and on new daemon threads otherwise.
+ */
+public class ResultSetPublisher<T> implements Flow.Publisher<T> {
+    private static final Executor DEFAULT_EXECUTOR = ResultSetThreads.getExecutor("result-set-publisher");
+
+    private final ResultSet rs;
+    private final ResultSetMapper<T> mapper;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public ResultSetPublisher(ResultSet rs, ResultSetMapper<T> mapper) {
+        this(rs, mapper, DEFAULT_EXECUTOR);
+    }
+
+    public ResultSetPublisher(ResultSet rs, ResultSetMapper<T> mapper, Executor executor) {
+        this.rs = Objects.requireNonNull(rs, "result-set");
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("result-set publisher supports one subscriber"));
+            return;
+        }
+        Subscription<T> subscription = new Subscription<>(rs, mapper, executor, subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.schedule();
+    }
+
+    private static final class Subscription<T> implements Flow.Subscription, Runnable {
+        private final ResultSet rs;
+        private final ResultSetMapper<T> mapper;
+        private final Executor executor;
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Consumer<T> emit;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger scheduled = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean done;
+        private boolean started;
+        private ResultSetMappingRecorder recorder;
+
+        private Subscription(ResultSet rs, ResultSetMapper<T> mapper, Executor executor, Flow.Subscriber<? super T> subscriber) {
+            this.rs = rs;
+            this.mapper = mapper;
+            this.executor = executor;
+            this.subscriber = subscriber;
+            this.emit = subscriber::onNext;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("requested rows must be positive: " + n);
+                cancelled = true;
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.getAndIncrement() != 0)
+                return;
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                cancelled = true;
+                finish(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            while (true) {
+                if (done)
+                    return;
+                if (cancelled) {
+                    finish(invalidRequest);
+                    return;
+                }
+                long requested = demand.get();
+                long emitted = 0;
+                try {
+                    if (!started) {
+                        started = true;
+                        recorder = ResultSetMappingRecorder.begin(rs, mapper);
+                    }
+                    while (emitted != requested && !cancelled) {
+                        if (!mapper.mapNext(rs, emit)) {
+                            finish(null);
+                            return;
+                        }
+                        emitted++;
+                        recorder.onRow();
+                    }
+                } catch (Throwable e) {
+                    cancelled = true;
+                    finish(e);
+                    return;
+                }
+                if (requested != Long.MAX_VALUE)
+                    demand.addAndGet(-emitted);
+                missed = scheduled.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        /**
+         * closes the result-set once and signals the subscriber unless it cancelled
+         *
+         * @param error null on completion and cancel
+         */
+        private void finish(Throwable error) {
+            if (done)
+                return;
+            done = true;
+            if (Objects.nonNull(recorder))
+                recorder.end();
+            try {
+                rs.close();
+            } catch (SQLException e) {
+                if (Objects.isNull(error))
+                    error = e;
+                else
+                    error.addSuppressed(e);
+            }
+            if (Objects.nonNull(error))
+                subscriber.onError(error);
+            else if (!cancelled)
+                subscriber.onComplete();
+        }
+    }
+}
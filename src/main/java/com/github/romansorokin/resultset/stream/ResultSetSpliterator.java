@@ -0,0 +1,78 @@
+package com.github.romansorokin.resultset.stream;
+
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import com.github.romansorokin.resultset.metrics.ResultSetMappingRecorder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Sequential spliterator of the mapped rows, a row is read only when the next element is requested.
+ * {@link SQLException} is rethrown as {@link ResultSetMapperRuntimeException}.
+ */
+public class ResultSetSpliterator<T> implements Spliterator<T> {
+    private final ResultSet rs;
+    private final ResultSetMapper<T> mapper;
+    private boolean done;
+    private boolean started;
+    private ResultSetMappingRecorder recorder;
+
+    public ResultSetSpliterator(ResultSet rs, ResultSetMapper<T> mapper) {
+        this.rs = rs;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (done)
+            return false;
+        done = !next(action);
+        return !done;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (!done)
+            done = !next(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return done ? 0 : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private boolean next(Consumer<? super T> action) {
+        try {
+            if (!started) {
+                started = true;
+                recorder = ResultSetMappingRecorder.begin(rs, mapper);
+            }
+            boolean mapped = mapper.mapNext(rs, action);
+            record(mapped);
+            return mapped;
+        } catch (SQLException e) {
+            done = true;
+            throw new ResultSetMapperRuntimeException("result-set read", e);
+        }
+    }
+
+    private void record(boolean mapped) {
+        if (mapped)
+            recorder.onRow();
+        else
+            recorder.end();
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.romansorokin.resultset.stream;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors of blocking result-set reads: virtual threads when the runtime supports them, new daemon threads otherwise.
+ */
+final class ResultSetThreads {
+    private static final Executor VIRTUAL = getVirtualThreadExecutor();
+
+    static Executor getExecutor(String threadName) {
+        if (Objects.nonNull(VIRTUAL))
+            return VIRTUAL;
+        return command -> {
+            Thread thread = new Thread(command, threadName);
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+
+    private static Executor getVirtualThreadExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private ResultSetThreads() {}
+}
@@ -3,24 +3,38 @@ package com.github.romansorokin.resultset;
 import com.github.romansorokin.resultset.annotations.ResultSetField;
 import com.github.romansorokin.resultset.annotations.ResultSetType;
 import com.github.romansorokin.resultset.column.ResultSetFieldToColumnNameCase;
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
 import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import com.github.romansorokin.resultset.stream.ResultSetIterator;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 @Slf4j
 class ResultSetMapperUtilsTest extends BaseTest {
@@ -252,4 +266,300 @@ class ResultSetMapperUtilsTest extends BaseTest {
         assertEquals(id, entity.get("id"));
         assertEquals("test-1", entity.get("name"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void rowMapMapper() throws SQLException {
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (id int, name varchar)");
+        execute("insert into test_entity (id, name) values (?, ?)", 1, "test-1");
+        execute("insert into test_entity (id, name) values (?, ?)", 2, "test-2");
+        List<Map<String, Object>> rows = executeQuery("select id, name, 'x' as name from test_entity order by id",
+                ResultSetMapperUtils.getListMapper(ResultSetMapperUtils.ROW_MAP_IGNORE_CASE_MAPPER)).orElseThrow();
+        log.info("rows: {}", rows);
+        assertEquals(2, rows.size());
+        Map<String, Object> row = rows.get(0);
+        assertEquals(2, row.size());
+        assertEquals(1, row.get("ID"));
+        assertEquals(1, row.get("id"));
+        assertEquals("x", row.get("name"));
+        assertTrue(row.containsKey("Name"));
+        assertNull(row.get("unknown"));
+        assertEquals(Map.of("ID", 1, "NAME", "x"), row);
+        assertThrows(UnsupportedOperationException.class, () -> row.put("id", 3));
+
+        Map<String, Object> exact = executeQuery("select id from test_entity order by id",
+                ResultSetMapperUtils.getListMapper(ResultSetMapperUtils.ROW_MAP_MAPPER)).orElseThrow().get(1);
+        assertEquals(2, exact.get("ID"));
+        assertNull(exact.get("id"));
+    }
+
+    @Test
+    void getMapper_sameMapperDifferentColumnLayouts() throws SQLException {
+        @ToString
+        @ResultSetType(ignoreCase = true, mapAllFields = true)
+        class TestEntity {
+            UUID id;
+            String name;
+        }
+        ResultSetMapper<TestEntity> mapper = ResultSetMapperUtils.getMapper(TestEntity.class, TestEntity::new);
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (id uuid, name varchar)");
+        execute("insert into test_entity (id, name) values (?, ?)", UUID.randomUUID(), "test-1");
+        execute("insert into test_entity (id, name) values (?, ?)", UUID.randomUUID(), "test-2");
+        ResultSetMapper<List<TestEntity>> listMapper = ResultSetMapperUtils.getListMapper(mapper);
+        for (String sql : List.of("select id, name from test_entity order by name", "select name, 1 as extra, id from test_entity order by name", "select id, name from test_entity order by name")) {
+            List<TestEntity> entities = executeQuery(sql, listMapper).orElseThrow();
+            assertEquals(2, entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                assertNotNull(entities.get(i).id);
+                assertEquals("test-" + (i + 1), entities.get(i).name);
+            }
+        }
+        TestEntity entity = executeQuery("select name from test_entity where name = 'test-2'", mapper).orElseThrow();
+        assertNull(entity.id);
+        assertEquals("test-2", entity.name);
+    }
+
+    @Test
+    void getMapper_primitiveFields() throws SQLException {
+        @ToString
+        @ResultSetType(ignoreCase = true, mapAllFields = true)
+        class TestEntity {
+            int count;
+            long amount;
+            double price;
+            boolean active;
+            short level;
+        }
+        ResultSetMapper<TestEntity> mapper = ResultSetMapperUtils.getMapper(TestEntity.class, TestEntity::new);
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (count int, amount bigint, price double, active boolean, level smallint)");
+        execute("insert into test_entity (count, amount, price, active, level) values (?, ?, ?, ?, ?)", 7, 10_000_000_000L, 2.5, true, 3);
+        TestEntity entity = executeQuery("select * from test_entity", mapper).orElseThrow();
+        log.info("entity: {}", entity);
+        assertEquals(7, entity.count);
+        assertEquals(10_000_000_000L, entity.amount);
+        assertEquals(2.5, entity.price);
+        assertTrue(entity.active);
+        assertEquals(3, entity.level);
+    }
+
+    @Test
+    void registerFieldType_primitive() throws SQLException, NoSuchFieldException {
+        @ToString
+        @ResultSetType(ignoreCase = true, mapAllFields = true)
+        class TestEntity {
+            int count;
+        }
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (count int)");
+        execute("insert into test_entity (count) values (?)", 7);
+        ResultSetMapperUtils.registerIntFieldType((rs, i) -> rs.getInt(i) * 10);
+        try {
+            ResultSetMapper<TestEntity> mapper = ResultSetMapperUtils.getMapper(TestEntity.class, TestEntity::new);
+            assertEquals(70, executeQuery("select * from test_entity", mapper).orElseThrow().count);
+        } finally {
+            ResultSetMapperUtils.resetFieldTypes();
+        }
+        ResultSetMapper<TestEntity> mapper = ResultSetMapperUtils.getMapper(TestEntity.class, TestEntity::new);
+        assertEquals(7, executeQuery("select * from test_entity", mapper).orElseThrow().count);
+        assertNotNull(new BaseResultSetFieldMapperFactory<TestEntity>().getJdbcGetter(TestEntity.class.getDeclaredField("count"), Types.INTEGER));
+    }
+
+    @Test
+    void getMapper_record() throws SQLException {
+        @ResultSetType(ignoreCase = true, mapAllFields = true)
+        record TestEntity(UUID id, String name, int count) {
+        }
+        ResultSetMapper<TestEntity> mapper = ResultSetMapperUtils.getMapper(TestEntity.class);
+        UUID id = UUID.randomUUID();
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (id uuid, name varchar, count int)");
+        execute("insert into test_entity (id, name, count) values (?, ?, ?)", id, "test", 7);
+        assertEquals(new TestEntity(id, "test", 7), executeQuery("select * from test_entity", mapper).orElseThrow());
+        assertEquals(new TestEntity(null, "test", 0), executeQuery("select name from test_entity", mapper).orElseThrow());
+    }
+
+    @Test
+    void getMapper_immutableClass() throws SQLException {
+        ResultSetMapper<ImmutableEntity> mapper = ResultSetMapperUtils.getMapper(ImmutableEntity.class);
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (name varchar, amount bigint)");
+        execute("insert into test_entity (name, amount) values (?, ?)", "test", 10L);
+        List<ImmutableEntity> list = executeQuery("select * from test_entity", ResultSetMapperUtils.getListMapper(mapper)).orElseThrow();
+        assertEquals(List.of(new ImmutableEntity("test", 10L)), list);
+    }
+
+    @Test
+    void getMapper_immutableClass_parametersByName() throws SQLException {
+        ResultSetMapper<SwappedEntity> mapper = ResultSetMapperUtils.getMapper(SwappedEntity.class);
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (head varchar, tail varchar)");
+        execute("insert into test_entity (head, tail) values (?, ?)", "a", "b");
+        execute("insert into test_entity (head, tail) values (?, ?)", "c", "d");
+        List<String> values = new ArrayList<>();
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select * from test_entity order by head");
+            mapper.forEachReusing(rs, entity -> values.add(entity.head + entity.tail));
+        }
+        assertEquals(List.of("ab", "cd"), values);
+    }
+
+    @Test
+    void getMapper_constructorNotFound() {
+        @ResultSetType(mapAllFields = true)
+        class TestEntity {
+            String name;
+        }
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ResultSetMapperUtils.getMapper(TestEntity.class));
+        assertTrue(e.getMessage().startsWith("constructor of all instance fields required:"));
+    }
+
+    @Test
+    void mapNext() throws SQLException {
+        @ResultSetType(ignoreCase = true, mapAllFields = true)
+        class TestEntity {
+            String name;
+        }
+        ResultSetMapper<TestEntity> mapper = ResultSetMapperUtils.getMapper(TestEntity.class, TestEntity::new);
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (name varchar)");
+        execute("insert into test_entity (name) values (?)", "test-1");
+        execute("insert into test_entity (name) values (?)", "test-2");
+        List<String> names = new ArrayList<>();
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select name from test_entity order by name");
+            while (mapper.mapNext(rs, entity -> names.add(entity.name))) {
+            }
+            assertFalse(mapper.mapNext(rs, entity -> names.add(entity.name)));
+        }
+        assertEquals(List.of("test-1", "test-2"), names);
+    }
+
+    @Test
+    void mapNext_defaultMap() throws SQLException {
+        ResultSetMapper<String> mapper = (rs, sink) -> {
+            if (!rs.next())
+                return false;
+            sink.accept(rs.getString(1));
+            return true;
+        };
+        assertEquals("test", executeQuery("select 'test'", mapper).orElseThrow());
+        assertEquals(List.of(), executeQuery("select 'test' where 1 = 0", ResultSetMapperUtils.getListMapper(mapper)).orElseThrow());
+    }
+
+    @Test
+    void forEachReusing() throws SQLException {
+        @ResultSetType(ignoreCase = true, mapAllFields = true)
+        class TestEntity {
+            String name;
+            int count;
+        }
+        ResultSetMapper<TestEntity> mapper = ResultSetMapperUtils.getMapper(TestEntity.class, TestEntity::new);
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (name varchar, count int)");
+        for (int i = 0; i < 5; i++)
+            execute("insert into test_entity (name, count) values (?, ?)", "test-" + i, i);
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            Set<TestEntity> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<String> names = new ArrayList<>();
+            int[] sum = new int[1];
+            ResultSet rs = statement.executeQuery("select * from test_entity order by count");
+            long count = mapper.forEachReusing(rs, entity -> {
+                instances.add(entity);
+                names.add(entity.name);
+                sum[0] += entity.count;
+            });
+            assertEquals(5, count);
+            assertEquals(1, instances.size());
+            assertEquals(List.of("test-0", "test-1", "test-2", "test-3", "test-4"), names);
+            assertEquals(10, sum[0]);
+
+            instances.clear();
+            rs = statement.executeQuery("select * from test_entity order by count");
+            TestEntity[] previous = new TestEntity[1];
+            mapper.forEachReusing(rs, 2, entity -> {
+                if (Objects.nonNull(previous[0]))
+                    assertEquals(entity.count - 1, previous[0].count);
+                previous[0] = entity;
+                instances.add(entity);
+            });
+            assertEquals(2, instances.size());
+
+            rs = statement.executeQuery("select * from test_entity where count < 0");
+            assertEquals(0, mapper.forEachReusing(rs, entity -> fail()));
+            ResultSet empty = statement.executeQuery("select * from test_entity");
+            assertThrows(IllegalArgumentException.class, () -> mapper.forEachReusing(empty, 0, entity -> fail()));
+        }
+    }
+
+    @Test
+    void stream() throws SQLException {
+        @ResultSetType(ignoreCase = true, mapAllFields = true)
+        record TestEntity(String name, int count) {
+        }
+        ResultSetMapper<TestEntity> mapper = ResultSetMapperUtils.getMapper(TestEntity.class);
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (name varchar, count int)");
+        for (int i = 0; i < 10; i++)
+            execute("insert into test_entity (name, count) values (?, ?)", "test-" + i, i);
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select * from test_entity order by count");
+            try (Stream<TestEntity> stream = ResultSetMapperUtils.stream(rs, mapper)) {
+                assertEquals(45, stream.mapToInt(TestEntity::count).sum());
+            }
+            assertTrue(rs.isClosed());
+
+            rs = statement.executeQuery("select * from test_entity order by count");
+            try (Stream<TestEntity> stream = ResultSetMapperUtils.stream(rs, mapper)) {
+                assertEquals(List.of("test-0", "test-1"), stream.limit(2).map(TestEntity::name).collect(Collectors.toList()));
+                assertEquals(2, rs.getRow());
+            }
+        }
+    }
+
+    @Test
+    void iterator() throws SQLException {
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (name varchar)");
+        execute("insert into test_entity (name) values (?)", "test-1");
+        execute("insert into test_entity (name) values (?)", "test-2");
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select name from test_entity order by name");
+            try (ResultSetIterator<Map<String, Object>> iterator = ResultSetMapperUtils.iterator(rs, ResultSetMapperUtils.TREE_MAP_IGNORE_CASE_MAPPER)) {
+                assertTrue(iterator.hasNext());
+                assertTrue(iterator.hasNext());
+                assertEquals("test-1", iterator.next().get("name"));
+                assertEquals("test-2", iterator.next().get("name"));
+                assertFalse(iterator.hasNext());
+                assertThrows(NoSuchElementException.class, iterator::next);
+            }
+            assertTrue(rs.isClosed());
+        }
+    }
+
+    @EqualsAndHashCode
+    @ResultSetType(ignoreCase = true)
+    private static final class ImmutableEntity {
+        @ResultSetField
+        private final String name;
+        @ResultSetField
+        private final long amount;
+
+        private ImmutableEntity(String name, long amount) {
+            this.name = name;
+            this.amount = amount;
+        }
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    private static final class SwappedEntity {
+        private final String tail;
+        private final String head;
+
+        private SwappedEntity(String head, String tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+    }
+}
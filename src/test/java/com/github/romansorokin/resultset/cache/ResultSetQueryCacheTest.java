@@ -0,0 +1,238 @@
+package com.github.romansorokin.resultset.cache;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetQueryCacheTest extends BaseTest {
+    private static final String SQL = "select * from cached_country where region = ? order by code";
+    private static final ResultSetMapper<List<Map<String, Object>>> MAPPER = ResultSetMapperUtils.getListMapper(ResultSetMapperUtils.ROW_MAP_MAPPER);
+
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicLong ticker = new AtomicLong();
+    private ResultSetQueryExecutor executor;
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        execute("drop table if exists cached_country");
+        execute("create table cached_country (code varchar, region varchar)");
+        execute("insert into cached_country values ('FR', 'EU'), ('IT', 'EU'), ('JP', 'AS'), ('CN', 'AS'), ('US', 'NA')");
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:file:./store/result-set-mapper");
+        ResultSetQueryExecutor jdbc = ResultSetQueryExecutor.of(dataSource);
+        executor = new ResultSetQueryExecutor() {
+            @Override
+            public <T> Optional<T> execute(String sql, Object[] parameters, ResultSetMapper<T> mapper) throws SQLException {
+                queries.incrementAndGet();
+                return jdbc.execute(sql, parameters, mapper);
+            }
+        };
+    }
+
+    private ResultSetQueryCache<List<Map<String, Object>>> cache(long maxWeight) {
+        return new ResultSetQueryCache<>(executor, MAPPER, maxWeight, List::size, Duration.ofMinutes(1), ticker::get);
+    }
+
+    @Test
+    void hit() throws SQLException {
+        ResultSetQueryCache<List<Map<String, Object>>> cache = cache(100);
+        List<Map<String, Object>> eu = cache.get(SQL, "EU").orElseThrow();
+        assertEquals(2, eu.size());
+        assertEquals("FR", eu.get(0).get("CODE"));
+        assertSame(eu, cache.get(SQL, "EU").orElseThrow());
+        assertEquals(2, cache.get(SQL, "AS").orElseThrow().size());
+        assertEquals(2, queries.get());
+        ResultSetQueryCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(2, stats.getLoadCount());
+        assertEquals(4, stats.getWeight());
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    void expiration() throws SQLException {
+        ResultSetQueryCache<List<Map<String, Object>>> cache = cache(100);
+        cache.get(SQL, "EU");
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        cache.get(SQL, "EU");
+        assertEquals(1, queries.get());
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.get(SQL, "EU");
+        assertEquals(2, queries.get());
+        assertEquals(1, cache.getStats().getExpirationCount());
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        cache.cleanUp();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void weightEviction() throws SQLException {
+        ResultSetQueryCache<List<Map<String, Object>>> cache = cache(4);
+        cache.get(SQL, "EU");
+        cache.get(SQL, "AS");
+        cache.get(SQL, "EU");
+        cache.get(SQL, "NA");
+        ResultSetQueryCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(3, stats.getWeight());
+        cache.get(SQL, "EU");
+        assertEquals(3, queries.get());
+        cache.get(SQL, "AS");
+        assertEquals(4, queries.get());
+    }
+
+    @Test
+    void invalidation() throws SQLException {
+        ResultSetQueryCache<List<Map<String, Object>>> cache = cache(100);
+        cache.getTagged(SQL, Set.of("cached_country"), "EU");
+        cache.getTagged("select count(*) from cached_country", Set.of("cached_country"));
+        cache.get(SQL, "NA");
+        execute("insert into cached_country values ('DE', 'EU')");
+        assertEquals(2, cache.getTagged(SQL, Set.of("cached_country"), "EU").orElseThrow().size());
+        cache.invalidateTable("cached_country");
+        assertEquals(2, cache.getStats().getInvalidationCount());
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getTagged(SQL, Set.of("cached_country"), "EU").orElseThrow().size());
+        cache.invalidateQuery(SQL, "NA");
+        cache.get(SQL, "NA");
+        assertEquals(5, queries.get());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getStats().getWeight());
+    }
+
+    @Test
+    void invalidation_tagsOfHit() throws SQLException {
+        ResultSetQueryCache<List<Map<String, Object>>> cache = cache(100);
+        cache.get(SQL, "EU");
+        cache.getTagged(SQL, Set.of("cached_country"), "EU");
+        assertEquals(1, cache.getStats().getHitCount());
+        cache.invalidateTable("cached_country");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidation_tagsOfJoinedLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResultSetQueryCache<List<Map<String, Object>>> cache = new ResultSetQueryCache<>(slow(started, release), MAPPER, 100, Duration.ofMinutes(1));
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> loader = pool.submit(() -> cache.get(SQL, "EU"));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            Future<?> joined = pool.submit(() -> cache.getTagged(SQL, Set.of("cached_country"), "EU"));
+            while (cache.getStats().getMissCount() < 2)
+                Thread.sleep(1);
+            release.countDown();
+            loader.get();
+            joined.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, cache.size());
+        cache.invalidateTable("cached_country");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidation_loadInProgress() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResultSetQueryCache<List<Map<String, Object>>> cache = new ResultSetQueryCache<>(slow(started, release), MAPPER, 100, Duration.ofMinutes(1));
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> tagged = pool.submit(() -> cache.getTagged(SQL, Set.of("cached_country"), "EU"));
+            Future<?> untagged = pool.submit(() -> cache.get(SQL, "AS"));
+            while (cache.getStats().getLoadCount() < 2)
+                Thread.sleep(1);
+            cache.invalidateTable("cached_country");
+            cache.invalidateTable("other_table");
+            release.countDown();
+            tagged.get();
+            untagged.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, cache.size());
+        cache.get(SQL, "AS");
+        assertEquals(1, cache.getStats().getHitCount());
+    }
+
+    private ResultSetQueryExecutor slow(CountDownLatch started, CountDownLatch release) {
+        return new ResultSetQueryExecutor() {
+            @Override
+            public <T> Optional<T> execute(String sql, Object[] parameters, ResultSetMapper<T> mapper) throws SQLException {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return executor.execute(sql, parameters, mapper);
+            }
+        };
+    }
+
+    @Test
+    void singleFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResultSetQueryCache<List<Map<String, Object>>> cache = new ResultSetQueryCache<>(slow(started, release), MAPPER, 100, Duration.ofMinutes(1));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<List<Map<String, Object>>>>> results = new ArrayList<>();
+            results.add(pool.submit(() -> cache.get(SQL, "EU")));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++)
+                results.add(pool.submit(() -> cache.get(SQL, "EU")));
+            while (cache.getStats().getMissCount() + cache.getStats().getHitCount() < 8)
+                Thread.sleep(1);
+            release.countDown();
+            List<Map<String, Object>> first = results.get(0).get().orElseThrow();
+            for (Future<Optional<List<Map<String, Object>>>> result : results)
+                assertSame(first, result.get().orElseThrow());
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, queries.get());
+        assertEquals(1, cache.getStats().getLoadCount());
+    }
+
+    @Test
+    void loadFailure() throws SQLException {
+        ResultSetQueryCache<List<Map<String, Object>>> cache = cache(100);
+        assertThrows(SQLException.class, () -> cache.get("select * from missing_table"));
+        assertEquals(1, cache.getStats().getLoadFailureCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void illegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetQueryCache<>(executor, MAPPER, 0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetQueryCache<>(executor, MAPPER, 1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.romansorokin.resultset.columnar;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+class ResultSetColumnarMapperTest extends BaseTest {
+    private static final int ROWS = ResultSetColumn.CHUNK_SIZE + 10;
+
+    private void createTable() throws SQLException {
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (id int, amount bigint, price double, active boolean, name varchar, uid uuid)");
+        execute("insert into test_entity select x, x * 10000000000, case when mod(x, 2) = 0 then x / 2.0 end, mod(x, 3) = 0, "
+                + "'name-' || mod(x, 5), case when x = 1 then random_uuid() end from system_range(1, " + ROWS + ")");
+    }
+
+    @Test
+    void getColumnarMapper() throws SQLException {
+        createTable();
+        ResultSetColumnBatch batch;
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select * from test_entity order by id");
+            batch = ResultSetMapperUtils.getColumnarMapper().map(rs).orElseThrow();
+        }
+        log.info("batch: {}", batch);
+        assertEquals(ROWS, batch.getRowCount());
+
+        ResultSetIntColumn id = batch.getIntColumn("id");
+        assertEquals(ROWS, id.size());
+        assertEquals(1, id.getInt(0));
+        assertEquals(ROWS, id.getInt(ROWS - 1));
+        int[] ids = id.toArray();
+        assertEquals(ROWS, ids.length);
+        assertEquals(ResultSetColumn.CHUNK_SIZE + 1, ids[ResultSetColumn.CHUNK_SIZE]);
+
+        assertEquals(ROWS * 10_000_000_000L, batch.getLongColumn("AMOUNT").getLong(ROWS - 1));
+
+        ResultSetDoubleColumn price = batch.getDoubleColumn("price");
+        assertTrue(price.isNull(0));
+        assertNull(price.getObject(0));
+        assertEquals(0.0, price.getDouble(0));
+        assertFalse(price.isNull(1));
+        assertEquals(1.0, price.getDouble(1));
+        assertTrue(price.isNull(ROWS - 2));
+        assertFalse(price.isNull(ROWS - 1));
+
+        ResultSetBooleanColumn active = batch.getBooleanColumn("active");
+        assertFalse(active.getBoolean(0));
+        assertTrue(active.getBoolean(2));
+
+        ResultSetStringColumn name = batch.getStringColumn("name");
+        assertEquals(5, name.getDictionary().size());
+        assertEquals("name-1", name.getString(0));
+        assertEquals(name.getCode(0), name.getCode(5));
+
+        ResultSetColumn uid = batch.getColumn("uid");
+        assertInstanceOf(ResultSetObjectColumn.class, uid);
+        assertInstanceOf(UUID.class, uid.getObject(0));
+        assertTrue(uid.isNull(1));
+
+        assertThrows(IllegalArgumentException.class, () -> batch.getIntColumn("name"));
+        assertThrows(IllegalArgumentException.class, () -> batch.getColumn("unknown"));
+        assertThrows(IndexOutOfBoundsException.class, () -> id.getInt(ROWS));
+    }
+
+    @Test
+    void getColumnarMapper_batchSize() throws SQLException {
+        createTable();
+        ResultSetMapper<ResultSetColumnBatch> mapper = ResultSetMapperUtils.getColumnarMapper(1000);
+        List<ResultSetColumnBatch> batches = new ArrayList<>();
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select id from test_entity order by id");
+            while (mapper.mapNext(rs, batches::add)) {
+            }
+        }
+        assertEquals((ROWS + 999) / 1000, batches.size());
+        assertEquals(1000, batches.get(0).getRowCount());
+        assertEquals(ROWS % 1000, batches.get(batches.size() - 1).getRowCount());
+        assertEquals(1001, batches.get(1).getIntColumn("id").getInt(0));
+        assertArrayEquals(new int[]{1, 2, 3}, Arrays.copyOf(batches.get(0).getIntColumn("id").toArray(), 3));
+    }
+}
@@ -0,0 +1,4 @@
+package com.github.romansorokin.resultset.custom;
+
+public record CustomCode(String name) {
+}
@@ -4,12 +4,14 @@ import com.github.romansorokin.resultset.BaseTest;
 import com.github.romansorokin.resultset.ResultSetMapperUtils;
 import com.github.romansorokin.resultset.annotations.ResultSetField;
 import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.field.ResultSetCanonicalCache;
 import com.github.romansorokin.resultset.mapper.ResultSetMapper;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -65,4 +67,33 @@ class CustomItemFieldMapperFactoryTest extends BaseTest {
         log.info("entity: {}", entity);
         assertEquals("name-1", entity.item.name);
     }
+
+    @Test
+    void getMapper_canonicalCache() throws SQLException, NoSuchFieldException {
+        @ToString
+        @ResultSetType(ignoreCase = true, mapAllFields = true)
+        class CustomEntity {
+            @ResultSetField(canonicalCacheSize = 16)
+            String code;
+            @ResultSetField(factory = CustomCodeFieldMapperFactory.class, canonicalCacheSize = 16)
+            CustomCode item;
+        }
+
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (code varchar, item varchar)");
+        for (int i = 0; i < 10; i++)
+            execute("insert into test_entity (code, item) values (?, ?)", "code-" + i % 2, "{\"name\":\"name-" + i % 2 + "\"}");
+        ResultSetMapper<List<CustomEntity>> mapper = ResultSetMapperUtils.getListMapper(ResultSetMapperUtils.getMapper(CustomEntity.class, CustomEntity::new));
+        List<CustomEntity> entities = executeQuery("select * from test_entity", mapper).orElseThrow();
+        assertEquals(10, entities.size());
+        assertEquals(2, entities.stream().map(entity -> entity.code).distinct().count());
+        assertEquals(2, entities.stream().map(entity -> System.identityHashCode(entity.code)).distinct().count());
+        assertEquals(2, entities.stream().map(entity -> System.identityHashCode(entity.item)).distinct().count());
+
+        ResultSetCanonicalCache cache = ResultSetCanonicalCache.get(CustomEntity.class.getDeclaredField("item"));
+        log.info("cache: {}", cache);
+        assertEquals(8, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0.8, cache.getHitRate());
+    }
 }
@@ -0,0 +1,59 @@
+package com.github.romansorokin.resultset.field;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultSetCanonicalCacheTest {
+    static class Entity {
+        String code;
+    }
+
+    @Test
+    void canonicalize() {
+        ResultSetCanonicalCache cache = new ResultSetCanonicalCache(8);
+        String first = new String("USD");
+        String second = new String("USD");
+        assertNotSame(first, second);
+        assertSame(first, cache.canonicalize(first));
+        assertSame(first, cache.canonicalize(second));
+        assertNull(cache.canonicalize(null));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate());
+
+        cache.clear();
+        assertEquals(0, cache.getHitRate());
+        assertSame(second, cache.canonicalize(second));
+    }
+
+    @Test
+    void capacity() {
+        assertEquals(1, new ResultSetCanonicalCache(1).getCapacity());
+        assertEquals(8, new ResultSetCanonicalCache(8).getCapacity());
+        assertEquals(16, new ResultSetCanonicalCache(9).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetCanonicalCache(0));
+    }
+
+    @Test
+    void evictsOnCollision() {
+        ResultSetCanonicalCache cache = new ResultSetCanonicalCache(1);
+        String first = new String("EUR");
+        cache.canonicalize(first);
+        cache.canonicalize("USD");
+        assertNotSame(first, cache.canonicalize(new String("EUR")));
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void of_sameSizePerField() throws NoSuchFieldException {
+        ResultSetCanonicalCache cache = ResultSetCanonicalCache.of(Entity.class.getDeclaredField("code"), 8);
+        assertSame(cache, ResultSetCanonicalCache.of(Entity.class.getDeclaredField("code"), 8));
+        assertSame(cache, ResultSetCanonicalCache.get(Entity.class.getDeclaredField("code")));
+        assertThrows(IllegalArgumentException.class, () -> ResultSetCanonicalCache.of(Entity.class.getDeclaredField("code"), 16));
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.romansorokin.resultset.field;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetField;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.column.ResultSetFieldToColumnNameCase;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResultSetConverterRegistryTest extends BaseTest {
+    private static final UUID ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true, naming = ResultSetFieldToColumnNameCase.SNAKE)
+    static class Event {
+        UUID binaryId;
+        UUID textId;
+        Instant createdMillis;
+        Instant createdZoned;
+        BigDecimal amount;
+        Long total;
+        Integer count;
+        Boolean active;
+        String name;
+    }
+
+    static final class Money {
+        final BigDecimal amount;
+        final String currency;
+
+        Money(BigDecimal amount, String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+    }
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true)
+    static class Price {
+        Money price;
+    }
+
+    public static class EuroFieldMapperFactory extends BaseResultSetFieldMapperFactory<Object> {
+        @Override
+        protected ResultSetConverterRegistry getConverters() {
+            return ResultSetConverterRegistry.defaults().with(Money.class, (rs, index) -> new Money(rs.getBigDecimal(index), "EUR"));
+        }
+    }
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true)
+    static class EuroPrice {
+        @ResultSetField(factory = EuroFieldMapperFactory.class)
+        Money price;
+    }
+
+    @Test
+    void defaults() throws SQLException {
+        execute("drop table if exists converted_event");
+        execute("create table converted_event (binary_id uuid, text_id varchar, created_millis bigint, created_zoned timestamp with time zone, "
+                + "amount decimal(10, 2), total bigint, count int, active boolean, name varchar)");
+        execute("insert into converted_event values (?, ?, 1700000000123, timestamp with time zone '2024-01-02 03:04:05+02', 12.50, 7, 3, true, 'event'), "
+                + "(null, null, null, null, null, null, null, null, null)", ID, ID.toString());
+        ResultSetMapper<List<Event>> mapper = ResultSetMapperUtils.getListMapper(ResultSetMapperUtils.getMapper(Event.class, Event::new));
+        List<Event> events = executeQuery("select * from converted_event order by name nulls last", mapper).orElseThrow();
+        Event event = events.get(0);
+        assertEquals(ID, event.binaryId);
+        assertEquals(ID, event.textId);
+        assertEquals(Instant.ofEpochMilli(1700000000123L), event.createdMillis);
+        assertEquals(Instant.parse("2024-01-02T01:04:05Z"), event.createdZoned);
+        assertEquals(new BigDecimal("12.50"), event.amount);
+        assertEquals(7L, event.total);
+        assertEquals(3, event.count);
+        assertEquals(true, event.active);
+        assertEquals("event", event.name);
+        Event empty = events.get(1);
+        assertNull(empty.binaryId);
+        assertNull(empty.textId);
+        assertNull(empty.createdMillis);
+        assertNull(empty.createdZoned);
+        assertNull(empty.total);
+        assertNull(empty.count);
+        assertNull(empty.active);
+    }
+
+    @Test
+    void columnTypes() throws SQLException {
+        execute("drop table if exists text_price");
+        execute("drop table if exists decimal_price");
+        execute("create table text_price (price varchar)");
+        execute("create table decimal_price (price decimal(10, 2))");
+        execute("insert into text_price values ('9.99 USD')");
+        execute("insert into decimal_price values (4.50)");
+        ResultSetConverterRegistry defaults = ResultSetMapperUtils.getConverterRegistry();
+        try {
+            ResultSetMapperUtils.setConverterRegistry(defaults
+                    .with(Types.VARCHAR, Money.class, (rs, index) -> {
+                        String[] value = rs.getString(index).split(" ");
+                        return new Money(new BigDecimal(value[0]), value[1]);
+                    })
+                    .with(Types.DECIMAL, Money.class, (rs, index) -> new Money(rs.getBigDecimal(index), "EUR")));
+            ResultSetMapper<Price> mapper = ResultSetMapperUtils.getMapper(Price.class, Price::new);
+            Price text = executeQuery("select * from text_price", mapper).orElseThrow();
+            assertEquals(new BigDecimal("9.99"), text.price.amount);
+            assertEquals("USD", text.price.currency);
+            Price decimal = executeQuery("select * from decimal_price", mapper).orElseThrow();
+            assertEquals(new BigDecimal("4.50"), decimal.price.amount);
+            assertEquals("EUR", decimal.price.currency);
+        } finally {
+            ResultSetMapperUtils.setConverterRegistry(defaults);
+        }
+        assertSame(ResultSetConverterRegistry.defaults(), ResultSetMapperUtils.getConverterRegistry());
+    }
+
+    @Test
+    void factoryConverters() throws SQLException {
+        execute("drop table if exists converted_price");
+        execute("create table converted_price (price decimal(10, 2))");
+        execute("insert into converted_price values (1.25)");
+        EuroPrice price = executeQuery("select * from converted_price", ResultSetMapperUtils.getMapper(EuroPrice.class, EuroPrice::new)).orElseThrow();
+        assertEquals(new BigDecimal("1.25"), price.price.amount);
+        assertEquals("EUR", price.price.currency);
+    }
+
+    @Test
+    void registry() {
+        ResultSetFieldValueByColumnIndexFunction<String> any = (rs, index) -> "any";
+        ResultSetFieldValueByColumnIndexFunction<String> varchar = (rs, index) -> "varchar";
+        ResultSetConverterRegistry registry = ResultSetConverterRegistry.empty().with(String.class, any).with(Types.VARCHAR, String.class, varchar);
+        assertSame(varchar, registry.get(Types.VARCHAR, String.class));
+        assertSame(any, registry.get(Types.CLOB, String.class));
+        assertSame(any, registry.get(String.class));
+        assertNull(registry.get(Types.VARCHAR, Integer.class));
+        assertEquals(0, ResultSetConverterRegistry.empty().size());
+    }
+}
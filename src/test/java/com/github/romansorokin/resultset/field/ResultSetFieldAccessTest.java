@@ -0,0 +1,87 @@
+package com.github.romansorokin.resultset.field;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetFieldAccessTest {
+    private static String staticName;
+
+    private String name;
+    private int count;
+    private double price;
+    private boolean active;
+    private final long total = 0;
+
+    private static Field getField(String fieldName) throws NoSuchFieldException {
+        return ResultSetFieldAccessTest.class.getDeclaredField(fieldName);
+    }
+
+    private static <V> void set(ResultSetFieldAccess access, Object entity, String fieldName, V value) throws NoSuchFieldException {
+        BiConsumer<Object, V> setter = access.getSetter(getField(fieldName));
+        setter.accept(entity, value);
+    }
+
+    @Test
+    void allAccess_privateField() throws NoSuchFieldException {
+        for (ResultSetFieldAccess access : ResultSetFieldAccess.values()) {
+            ResultSetFieldAccessTest entity = new ResultSetFieldAccessTest();
+            set(access, entity, "name", access.name());
+            assertEquals(access.name(), entity.name);
+        }
+    }
+
+    @Test
+    void allAccess_primitiveField() throws NoSuchFieldException {
+        for (ResultSetFieldAccess access : ResultSetFieldAccess.values()) {
+            ResultSetFieldAccessTest entity = new ResultSetFieldAccessTest();
+            set(access, entity, "count", access.ordinal() + 1);
+            assertEquals(access.ordinal() + 1, entity.count);
+        }
+    }
+
+    @Test
+    void allAccess_finalField() throws NoSuchFieldException, IllegalAccessException {
+        Field field = getField("total");
+        for (ResultSetFieldAccess access : ResultSetFieldAccess.values()) {
+            ResultSetFieldAccessTest entity = new ResultSetFieldAccessTest();
+            set(access, entity, "total", 10L + access.ordinal());
+            assertEquals(10L + access.ordinal(), field.getLong(entity));
+        }
+    }
+
+    @Test
+    void allAccess_staticField() throws NoSuchFieldException {
+        for (ResultSetFieldAccess access : ResultSetFieldAccess.values()) {
+            set(access, new ResultSetFieldAccessTest(), "staticName", access.name());
+            assertEquals(access.name(), staticName);
+        }
+    }
+
+    @Test
+    void allAccess_primitiveSetters() throws NoSuchFieldException {
+        for (ResultSetFieldAccess access : ResultSetFieldAccess.values()) {
+            ResultSetFieldAccessTest entity = new ResultSetFieldAccessTest();
+            access.<ResultSetFieldAccessTest>getIntSetter(getField("count")).set(entity, 7);
+            access.<ResultSetFieldAccessTest>getDoubleSetter(getField("price")).set(entity, 1.5);
+            access.<ResultSetFieldAccessTest>getBooleanSetter(getField("active")).set(entity, true);
+            assertEquals(7, entity.count);
+            assertEquals(1.5, entity.price);
+            assertTrue(entity.active);
+        }
+    }
+
+    @Test
+    void handleAccess_generatedSetters() throws NoSuchFieldException {
+        assertTrue(ResultSetFieldAccess.VAR_HANDLE.getSetter(getField("name")).getClass().isHidden());
+        assertTrue(ResultSetFieldAccess.METHOD_HANDLE.getIntSetter(getField("count")).getClass().isHidden());
+        assertTrue(ResultSetFieldAccess.VAR_HANDLE.getDoubleSetter(getField("price")).getClass().isHidden());
+        ResultSetFieldAccessTest entity = new ResultSetFieldAccessTest();
+        assertThrows(ClassCastException.class, () -> ResultSetFieldAccess.VAR_HANDLE.getSetter(getField("name")).accept(entity, 1));
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.romansorokin.resultset.field.enums;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetField;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import lombok.ToString;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetEnumMappingTest extends BaseTest {
+    enum Status {
+        NEW, ACTIVE, CLOSED, UNKNOWN
+    }
+
+    enum Priority implements ResultSetEnumCode {
+        LOW(10), MEDIUM(20), HIGH(30);
+
+        private final int code;
+
+        Priority(int code) {
+            this.code = code;
+        }
+
+        @Override
+        public int getCode() {
+            return code;
+        }
+    }
+
+    enum Region implements ResultSetEnumCode {
+        EU(1), US(1_000_000);
+
+        private final int code;
+
+        Region(int code) {
+            this.code = code;
+        }
+
+        @Override
+        public int getCode() {
+            return code;
+        }
+    }
+
+    @ToString
+    @ResultSetType(ignoreCase = true)
+    static class TestEntity {
+        @ResultSetField
+        Status name;
+        @ResultSetField(enumMapping = ResultSetEnumMapping.NAME_IGNORE_CASE, enumFallback = "UNKNOWN")
+        Status label;
+        @ResultSetField(enumMapping = ResultSetEnumMapping.ORDINAL)
+        Status ordinal;
+        @ResultSetField(enumMapping = ResultSetEnumMapping.CODE)
+        Priority priority;
+        @ResultSetField(enumMapping = ResultSetEnumMapping.CODE, enumFallback = "EU")
+        Region region;
+    }
+
+    private List<TestEntity> select(String values) throws SQLException {
+        execute("drop table if exists test_entity");
+        execute("create table if not exists test_entity (name varchar, label varchar, ordinal int, priority int, region int)");
+        execute("insert into test_entity values " + values);
+        ResultSetMapper<List<TestEntity>> mapper = ResultSetMapperUtils.getListMapper(ResultSetMapperUtils.getMapper(TestEntity.class, TestEntity::new));
+        return executeQuery("select * from test_entity", mapper).orElseThrow();
+    }
+
+    @Test
+    void decode() throws SQLException {
+        TestEntity entity = select("('ACTIVE', 'closed', 2, 20, 1000000)").get(0);
+        assertEquals(Status.ACTIVE, entity.name);
+        assertEquals(Status.CLOSED, entity.label);
+        assertEquals(Status.CLOSED, entity.ordinal);
+        assertEquals(Priority.MEDIUM, entity.priority);
+        assertEquals(Region.US, entity.region);
+    }
+
+    @Test
+    void decode_null() throws SQLException {
+        TestEntity entity = select("(null, null, null, null, null)").get(0);
+        assertNull(entity.name);
+        assertNull(entity.label);
+        assertNull(entity.ordinal);
+        assertNull(entity.priority);
+        assertNull(entity.region);
+    }
+
+    @Test
+    void decode_fallback() throws SQLException {
+        TestEntity entity = select("('NEW', 'removed', 0, 10, 7)").get(0);
+        assertEquals(Status.UNKNOWN, entity.label);
+        assertEquals(Region.EU, entity.region);
+    }
+
+    @Test
+    void decode_unknownValue() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> select("('REMOVED', null, null, null, null)"));
+        assertTrue(e.getMessage().startsWith("unknown value REMOVED of enum"), e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> select("(null, null, 9, null, null)"));
+        assertTrue(e.getMessage().startsWith("unknown value 9 of enum"), e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> select("(null, null, null, 15, null)"));
+        assertTrue(e.getMessage().startsWith("unknown value 15 of enum"), e.getMessage());
+    }
+
+    @Test
+    void getValueFunction_invalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> ResultSetEnumMapping.CODE.getValueFunction(Status.class, ""));
+        assertThrows(IllegalArgumentException.class, () -> ResultSetEnumMapping.NAME.getValueFunction(Status.class, "MISSING"));
+    }
+}
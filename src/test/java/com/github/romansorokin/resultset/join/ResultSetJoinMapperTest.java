@@ -0,0 +1,165 @@
+package com.github.romansorokin.resultset.join;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetChildren;
+import com.github.romansorokin.resultset.annotations.ResultSetId;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetJoinMapperTest extends BaseTest {
+    @ResultSetType(mapAllFields = true, ignoreCase = true)
+    static class Order {
+        @ResultSetId
+        long id;
+        String customer;
+        @ResultSetChildren(prefix = "item_")
+        List<Item> items;
+        @ResultSetChildren(prefix = "tag_")
+        Set<Tag> tags;
+    }
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true)
+    static class Item {
+        @ResultSetId
+        Integer id;
+        String name;
+        @ResultSetChildren(prefix = "part_")
+        List<Part> parts;
+    }
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true)
+    static class Part {
+        @ResultSetId
+        UUID id;
+        String name;
+    }
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true)
+    static class Tag {
+        @ResultSetId
+        String name;
+    }
+
+    @ResultSetType(mapAllFields = true)
+    static class NoId {
+        String name;
+    }
+
+    @ResultSetType(mapAllFields = true)
+    static class Cyclic {
+        @ResultSetId
+        long id;
+        @ResultSetChildren(prefix = "child_")
+        List<Cyclic> children;
+    }
+
+    @ResultSetType(mapAllFields = true)
+    static class EmptyPrefix {
+        @ResultSetId
+        long id;
+        @ResultSetChildren(prefix = "")
+        List<Tag> tags;
+    }
+
+    private void createTables() throws SQLException {
+        execute("drop table if exists join_part");
+        execute("drop table if exists join_item");
+        execute("drop table if exists join_tag");
+        execute("drop table if exists join_order");
+        execute("create table join_order (id bigint primary key, customer varchar)");
+        execute("create table join_item (id int primary key, order_id bigint, name varchar)");
+        execute("create table join_part (id uuid primary key, item_id int, name varchar)");
+        execute("create table join_tag (order_id bigint, name varchar)");
+        execute("insert into join_order values (1, 'first'), (2, 'second'), (3, 'empty')");
+        execute("insert into join_item values (10, 1, 'a'), (11, 1, 'b'), (20, 2, 'c')");
+        execute("insert into join_part values (random_uuid(), 10, 'x'), (random_uuid(), 10, 'y'), (random_uuid(), 20, 'z')");
+        execute("insert into join_tag values (1, 'red'), (1, 'blue'), (2, 'red')");
+    }
+
+    private List<Order> query(String sql) throws SQLException {
+        ResultSetJoinMapper<Order> mapper = ResultSetMapperUtils.getJoinMapper(Order.class, Order::new);
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery(sql);
+            return mapper.map(rs).orElseThrow();
+        }
+    }
+
+    @Test
+    void getJoinMapper() throws SQLException {
+        createTables();
+        List<Order> orders = query("select o.id, o.customer, i.id item_id, i.name item_name, p.id item_part_id, p.name item_part_name, t.name tag_name "
+                + "from join_order o left join join_item i on i.order_id = o.id left join join_part p on p.item_id = i.id "
+                + "left join join_tag t on t.order_id = o.id order by t.name, o.id desc, i.id, p.name");
+        assertEquals(List.of(3L, 1L, 2L), orders.stream().map(order -> order.id).toList());
+
+        Order first = orders.get(1);
+        assertEquals("first", first.customer);
+        assertEquals(List.of("a", "b"), first.items.stream().map(item -> item.name).sorted().toList());
+        Item a = first.items.stream().filter(item -> item.id == 10).findFirst().orElseThrow();
+        assertEquals(List.of("x", "y"), a.parts.stream().map(part -> part.name).sorted().toList());
+        assertTrue(first.items.stream().filter(item -> item.id == 11).findFirst().orElseThrow().parts.isEmpty());
+        assertEquals(Set.of("red", "blue"), first.tags.stream().map(tag -> tag.name).collect(Collectors.toSet()));
+
+        Order empty = orders.get(0);
+        assertEquals("empty", empty.customer);
+        assertTrue(empty.items.isEmpty());
+        assertTrue(empty.tags.isEmpty());
+    }
+
+    @Test
+    void getJoinMapper_emptyResultSet() throws SQLException {
+        createTables();
+        assertTrue(query("select o.id, o.customer, null item_id, null item_part_id, null tag_name from join_order o where o.id < 0").isEmpty());
+    }
+
+    @Test
+    void getJoinMapper_idColumnNotFound() throws SQLException {
+        createTables();
+        assertThrows(IllegalArgumentException.class, () -> query("select o.id, o.customer from join_order o"));
+    }
+
+    @Test
+    void getJoinMapper_invalidEntity() {
+        assertThrows(IllegalArgumentException.class, () -> ResultSetMapperUtils.getJoinMapper(NoId.class, NoId::new));
+        assertThrows(IllegalArgumentException.class, () -> ResultSetMapperUtils.getJoinMapper(Cyclic.class, Cyclic::new));
+        assertThrows(IllegalArgumentException.class, () -> ResultSetMapperUtils.getJoinMapper(EmptyPrefix.class, EmptyPrefix::new));
+    }
+
+    @Test
+    void getLayout_childIdIsParentId() {
+        ResultSetJoinNode<Object[]> parent = new ResultSetJoinNode<>(() -> new Object[1], Map.of(), "", "id", true, true);
+        ResultSetJoinNode<Object[]> child = new ResultSetJoinNode<>(() -> new Object[1], Map.of(), "", "id", true, true);
+        parent.addChildren(child, (entity, children) -> entity[0] = children, ArrayList::new);
+        assertThrows(IllegalArgumentException.class, () -> parent.getLayout(List.of("id", "name")));
+    }
+
+    @Test
+    void longKeyMap() {
+        ResultSetLongKeyMap<String> map = new ResultSetLongKeyMap<>(2);
+        for (long i = -500; i < 500; i++)
+            map.put(i * 31, Long.toString(i));
+        map.put(0, "zero");
+        assertEquals(1000, map.size());
+        assertEquals("zero", map.get(0));
+        assertEquals("-500", map.get(-500 * 31));
+        assertEquals("499", map.get(499 * 31));
+        assertNull(map.get(1));
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetField;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.column.ResultSetFieldToColumnNameCase;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultSetEmbeddedMappingTest extends BaseTest {
+    @ResultSetType(mapAllFields = true, ignoreCase = true, naming = ResultSetFieldToColumnNameCase.SNAKE)
+    static class Customer {
+        long id;
+        @ResultSetField(embedded = true)
+        Address homeAddress;
+        @ResultSetField(value = "billing_", embedded = true)
+        Address billing;
+    }
+
+    static class Address {
+        String city;
+        int floor;
+        @ResultSetField(embedded = true)
+        Geo geo;
+    }
+
+    static class Geo {
+        double lat;
+    }
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true, naming = ResultSetFieldToColumnNameCase.SNAKE)
+    record CustomerRecord(long id, @ResultSetField(embedded = true) Address homeAddress) {
+    }
+
+    @ResultSetType(mapAllFields = true)
+    static class SelfEmbedded {
+        @ResultSetField(embedded = true)
+        SelfEmbedded parent;
+    }
+
+    @ResultSetType(mapAllFields = true)
+    static class PrimitiveEmbedded {
+        @ResultSetField(embedded = true)
+        int value;
+    }
+
+    private void createTable() throws SQLException {
+        execute("drop table if exists embedded_customer");
+        execute("create table embedded_customer (id bigint, home_address_city varchar, home_address_floor int, home_address_geo_lat double, "
+                + "billing_city varchar, billing_floor int)");
+        execute("insert into embedded_customer values (1, 'Paris', 3, 48.85, 'Lyon', 1), (2, 'Rome', null, null, null, null)");
+    }
+
+    private <T> List<T> query(ResultSetMapper<T> mapper) throws SQLException {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select * from embedded_customer order by id");
+            return ResultSetMapperUtils.getListMapper(mapper).map(rs).orElseThrow();
+        }
+    }
+
+    @Test
+    void embedded() throws SQLException {
+        createTable();
+        List<Customer> customers = query(ResultSetMapperUtils.getMapper(Customer.class, Customer::new));
+        Customer first = customers.get(0);
+        assertEquals("Paris", first.homeAddress.city);
+        assertEquals(3, first.homeAddress.floor);
+        assertEquals(48.85, first.homeAddress.geo.lat);
+        assertEquals("Lyon", first.billing.city);
+        assertEquals(1, first.billing.floor);
+        assertNull(first.billing.geo);
+
+        Customer second = customers.get(1);
+        assertNotNull(second.homeAddress);
+        assertEquals("Rome", second.homeAddress.city);
+        assertEquals(0, second.homeAddress.floor);
+        assertNull(second.homeAddress.geo);
+        assertNull(second.billing);
+    }
+
+    @Test
+    void embedded_reusedEntity_nullColumnsWritten() throws SQLException {
+        createTable();
+        Customer customer = new Customer();
+        List<String> cities = new ArrayList<>();
+        List<Integer> floors = new ArrayList<>();
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select id, billing_city, billing_floor from embedded_customer order by id");
+            ResultSetMapperUtils.getMapper(Customer.class, () -> customer).forEachReusing(rs, c -> {
+                cities.add(c.billing.city);
+                floors.add(c.billing.floor);
+            });
+        }
+        assertEquals(Arrays.asList("Lyon", null), cities);
+        assertEquals(List.of(1, 0), floors);
+    }
+
+    @Test
+    void embedded_flattenedPlan() {
+        BaseResultSetMapper<Customer> mapper = (BaseResultSetMapper<Customer>) new BaseResultSetMapperFactory().getMapper(Customer.class, Customer::new);
+        ResultSetMapperPlan<Customer> plan = mapper.getPlan(List.of("ID", "HOME_ADDRESS_CITY", "HOME_ADDRESS_GEO_LAT", "BILLING_FLOOR", "OTHER"));
+        assertEquals(4, plan.getMappedColumnCount());
+    }
+
+    @Test
+    void embedded_record() throws SQLException {
+        createTable();
+        List<CustomerRecord> customers = query(ResultSetMapperUtils.getMapper(CustomerRecord.class));
+        assertEquals(1, customers.get(0).id());
+        assertEquals("Paris", customers.get(0).homeAddress().city);
+        assertEquals("Rome", customers.get(1).homeAddress().city);
+    }
+
+    @Test
+    void embedded_invalid() {
+        BaseResultSetMapperFactory factory = new BaseResultSetMapperFactory();
+        assertThrows(IllegalArgumentException.class, () -> factory.getMapper(SelfEmbedded.class, SelfEmbedded::new));
+        assertThrows(IllegalArgumentException.class, () -> factory.getMapper(PrimitiveEmbedded.class, PrimitiveEmbedded::new));
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetMapperCacheTest {
+    private static final List<String> COLUMN_NAMES = List.of("name");
+
+    @ResultSetType(mapAllFields = true)
+    static class FirstEntity {
+        String name;
+    }
+
+    @ResultSetType(mapAllFields = true)
+    static class SecondEntity {
+        String name;
+    }
+
+    @ResultSetType(mapAllFields = true)
+    record ThirdEntity(String name) {
+    }
+
+    @ResultSetType(mapAllFields = true)
+    static class FourthEntity {
+        String name;
+
+        FourthEntity() {
+        }
+
+        FourthEntity(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    void get_sameSupplier() {
+        ResultSetMapperCache cache = new ResultSetMapperCache();
+        Supplier<FirstEntity> supplier = FirstEntity::new;
+        ResultSetMapper<FirstEntity> mapper = cache.get(FirstEntity.class, supplier);
+        assertSame(mapper, cache.get(FirstEntity.class, supplier));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_otherSupplierSharesPlans() {
+        ResultSetMapperCache cache = new ResultSetMapperCache();
+        BaseResultSetMapper<FirstEntity> first = (BaseResultSetMapper<FirstEntity>) cache.get(FirstEntity.class, FirstEntity::new);
+        BaseResultSetMapper<FirstEntity> second = (BaseResultSetMapper<FirstEntity>) cache.get(FirstEntity.class, () -> new FirstEntity());
+        assertNotSame(first, second);
+        assertSame(first.getPlan(COLUMN_NAMES), second.getPlan(COLUMN_NAMES));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_constructorMapper() {
+        ResultSetMapperCache cache = new ResultSetMapperCache();
+        ResultSetMapper<ThirdEntity> mapper = cache.get(ThirdEntity.class);
+        assertSame(mapper, cache.get(ThirdEntity.class));
+        assertTrue(cache.contains(ThirdEntity.class));
+    }
+
+    @Test
+    void bounded_evictsEldest() {
+        ResultSetMapperCache cache = new ResultSetMapperCache(2);
+        cache.get(FirstEntity.class, FirstEntity::new);
+        cache.get(SecondEntity.class, SecondEntity::new);
+        cache.get(ThirdEntity.class);
+        assertEquals(2, cache.size());
+        assertFalse(cache.contains(FirstEntity.class));
+        assertTrue(cache.contains(SecondEntity.class));
+        assertTrue(cache.contains(ThirdEntity.class));
+    }
+
+    @Test
+    void bounded_entityOfBothMapsQueuedOnce() {
+        ResultSetMapperCache cache = new ResultSetMapperCache(3);
+        cache.get(FourthEntity.class, FourthEntity::new);
+        cache.get(FourthEntity.class);
+        cache.get(FirstEntity.class, FirstEntity::new);
+        cache.get(ThirdEntity.class);
+        assertFalse(cache.contains(FourthEntity.class));
+        cache.get(FourthEntity.class, FourthEntity::new);
+        cache.get(SecondEntity.class, SecondEntity::new);
+        assertFalse(cache.contains(FirstEntity.class));
+        assertTrue(cache.contains(FourthEntity.class));
+        assertTrue(cache.contains(SecondEntity.class));
+    }
+
+    @Test
+    void warmUp_otherSupplierNotRebuilt() {
+        ResultSetMapperCache cache = new ResultSetMapperCache();
+        cache.warmUp(FirstEntity.class);
+        BaseResultSetMapper<FirstEntity> warm = (BaseResultSetMapper<FirstEntity>) cache.get(FirstEntity.class, () -> new FirstEntity());
+        BaseResultSetMapper<FirstEntity> other = (BaseResultSetMapper<FirstEntity>) cache.get(FirstEntity.class, FirstEntity::new);
+        assertSame(warm.getPlan(COLUMN_NAMES), other.getPlan(COLUMN_NAMES));
+    }
+
+    @Test
+    void evict_classLoader() {
+        ResultSetMapperCache cache = new ResultSetMapperCache();
+        cache.get(FirstEntity.class, FirstEntity::new);
+        cache.evict(ClassLoader.getPlatformClassLoader());
+        assertEquals(1, cache.size());
+        cache.evict(FirstEntity.class.getClassLoader());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void warmUp() {
+        ResultSetMapperCache cache = new ResultSetMapperCache();
+        cache.warmUp(FirstEntity.class, SecondEntity.class, ThirdEntity.class);
+        assertEquals(3, cache.size());
+        assertTrue(cache.contains(FirstEntity.class));
+        assertTrue(cache.contains(SecondEntity.class));
+        assertTrue(cache.contains(ThirdEntity.class));
+    }
+}
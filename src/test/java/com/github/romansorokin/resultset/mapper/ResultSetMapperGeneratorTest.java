@@ -0,0 +1,164 @@
+package com.github.romansorokin.resultset.mapper;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetField;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.column.ResultSetFieldToColumnNameCase;
+import com.github.romansorokin.resultset.field.BaseResultSetFieldMapperFactory;
+import com.github.romansorokin.resultset.field.ResultSetFieldAccess;
+import com.github.romansorokin.resultset.field.ResultSetFieldMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetMapperGeneratorTest extends BaseTest {
+    private static final UUID CODE = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+    enum Status {NEW, DONE}
+
+    static class Address {
+        String city;
+    }
+
+    public static class UpperCaseFieldMapperFactory extends BaseResultSetFieldMapperFactory<Object> {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> ResultSetFieldMapper<Object> getFieldMapper(Field field, BiConsumer<Object, V> setter) {
+            return (entity, rs, index) -> {
+                String value = rs.getString(index);
+                setter.accept(entity, (V) (Objects.isNull(value) ? null : value.toUpperCase()));
+            };
+        }
+    }
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true, naming = ResultSetFieldToColumnNameCase.SNAKE)
+    static class Event {
+        private long id;
+        int count;
+        double price;
+        boolean active;
+        String name;
+        BigDecimal amount;
+        byte[] data;
+        UUID code;
+        Instant createdAt;
+        Integer quantity;
+        Status status;
+        @ResultSetField(factory = UpperCaseFieldMapperFactory.class)
+        String title;
+        @ResultSetField(embedded = true)
+        Address address;
+    }
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true, naming = ResultSetFieldToColumnNameCase.SNAKE, access = ResultSetFieldAccess.GENERATED)
+    static class GeneratedEvent extends Event {
+        private String note;
+    }
+
+    private void createTable() throws SQLException {
+        execute("drop table if exists generated_event");
+        execute("create table generated_event (id bigint, count int, price double, active boolean, name varchar, amount decimal(10, 2), data varbinary, "
+                + "code uuid, created_at bigint, quantity int, status varchar, title varchar, address_city varchar, note varchar)");
+        execute("insert into generated_event values (1, 3, 2.5, true, 'first', 12.50, X'0102', ?, 1700000000123, 7, 'DONE', 'title', 'Paris', 'note'), "
+                + "(2, null, null, null, null, null, null, null, null, null, null, null, null, null)", CODE);
+    }
+
+    private <T> List<T> query(String sql, ResultSetMapper<T> mapper) throws SQLException {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery(sql);
+            return ResultSetMapperUtils.getListMapper(mapper).map(rs).orElseThrow();
+        }
+    }
+
+    private boolean isGenerated(BaseResultSetMapper<?> mapper, String sql) throws SQLException {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            return mapper.getPlan(statement.executeQuery(sql)).isGenerated();
+        }
+    }
+
+    @Test
+    void generated() throws SQLException {
+        createTable();
+        String sql = "select * from generated_event order by id";
+        BaseResultSetMapper<GeneratedEvent> mapper = (BaseResultSetMapper<GeneratedEvent>) new BaseResultSetMapperFactory().getMapper(GeneratedEvent.class, GeneratedEvent::new);
+        List<GeneratedEvent> generated = query(sql, mapper);
+        List<Event> reflective = query(sql, ResultSetMapperUtils.getMapper(Event.class, Event::new));
+        assertTrue(isGenerated(mapper, sql));
+        assertEquals(2, generated.size());
+        for (int i = 0; i < generated.size(); i++)
+            assertEvent(reflective.get(i), generated.get(i));
+        GeneratedEvent first = generated.get(0);
+        assertEquals(1, ((Event) first).id);
+        assertEquals(CODE, first.code);
+        assertEquals(Instant.ofEpochMilli(1700000000123L), first.createdAt);
+        assertEquals(Status.DONE, first.status);
+        assertEquals("TITLE", first.title);
+        assertEquals("Paris", first.address.city);
+        assertEquals("note", first.note);
+        GeneratedEvent second = generated.get(1);
+        assertNull(second.quantity);
+        assertNull(second.address);
+        assertNull(second.note);
+    }
+
+    @Test
+    void layouts() throws SQLException {
+        createTable();
+        BaseResultSetMapper<GeneratedEvent> mapper = (BaseResultSetMapper<GeneratedEvent>) new BaseResultSetMapperFactory().getMapper(GeneratedEvent.class, GeneratedEvent::new);
+        GeneratedEvent reordered = query("select note, extra, name, id from (select *, 1 extra from generated_event) order by id", mapper).get(0);
+        assertEquals(1, ((Event) reordered).id);
+        assertEquals("first", reordered.name);
+        assertEquals("note", reordered.note);
+        assertEquals(0, reordered.count);
+        GeneratedEvent converted = query("select cast(id as varchar) name, cast(code as varchar) code from generated_event order by id", mapper).get(0);
+        assertEquals("1", converted.name);
+        assertEquals(CODE, converted.code);
+        assertFalse(isGenerated(mapper, "select 1 extra"));
+    }
+
+    @Test
+    void reusing() throws SQLException {
+        createTable();
+        ResultSetMapper<GeneratedEvent> mapper = ResultSetMapperUtils.getMapper(GeneratedEvent.class, GeneratedEvent::new);
+        List<Long> ids = new ArrayList<>();
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            long count = mapper.forEachReusing(statement.executeQuery("select * from generated_event order by id"), 1, event -> ids.add(((Event) event).id));
+            assertEquals(2, count);
+        }
+        assertEquals(List.of(1L, 2L), ids);
+    }
+
+    private static void assertEvent(Event expected, Event actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.count, actual.count);
+        assertEquals(expected.price, actual.price);
+        assertEquals(expected.active, actual.active);
+        assertEquals(expected.name, actual.name);
+        assertEquals(expected.amount, actual.amount);
+        assertArrayEquals(expected.data, actual.data);
+        assertEquals(expected.code, actual.code);
+        assertEquals(expected.createdAt, actual.createdAt);
+        assertEquals(expected.quantity, actual.quantity);
+        assertEquals(expected.status, actual.status);
+        assertEquals(expected.title, actual.title);
+        assertEquals(Objects.isNull(expected.address) ? null : expected.address.city, Objects.isNull(actual.address) ? null : actual.address.city);
+    }
+}
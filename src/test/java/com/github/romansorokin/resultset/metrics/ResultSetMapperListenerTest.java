@@ -0,0 +1,133 @@
+package com.github.romansorokin.resultset.metrics;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.mapper.BaseResultSetMapperFactory;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetMapperListenerTest extends BaseTest {
+    private static final int ROWS = 10;
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true)
+    static class MeteredEntity {
+        int id;
+        String name;
+    }
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true)
+    record MeteredRecord(int id, String name) {
+    }
+
+    static class RecordingListener implements ResultSetMapperListener {
+        final AtomicInteger built = new AtomicInteger();
+        final List<Integer> unmatched = new ArrayList<>();
+        final LongAdder rows = new LongAdder();
+        final Map<String, LongAdder> columns = new ConcurrentHashMap<>();
+
+        @Override
+        public void onMapperBuilt(Class<?> entity, long nanos) {
+            built.incrementAndGet();
+            assertTrue(nanos >= 0);
+        }
+
+        @Override
+        public void onLayout(Class<?> entity, List<String> columnNames, int unmatchedColumns) {
+            unmatched.add(unmatchedColumns);
+        }
+
+        @Override
+        public void onRowMapped(Class<?> entity, long nanos) {
+            rows.increment();
+        }
+
+        @Override
+        public void onColumnMapped(Class<?> entity, String columnName, long nanos) {
+            columns.computeIfAbsent(columnName, k -> new LongAdder()).increment();
+        }
+
+        @Override
+        public int getColumnSampleInterval() {
+            return 5;
+        }
+    }
+
+    @AfterEach
+    void resetListener() {
+        BaseResultSetMapperFactory.setListener(null);
+    }
+
+    private void createTable() throws SQLException {
+        execute("drop table if exists metered_entity");
+        execute("create table if not exists metered_entity (id int, name varchar, extra varchar)");
+        execute("insert into metered_entity select x, 'name-' || x, 'extra' from system_range(1, " + ROWS + ")");
+    }
+
+    private <T> List<T> mapAll(ResultSetMapper<T> mapper) throws SQLException {
+        List<T> result = new ArrayList<>();
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select id, name, extra from metered_entity order by id");
+            while (mapper.mapNext(rs, result::add)) {
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void listener_baseMapper() throws SQLException {
+        createTable();
+        RecordingListener listener = new RecordingListener();
+        BaseResultSetMapperFactory.setListener(listener);
+        ResultSetMapper<MeteredEntity> mapper = new BaseResultSetMapperFactory().getMapper(MeteredEntity.class, MeteredEntity::new);
+        List<MeteredEntity> entities = mapAll(mapper);
+        assertEquals(ROWS, entities.size());
+        assertEquals(1, listener.built.get());
+        assertEquals(List.of(1), listener.unmatched);
+        assertEquals(ROWS, listener.rows.sum());
+        assertEquals(ROWS / 5, listener.columns.get("ID").sum());
+        assertEquals(ROWS / 5, listener.columns.get("NAME").sum());
+        assertEquals(2, listener.columns.size());
+    }
+
+    @Test
+    void listener_constructorMapper() throws SQLException {
+        createTable();
+        RecordingListener listener = new RecordingListener();
+        BaseResultSetMapperFactory.setListener(listener);
+        List<MeteredRecord> records = mapAll(new BaseResultSetMapperFactory().getMapper(MeteredRecord.class));
+        assertEquals(new MeteredRecord(1, "name-1"), records.get(0));
+        assertEquals(1, listener.built.get());
+        assertEquals(List.of(1), listener.unmatched);
+        assertEquals(ROWS, listener.rows.sum());
+    }
+
+    @Test
+    void listener_builtBeforeIsNotInstrumented() throws SQLException {
+        createTable();
+        ResultSetMapper<MeteredEntity> mapper = new BaseResultSetMapperFactory().getMapper(MeteredEntity.class, MeteredEntity::new);
+        RecordingListener listener = new RecordingListener();
+        BaseResultSetMapperFactory.setListener(listener);
+        assertEquals(ROWS, mapAll(mapper).size());
+        assertEquals(0, listener.rows.sum());
+        assertTrue(listener.unmatched.isEmpty());
+
+        BaseResultSetMapperFactory.setListener(null);
+        assertSame(ResultSetMapperListener.NOOP, BaseResultSetMapperFactory.getListener());
+    }
+}
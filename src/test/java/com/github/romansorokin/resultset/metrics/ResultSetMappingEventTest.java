@@ -0,0 +1,93 @@
+package com.github.romansorokin.resultset.metrics;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.mapper.BaseResultSetMapperFactory;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ResultSetMappingEventTest extends BaseTest {
+    private static final int ROWS = 8;
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true)
+    static class BinaryEntity {
+        int id;
+        byte[] payload;
+    }
+
+    private void createTable() throws SQLException {
+        execute("drop table if exists binary_entity");
+        execute("create table if not exists binary_entity (id int, payload varbinary, extra varbinary)");
+        execute("insert into binary_entity select x, cast(repeat('ab', x) as varbinary), cast('unmapped' as varbinary) from system_range(1, " + ROWS + ")");
+    }
+
+    private List<RecordedEvent> record() throws SQLException, IOException {
+        Path file = Files.createTempFile("result-set-mapper", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ResultSetMapperBuildEvent.class);
+            recording.enable(ResultSetMappingEvent.class);
+            recording.start();
+            ResultSetMapper<BinaryEntity> mapper = new BaseResultSetMapperFactory().getMapper(BinaryEntity.class, BinaryEntity::new);
+            try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+                ResultSet rs = statement.executeQuery("select id, payload, extra from binary_entity order by id");
+                List<BinaryEntity> entities = ResultSetMapperUtils.getListMapper(mapper).map(rs).orElseThrow();
+                assertEquals(ROWS, entities.size());
+            }
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void events() throws SQLException, IOException {
+        createTable();
+        List<RecordedEvent> events = record();
+        List<RecordedEvent> builds = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.github.romansorokin.resultset.MapperBuild"))
+                .collect(Collectors.toList());
+        assertEquals(1, builds.size());
+        assertEquals(BinaryEntity.class.getName(), builds.get(0).getClass("entity").getName());
+        assertEquals(2, builds.get(0).getInt("fieldCount"));
+
+        List<RecordedEvent> mappings = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.github.romansorokin.resultset.Mapping"))
+                .collect(Collectors.toList());
+        assertEquals(1, mappings.size());
+        RecordedEvent mapping = mappings.get(0);
+        assertEquals(BinaryEntity.class.getName(), mapping.getClass("entity").getName());
+        assertEquals(ROWS, mapping.getLong("rowCount"));
+        assertEquals(3, mapping.getInt("columnCount"));
+        assertEquals(1, mapping.getInt("unmatchedColumnCount"));
+        assertEquals(ROWS * (ROWS + 1), mapping.getLong("binaryBytes"));
+    }
+
+    @Test
+    void disabled() throws SQLException {
+        assertFalse(ResultSetMappingRecorder.isEnabled());
+        createTable();
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select id from binary_entity");
+            assertFalse(ResultSetMappingRecorder.begin(rs, ResultSetMapperUtils.HASH_MAP_MAPPER).isRecording());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.romansorokin.resultset.pipeline;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.column.ResultSetFieldToColumnNameCase;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetPipelineMapperTest extends BaseTest {
+    private static final int ROWS = 2000;
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    static class Item {
+        int id;
+        String name;
+        BigDecimal amount;
+    }
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        execute("drop table if exists pipeline_item");
+        execute("create table pipeline_item (id int, name varchar, amount decimal(10, 2))");
+        execute("insert into pipeline_item select x, 'item-' || x, x * 0.5 from system_range(1, " + ROWS + ")");
+    }
+
+    private <T> T query(ResultSetMapper<T> mapper) throws SQLException {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select * from pipeline_item order by id");
+            return mapper.map(rs).orElseThrow();
+        }
+    }
+
+    @Test
+    void ordered() throws SQLException {
+        ResultSetMapper<Item> mapper = ResultSetMapperUtils.getMapper(Item.class, Item::new);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ResultSetMapper<Item> tracking = (rs, sink) -> mapper.mapNext(rs, item -> {
+            threads.add(Thread.currentThread().getName());
+            sink.accept(item);
+        });
+        try (ResultSetPipelineMapper<Item> pipeline = new ResultSetPipelineMapper<>(tracking, 4, 16, 6, true)) {
+            for (int pass = 0; pass < 2; pass++) {
+                List<Item> items = query(pipeline);
+                assertEquals(ROWS, items.size());
+                for (int i = 0; i < ROWS; i++) {
+                    assertEquals(i + 1, items.get(i).id);
+                    assertEquals("item-" + (i + 1), items.get(i).name);
+                    assertEquals(new BigDecimal(i + 1).multiply(new BigDecimal("0.50")), items.get(i).amount);
+                }
+            }
+        }
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("result-set-pipeline-")));
+    }
+
+    @Test
+    void unordered() throws SQLException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try (ResultSetPipelineMapper<Item> pipeline = new ResultSetPipelineMapper<>(ResultSetMapperUtils.getMapper(Item.class, Item::new), executor, 3, 7, 2, false)) {
+            List<Item> items = new ArrayList<>();
+            try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+                assertEquals(ROWS, pipeline.forEach(statement.executeQuery("select * from pipeline_item"), items::add));
+            }
+            items.sort(Comparator.comparingInt(item -> item.id));
+            for (int i = 0; i < ROWS; i++)
+                assertEquals(i + 1, items.get(i).id);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true, naming = ResultSetFieldToColumnNameCase.SNAKE)
+    static class Event {
+        int id;
+        Instant createdAt;
+        LocalDate eventDay;
+        Timestamp updatedAt;
+    }
+
+    @Test
+    void dates_convertedOnWorkers() throws SQLException {
+        execute("drop table if exists pipeline_event");
+        execute("create table pipeline_event (id int, created_at timestamp, event_day date, updated_at timestamp)");
+        execute("insert into pipeline_event select x, timestamp '2024-01-01 00:00:00' + x * interval '1' minute, dateadd(day, x, date '2024-01-01'), "
+                + "case when mod(x, 3) = 0 then null else timestamp '2024-06-01 12:00:00.123' + x * interval '1' second end from system_range(1, 100)");
+        ResultSetMapper<Event> mapper = ResultSetMapperUtils.getMapper(Event.class, Event::new);
+        String sql = "select * from pipeline_event order by id";
+        List<Event> expected;
+        List<Event> actual;
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            expected = ResultSetMapperUtils.getListMapper(mapper).map(statement.executeQuery(sql)).orElseThrow();
+        }
+        try (ResultSetPipelineMapper<Event> pipeline = new ResultSetPipelineMapper<>(mapper, 2, 8, 4, true);
+             Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            actual = pipeline.map(statement.executeQuery(sql)).orElseThrow();
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).createdAt, actual.get(i).createdAt);
+            assertEquals(expected.get(i).eventDay, actual.get(i).eventDay);
+            assertEquals(expected.get(i).updatedAt, actual.get(i).updatedAt);
+        }
+    }
+
+    @Test
+    void empty() throws SQLException {
+        try (ResultSetPipelineMapper<Item> pipeline = ResultSetMapperUtils.getPipelineMapper(ResultSetMapperUtils.getMapper(Item.class, Item::new), 2)) {
+            try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+                assertEquals(0, pipeline.forEach(statement.executeQuery("select * from pipeline_item where id < 0"), item -> {
+                }));
+            }
+        }
+    }
+
+    @Test
+    void workerError() {
+        ResultSetMapper<Item> failing = (rs, sink) -> {
+            if (!rs.next())
+                return false;
+            if (rs.getInt(1) == 1000)
+                throw new SQLException("mapping failed");
+            return true;
+        };
+        try (ResultSetPipelineMapper<Item> pipeline = new ResultSetPipelineMapper<>(failing, 2)) {
+            SQLException e = assertThrows(SQLException.class, () -> query(pipeline));
+            assertEquals("mapping failed", e.getMessage());
+        }
+    }
+
+    @Test
+    void illegalArguments() {
+        ResultSetMapper<Item> mapper = ResultSetMapperUtils.getMapper(Item.class, Item::new);
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetPipelineMapper<>(mapper, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetPipelineMapper<>(mapper, 1, 0, 1, true));
+        assertThrows(IllegalArgumentException.class, () -> new ResultSetPipelineMapper<>(mapper, 1, 1, 0, true));
+    }
+}
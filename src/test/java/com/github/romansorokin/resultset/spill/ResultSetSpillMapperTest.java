@@ -0,0 +1,137 @@
+package com.github.romansorokin.resultset.spill;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.column.ResultSetFieldToColumnNameCase;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetSpillMapperTest extends BaseTest {
+    private static final int ROWS = 3000;
+
+    @ResultSetType(mapAllFields = true, ignoreCase = true, naming = ResultSetFieldToColumnNameCase.SNAKE)
+    static class Row {
+        int id;
+        Long total;
+        String name;
+        double ratio;
+        BigDecimal amount;
+        boolean active;
+        Timestamp createdAt;
+        Instant updatedAt;
+        UUID uid;
+        byte[] payload;
+    }
+
+    private void createTable() throws SQLException {
+        execute("drop table if exists spill_row");
+        execute("create table spill_row (id int, total bigint, name varchar, ratio double, amount decimal(12, 2), active boolean, "
+                + "created_at timestamp, updated_at timestamp, uid uuid, payload varbinary)");
+        execute("insert into spill_row select x, case when mod(x, 7) = 0 then null else x * 1000 end, 'name-' || x, x / 3.0, x * 1.25, "
+                + "mod(x, 2) = 0, timestamp '2024-01-01 00:00:00' + x * interval '1' second, "
+                + "timestamp '2024-06-01 12:00:00' + x * interval '1' minute, random_uuid(), "
+                + "case when mod(x, 5) = 0 then null else cast(x as varbinary) end from system_range(1, " + ROWS + ")");
+    }
+
+    private <T> T query(ResultSetMapper<T> mapper) throws SQLException {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select * from spill_row order by id");
+            return mapper.map(rs).orElseThrow();
+        }
+    }
+
+    @Test
+    void spill(@TempDir Path directory) throws SQLException, IOException {
+        createTable();
+        ResultSetMapper<Row> mapper = ResultSetMapperUtils.getMapper(Row.class, Row::new);
+        List<Row> expected = query(ResultSetMapperUtils.getListMapper(mapper));
+        try (ResultSetSpillList<Row> rows = query(ResultSetMapperUtils.getSpillMapper(mapper, 16 * 1024, directory))) {
+            assertEquals(ROWS, rows.size());
+            assertTrue(rows.getSpilledRowCount() > 0);
+            assertTrue(rows.getSpilledRowCount() < ROWS);
+            for (int pass = 0; pass < 2; pass++) {
+                List<Row> actual = new ArrayList<>(rows);
+                assertEquals(ROWS, actual.size());
+                for (int i = 0; i < ROWS; i++)
+                    assertRow(expected.get(i), actual.get(i));
+            }
+        }
+        assertEquals(0, count(directory));
+    }
+
+    @Test
+    void inMemory(@TempDir Path directory) throws SQLException, IOException {
+        createTable();
+        ResultSetMapper<Row> mapper = ResultSetMapperUtils.getMapper(Row.class, Row::new);
+        try (ResultSetSpillList<Row> rows = query(ResultSetMapperUtils.getSpillMapper(mapper, Long.MAX_VALUE, directory))) {
+            assertEquals(ROWS, rows.size());
+            assertEquals(0, rows.getSpilledRowCount());
+            assertEquals(0, count(directory));
+        }
+    }
+
+    @Test
+    void closed(@TempDir Path directory) throws SQLException {
+        createTable();
+        ResultSetSpillList<Row> rows = query(ResultSetMapperUtils.getSpillMapper(ResultSetMapperUtils.getMapper(Row.class, Row::new), 0, directory));
+        assertEquals(ROWS, rows.getSpilledRowCount());
+        rows.close();
+        assertThrows(IllegalStateException.class, rows::iterator);
+    }
+
+    @Test
+    void arrayColumn_rejected(@TempDir Path directory) throws SQLException {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select array[1, 2] as items");
+            ResultSetMapper<ResultSetSpillList<Map<String, Object>>> mapper = ResultSetMapperUtils.getSpillMapper(ResultSetMapperUtils.HASH_MAP_MAPPER, 0, directory);
+            assertThrows(IllegalArgumentException.class, () -> mapper.map(rs));
+        }
+    }
+
+    @Test
+    void negativeBudget() {
+        assertThrows(IllegalArgumentException.class, () -> ResultSetMapperUtils.getSpillMapper(ResultSetMapperUtils.HASH_MAP_MAPPER, -1));
+    }
+
+    private static long count(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static void assertRow(Row expected, Row actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.total, actual.total);
+        assertEquals(expected.name, actual.name);
+        assertEquals(expected.ratio, actual.ratio);
+        assertEquals(expected.amount, actual.amount);
+        assertEquals(expected.active, actual.active);
+        assertEquals(expected.createdAt, actual.createdAt);
+        assertEquals(expected.updatedAt, actual.updatedAt);
+        assertEquals(expected.uid, actual.uid);
+        assertArrayEquals(expected.payload, actual.payload);
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.romansorokin.resultset.stream;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.exceptions.ResultSetMapperRuntimeException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetPartitionedScanTest extends BaseTest {
+    private static final int ROWS = 5000;
+    private static final String RANGE_SQL = "select * from scanned_row where id >= ? and id < ? order by id";
+    private static final String MODULO_SQL = "select * from scanned_row where mod(id, ?) = ? order by id";
+
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    static class ScannedRow {
+        long id;
+        String name;
+    }
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        execute("drop table if exists scanned_row");
+        execute("create table scanned_row (id bigint primary key, name varchar)");
+        execute("insert into scanned_row select x, 'row-' || x from system_range(1, " + ROWS + ")");
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:file:./store/result-set-mapper");
+    }
+
+    private static long[] ids(List<ScannedRow> rows) {
+        return rows.stream().mapToLong(row -> row.id).toArray();
+    }
+
+    @Test
+    void orderedRanges() {
+        ResultSetPartitionedScan<ScannedRow> scan = ResultSetMapperUtils.getPartitionedScan(dataSource, RANGE_SQL,
+                ResultSetPartitioning.ranges(1, ROWS + 1, 4), ScannedRow.class, ScannedRow::new);
+        List<ScannedRow> rows = scan.toList(true);
+        assertArrayEquals(LongStream.rangeClosed(1, ROWS).toArray(), ids(rows));
+        assertEquals("row-1", rows.get(0).name);
+    }
+
+    @Test
+    void unorderedModulo() {
+        ResultSetPartitionedScan<ScannedRow> scan = new ResultSetPartitionedScan<>(dataSource, MODULO_SQL, ResultSetPartitioning.modulo(3),
+                ResultSetMapperUtils.getMapper(ScannedRow.class, ScannedRow::new));
+        long[] ids = ids(scan.toList(false));
+        Arrays.sort(ids);
+        assertArrayEquals(LongStream.rangeClosed(1, ROWS).toArray(), ids);
+    }
+
+    @Test
+    void unorderedModulo_negativeKeys() throws SQLException {
+        execute("insert into scanned_row select -x, 'row-' || -x from system_range(1, 100)");
+        ResultSetPartitionedScan<ScannedRow> scan = new ResultSetPartitionedScan<>(dataSource, "select * from scanned_row where mod(abs(id), ?) = ?",
+                ResultSetPartitioning.modulo(3), ResultSetMapperUtils.getMapper(ScannedRow.class, ScannedRow::new));
+        assertEquals(ROWS + 100, scan.toList(false).size());
+    }
+
+    @Test
+    void threadsAndBuffers() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ResultSetPartitionedScan<Long> scan = new ResultSetPartitionedScan<>(dataSource, MODULO_SQL, ResultSetPartitioning.modulo(4),
+                    (rs, sink) -> {
+                        if (!rs.next())
+                            return false;
+                        threads.add(Thread.currentThread().getName());
+                        sink.accept(rs.getLong("id"));
+                        return true;
+                    }, executor, 8);
+            try (Stream<Long> stream = scan.stream(true)) {
+                List<Long> ids = stream.collect(Collectors.toList());
+                assertEquals(ROWS, ids.size());
+                assertEquals(4L, ids.get(0));
+                assertEquals(1L, ids.get(ROWS / 4));
+            }
+            assertEquals(4, threads.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void earlyClose() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ResultSetPartitionedScan<ScannedRow> scan = new ResultSetPartitionedScan<>(dataSource, RANGE_SQL, ResultSetPartitioning.ranges(1, ROWS + 1, 4),
+                    ResultSetMapperUtils.getMapper(ScannedRow.class, ScannedRow::new), executor, 2);
+            try (Stream<ScannedRow> stream = scan.stream(true)) {
+                assertEquals(List.of(1L, 2L, 3L), stream.limit(3).map(row -> row.id).collect(Collectors.toList()));
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void error() {
+        ResultSetPartitionedScan<ScannedRow> scan = ResultSetMapperUtils.getPartitionedScan(dataSource, "select * from missing_table where id >= ? and id < ?",
+                ResultSetPartitioning.ranges(0, 10, 2), ScannedRow.class, ScannedRow::new);
+        ResultSetMapperRuntimeException e = assertThrows(ResultSetMapperRuntimeException.class, () -> scan.toList(false));
+        assertInstanceOf(SQLException.class, e.getCause());
+    }
+
+    @Test
+    void partitioning() {
+        List<Object[]> ranges = ResultSetPartitioning.ranges(0, 10, 3).getParameters();
+        assertEquals(3, ranges.size());
+        assertArrayEquals(new Object[]{0L, 4L}, ranges.get(0));
+        assertArrayEquals(new Object[]{4L, 7L}, ranges.get(1));
+        assertArrayEquals(new Object[]{7L, 10L}, ranges.get(2));
+        assertEquals(2, ResultSetPartitioning.ranges(0, 2, 5).getParameters().size());
+        assertArrayEquals(new Object[]{4, 3}, ResultSetPartitioning.modulo(4).getParameters().get(3));
+        assertThrows(IllegalArgumentException.class, () -> ResultSetPartitioning.ranges(5, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> ResultSetPartitioning.modulo(0));
+    }
+}
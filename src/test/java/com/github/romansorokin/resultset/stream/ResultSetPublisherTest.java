@@ -0,0 +1,133 @@
+package com.github.romansorokin.resultset.stream;
+
+import com.github.romansorokin.resultset.BaseTest;
+import com.github.romansorokin.resultset.ResultSetMapperUtils;
+import com.github.romansorokin.resultset.annotations.ResultSetType;
+import com.github.romansorokin.resultset.mapper.ResultSetMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultSetPublisherTest extends BaseTest {
+    @ResultSetType(ignoreCase = true, mapAllFields = true)
+    record Item(String name, int count) {
+    }
+
+    private static final ResultSetMapper<Item> MAPPER = ResultSetMapperUtils.getMapper(Item.class);
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        execute("drop table if exists published_item");
+        execute("create table published_item (name varchar, count int)");
+        execute("insert into published_item select 'item-' || x, x from system_range(1, 100)");
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<Item> {
+        private final List<Item> items = new CopyOnWriteArrayList<>();
+        private final BlockingQueue<Item> received = new LinkedBlockingQueue<>();
+        private final CompletableFuture<Void> completed = new CompletableFuture<>();
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Item item) {
+            items.add(item);
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.complete(null);
+        }
+
+        private Item take() throws InterruptedException {
+            return received.poll(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void backpressure() throws Exception {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select * from published_item order by count");
+            TestSubscriber subscriber = new TestSubscriber();
+            ResultSetMapperUtils.publisher(rs, MAPPER).subscribe(subscriber);
+            subscriber.subscription.request(2);
+            assertEquals(1, subscriber.take().count());
+            assertEquals(2, subscriber.take().count());
+            assertNull(subscriber.received.poll(100, TimeUnit.MILLISECONDS));
+            assertEquals(2, subscriber.items.size());
+            subscriber.subscription.request(Long.MAX_VALUE);
+            subscriber.subscription.request(Long.MAX_VALUE);
+            subscriber.completed.get(10, TimeUnit.SECONDS);
+            assertEquals(100, subscriber.items.size());
+            assertEquals(5050, subscriber.items.stream().mapToInt(Item::count).sum());
+            assertTrue(rs.isClosed());
+        }
+    }
+
+    @Test
+    void cancel() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select * from published_item order by count");
+            TestSubscriber subscriber = new TestSubscriber();
+            ResultSetMapperUtils.publisher(rs, MAPPER, executor).subscribe(subscriber);
+            subscriber.subscription.request(3);
+            for (int i = 0; i < 3; i++)
+                subscriber.take();
+            subscriber.subscription.cancel();
+            executor.submit(() -> null).get(10, TimeUnit.SECONDS);
+            assertTrue(rs.isClosed());
+            assertFalse(subscriber.completed.isDone());
+            assertEquals(3, subscriber.items.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidRequest() throws Exception {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            ResultSet rs = statement.executeQuery("select * from published_item");
+            TestSubscriber subscriber = new TestSubscriber();
+            Flow.Publisher<Item> publisher = ResultSetMapperUtils.publisher(rs, MAPPER);
+            publisher.subscribe(subscriber);
+            subscriber.subscription.request(0);
+            Throwable error = subscriber.completed.handle((value, e) -> e).get(10, TimeUnit.SECONDS);
+            assertInstanceOf(IllegalArgumentException.class, error);
+            assertTrue(rs.isClosed());
+
+            TestSubscriber second = new TestSubscriber();
+            publisher.subscribe(second);
+            assertInstanceOf(IllegalStateException.class, second.completed.handle((value, e) -> e).get(10, TimeUnit.SECONDS));
+        }
+    }
+}